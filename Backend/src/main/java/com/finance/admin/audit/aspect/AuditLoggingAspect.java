@@ -2,6 +2,7 @@ package com.finance.admin.audit.aspect;
 
 import com.finance.admin.audit.annotation.Audited;
 import com.finance.admin.audit.entity.AuditLog;
+import com.finance.admin.audit.service.AuditLogWriter;
 import com.finance.admin.audit.service.AuditService;
 import com.finance.admin.auth.security.AdminUserPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +13,7 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -27,10 +29,17 @@ import java.util.UUID;
 public class AuditLoggingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(AuditLoggingAspect.class);
+    private static final int MAX_PARAMETERS_LENGTH = 255;
 
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Value("${app.audit.async.enabled:true}")
+    private boolean asyncEnabled = true;
+
     @Around("@annotation(audited)")
     public Object logAuditEvent(ProceedingJoinPoint joinPoint, Audited audited) throws Throwable {
         LocalDateTime startTime = LocalDateTime.now();
@@ -79,18 +88,30 @@ public class AuditLoggingAspect {
             auditLog.setUserAgent(userAgent);
             auditLog.setSessionId(sessionId);
             auditLog.setMethodName(joinPoint.getSignature().getName());
-            auditLog.setParameters(Arrays.toString(joinPoint.getArgs()));
+            auditLog.setParameters(formatParameters(joinPoint.getArgs()));
             auditLog.setStartTime(startTime);
             auditLog.setEndTime(LocalDateTime.now());
             auditLog.setStatus(exception == null ? "SUCCESS" : "FAILURE");
             auditLog.setErrorMessage(exception != null ? exception.getMessage() : null);
+            auditLog.setCreatedAt(LocalDateTime.now());
+            auditLog.setCreatedBy(userPrincipal != null ? userPrincipal.getUsername() : "SYSTEM");
 
-            auditService.saveAuditLog(auditLog);
+            if (asyncEnabled) {
+                // Written in batches off the request thread, independent of the caller's transaction
+                auditLogWriter.submit(auditLog);
+            } else {
+                auditService.saveAuditLog(auditLog);
+            }
         } catch (Exception e) {
             logger.error("Failed to record audit log", e);
         }
     }
 
+    private String formatParameters(Object[] args) {
+        String parameters = Arrays.toString(args);
+        return parameters.length() > MAX_PARAMETERS_LENGTH ? parameters.substring(0, MAX_PARAMETERS_LENGTH) : parameters;
+    }
+
     private UUID extractEntityId(Object result) {
         if (result == null) {
             return null;
@@ -1,6 +1,7 @@
 package com.finance.admin.audit.controller;
 
 import com.finance.admin.audit.entity.AuditLog;
+import com.finance.admin.audit.service.AuditLogExporter;
 import com.finance.admin.audit.service.AuditService;
 import com.finance.admin.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,9 +11,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -65,6 +69,30 @@ public class AuditController {
         return ResponseEntity.ok(ApiResponse.success("Audit logs exported successfully", auditLogs));
     }
 
+    @GetMapping("/export/stream")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'COMPLIANCE_OFFICER')")
+    @Operation(summary = "Stream audit logs as CSV or NDJSON",
+               description = "Writes matching audit logs straight to the response; suitable for large date ranges")
+    public ResponseEntity<StreamingResponseBody> streamAuditLogs(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String userType,
+            @RequestParam(required = false) String actionType,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        AuditLogExporter.Format exportFormat = AuditLogExporter.Format.from(format);
+        StreamingResponseBody body = outputStream -> auditService.streamAuditLogs(
+                userId, userType, actionType, entityType, startDate, endDate, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"audit-logs." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/user/{userId}/history")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'SYSTEM_ADMIN', 'COMPLIANCE_OFFICER')")
     @Operation(summary = "Get user action history")
@@ -0,0 +1,223 @@
+package com.finance.admin.audit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.admin.common.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Streams filtered audit logs to an output stream as CSV or NDJSON.
+ * Rows are read in pages ordered by (start_time, id), each page starting after the last row
+ * of the previous one, and written out as they arrive. Memory use is bounded by the page size
+ * no matter how many rows the export covers.
+ */
+@Component
+public class AuditLogExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogExporter.class);
+
+    private static final String[] COLUMNS = {
+        "id", "start_time", "end_time", "user_id", "user_type", "action_type", "entity_type", "entity_id",
+        "status", "ip_address", "user_agent", "session_id", "method_name", "parameters", "error_message",
+        "old_values", "new_values"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.audit.export.page-size:1000}")
+    private int pageSize = 1000;
+
+    public AuditLogExporter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String fileExtension;
+
+        Format(String contentType, String fileExtension) {
+            this.contentType = contentType;
+            this.fileExtension = fileExtension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getFileExtension() {
+            return fileExtension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new ValidationException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    /**
+     * Write all audit logs matching the filters to the output stream
+     *
+     * @return Number of audit logs written
+     */
+    public long export(UUID userId, String userType, String actionType, String entityType,
+                       LocalDateTime startDate, LocalDateTime endDate, Format format, OutputStream outputStream) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        List<Object> filterParams = new ArrayList<>();
+        if (userId != null) {
+            where.append(" AND user_id = ?");
+            filterParams.add(userId);
+        }
+        if (userType != null) {
+            where.append(" AND user_type = ?");
+            filterParams.add(userType);
+        }
+        if (actionType != null) {
+            where.append(" AND action_type = ?");
+            filterParams.add(actionType);
+        }
+        if (entityType != null) {
+            where.append(" AND entity_type = ?");
+            filterParams.add(entityType);
+        }
+        if (startDate != null) {
+            where.append(" AND start_time >= ?");
+            filterParams.add(Timestamp.valueOf(startDate));
+        }
+        if (endDate != null) {
+            where.append(" AND end_time <= ? AND start_time <= ?");
+            filterParams.add(Timestamp.valueOf(endDate));
+            filterParams.add(Timestamp.valueOf(endDate));
+        }
+
+        String select = "SELECT " + String.join(", ", COLUMNS) + " FROM audit_logs" + where;
+        String firstPage = select + " ORDER BY start_time, id LIMIT ?";
+        String nextPage = select + " AND (start_time > ? OR (start_time = ? AND id > ?)) ORDER BY start_time, id LIMIT ?";
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                writeCsvRow(writer, COLUMNS);
+            }
+
+            long written = 0;
+            Timestamp lastStartTime = null;
+            Object lastId = null;
+            while (true) {
+                List<Object> params = new ArrayList<>(filterParams);
+                if (lastId != null) {
+                    params.add(lastStartTime);
+                    params.add(lastStartTime);
+                    params.add(lastId);
+                }
+                params.add(pageSize);
+
+                List<Object[]> rows = jdbcTemplate.query(lastId == null ? firstPage : nextPage,
+                    (rs, rowNum) -> readRow(rs), params.toArray());
+                for (Object[] row : rows) {
+                    writeRow(writer, row, format);
+                }
+                written += rows.size();
+                writer.flush();
+
+                if (rows.size() < pageSize) {
+                    logger.info("Exported {} audit logs as {}", written, format);
+                    return written;
+                }
+                Object[] last = rows.get(rows.size() - 1);
+                lastId = last[0];
+                lastStartTime = (Timestamp) last[1];
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write audit log export", e);
+        }
+    }
+
+    // Helper methods
+
+    private Object[] readRow(ResultSet rs) throws SQLException {
+        Object[] row = new Object[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            row[i] = rs.getObject(i + 1);
+        }
+        // Keyset comparisons need the exact stored timestamp
+        row[1] = rs.getTimestamp(2);
+        row[2] = rs.getTimestamp(3);
+        return row;
+    }
+
+    private void writeRow(Writer writer, Object[] row, Format format) throws IOException {
+        String[] values = new String[row.length];
+        for (int i = 0; i < row.length; i++) {
+            Object value = row[i];
+            if (value instanceof Timestamp timestamp) {
+                values[i] = timestamp.toLocalDateTime().toString();
+            } else {
+                values[i] = value != null ? value.toString() : null;
+            }
+        }
+
+        if (format == Format.CSV) {
+            writeCsvRow(writer, values);
+        } else {
+            Map<String, String> json = new LinkedHashMap<>();
+            for (int i = 0; i < COLUMNS.length; i++) {
+                json.put(COLUMNS[i], values[i]);
+            }
+            writer.write(objectMapper.writeValueAsString(json));
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        // Spreadsheets evaluate cells starting with these as formulas, so they are forced to text
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
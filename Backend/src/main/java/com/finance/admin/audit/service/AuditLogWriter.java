@@ -0,0 +1,254 @@
+package com.finance.admin.audit.service;
+
+import com.finance.admin.audit.entity.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind buffer for audit logs.
+ * Audited calls only enqueue their log entry; a scheduled writer drains the buffer and inserts
+ * the entries with JDBC batches, outside the caller's thread and transaction. The buffer is
+ * bounded: when it is full the caller writes its own entry synchronously, which slows the
+ * producers down instead of dropping audit records. Remaining entries are written on shutdown.
+ * <p>
+ * When the database is unreachable a failed batch is kept whole for the next flush. Any other
+ * batch failure is retried row by row, so one bad entry cannot hold back the rest; an entry that
+ * still fails after {@code max-attempts} flushes is logged in full and dropped.
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO audit_logs (id, created_at, created_by, updated_at, updated_by, version, user_id, user_type, " +
+        "action_type, entity_type, entity_id, old_values, new_values, ip_address, user_agent, session_id, " +
+        "method_name, parameters, start_time, end_time, status, error_message) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Column lengths of audit_logs, see AuditLog
+    private static final int DEFAULT_LENGTH = 255;
+    private static final int NAME_LENGTH = 100;
+    private static final int IP_ADDRESS_LENGTH = 45;
+    private static final int STATUS_LENGTH = 20;
+    private static final int USER_TYPE_LENGTH = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Queue<AuditLog> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedCount = new AtomicInteger();
+
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+
+    // Rejected write attempts per audit log ID, only for entries that have failed at least once
+    private final Map<UUID, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    @Value("${app.audit.async.buffer-capacity:10000}")
+    private int bufferCapacity = 10000;
+
+    @Value("${app.audit.async.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${app.audit.async.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writtenCounter = meterRegistry.counter("audit.logs.written");
+        this.overflowCounter = meterRegistry.counter("audit.logs.buffer.overflow");
+        this.failedCounter = meterRegistry.counter("audit.logs.write.failed");
+        meterRegistry.gauge("audit.logs.buffer.size", bufferedCount);
+    }
+
+    /**
+     * Queue an audit log for writing
+     *
+     * @param auditLog Fully populated audit log
+     */
+    public void submit(AuditLog auditLog) {
+        if (auditLog.getId() == null) {
+            auditLog.setId(UUID.randomUUID());
+        }
+        if (auditLog.getCreatedAt() == null) {
+            auditLog.setCreatedAt(LocalDateTime.now());
+        }
+
+        if (bufferedCount.incrementAndGet() > bufferCapacity) {
+            bufferedCount.decrementAndGet();
+            overflowCounter.increment();
+            // Buffer full: the caller pays for its own insert rather than losing the record
+            try {
+                writeBatch(List.of(auditLog));
+            } catch (Exception e) {
+                failedCounter.increment();
+                logger.error("Failed to write audit log for {} {}", auditLog.getActionType(), auditLog.getEntityType(), e);
+            }
+            return;
+        }
+        buffer.offer(auditLog);
+    }
+
+    /**
+     * Write all buffered audit logs in batches
+     */
+    @Scheduled(fixedDelayString = "${app.audit.async.flush-interval-ms:500}")
+    public void flush() {
+        while (!buffer.isEmpty()) {
+            List<AuditLog> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                writeBatch(batch);
+                if (!failedAttempts.isEmpty()) {
+                    batch.forEach(auditLog -> failedAttempts.remove(auditLog.getId()));
+                }
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    logger.error("Failed to write {} audit logs, will retry", batch.size(), e);
+                    requeue(batch);
+                    return;
+                }
+                logger.warn("Batch of {} audit logs was rejected, writing them one by one: {}", batch.size(), e.getMessage());
+                writeIndividually(batch);
+                // Rejected entries are back in the buffer; their next attempt is the next flush
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        logger.info("Flushing {} buffered audit logs before shutdown", bufferedCount.get());
+        flush();
+        if (bufferedCount.get() > 0) {
+            logger.error("{} audit logs could not be written before shutdown", bufferedCount.get());
+        }
+    }
+
+    /**
+     * Number of audit logs waiting to be written
+     */
+    public int getBufferedCount() {
+        return bufferedCount.get();
+    }
+
+    // Helper methods
+
+    private List<AuditLog> drain() {
+        List<AuditLog> batch = new ArrayList<>(Math.min(batchSize, bufferedCount.get()));
+        AuditLog auditLog;
+        while (batch.size() < batchSize && (auditLog = buffer.poll()) != null) {
+            batch.add(auditLog);
+        }
+        bufferedCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void writeIndividually(List<AuditLog> batch) {
+        List<AuditLog> retry = new ArrayList<>();
+        for (AuditLog auditLog : batch) {
+            try {
+                writeBatch(List.of(auditLog));
+                failedAttempts.remove(auditLog.getId());
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    retry.add(auditLog);
+                    continue;
+                }
+                int attempts = failedAttempts.merge(auditLog.getId(), 1, Integer::sum);
+                if (attempts >= maxAttempts) {
+                    failedAttempts.remove(auditLog.getId());
+                    failedCounter.increment();
+                    logger.error("Dropping audit log after {} failed attempts: id={}, userId={}, userType={}, action={}, " +
+                            "entity={} {}, ip={}, method={}, status={}, startTime={}, error={}",
+                        attempts, auditLog.getId(), auditLog.getUserId(), auditLog.getUserType(), auditLog.getActionType(),
+                        auditLog.getEntityType(), auditLog.getEntityId(), auditLog.getIpAddress(), auditLog.getMethodName(),
+                        auditLog.getStatus(), auditLog.getStartTime(), e.getMessage());
+                } else {
+                    retry.add(auditLog);
+                }
+            }
+        }
+        requeue(retry);
+    }
+
+    private boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+            || e instanceof RecoverableDataAccessException
+            || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void requeue(List<AuditLog> batch) {
+        for (AuditLog auditLog : batch) {
+            if (bufferedCount.incrementAndGet() > bufferCapacity) {
+                bufferedCount.decrementAndGet();
+                failedCounter.increment();
+                failedAttempts.remove(auditLog.getId());
+                logger.error("Dropping audit log for {} {}: buffer full after write failure",
+                    auditLog.getActionType(), auditLog.getEntityType());
+            } else {
+                buffer.offer(auditLog);
+            }
+        }
+    }
+
+    private void writeBatch(List<AuditLog> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+        writtenCounter.increment(batch.size());
+    }
+
+    private void bind(PreparedStatement ps, AuditLog auditLog) throws SQLException {
+        ps.setObject(1, auditLog.getId());
+        ps.setTimestamp(2, Timestamp.valueOf(auditLog.getCreatedAt()));
+        ps.setString(3, truncate(auditLog.getCreatedBy(), DEFAULT_LENGTH));
+        ps.setTimestamp(4, Timestamp.valueOf(auditLog.getCreatedAt()));
+        ps.setString(5, truncate(auditLog.getCreatedBy(), DEFAULT_LENGTH));
+        ps.setLong(6, 0L);
+        ps.setObject(7, auditLog.getUserId());
+        ps.setString(8, truncate(auditLog.getUserType(), USER_TYPE_LENGTH));
+        ps.setString(9, truncate(auditLog.getActionType(), NAME_LENGTH));
+        ps.setString(10, truncate(auditLog.getEntityType(), NAME_LENGTH));
+        ps.setObject(11, auditLog.getEntityId());
+        ps.setString(12, auditLog.getOldValues());
+        ps.setString(13, auditLog.getNewValues());
+        ps.setString(14, truncate(auditLog.getIpAddress(), IP_ADDRESS_LENGTH));
+        ps.setString(15, truncate(auditLog.getUserAgent(), DEFAULT_LENGTH));
+        ps.setString(16, truncate(auditLog.getSessionId(), DEFAULT_LENGTH));
+        ps.setString(17, truncate(auditLog.getMethodName(), NAME_LENGTH));
+        ps.setString(18, truncate(auditLog.getParameters(), DEFAULT_LENGTH));
+        ps.setTimestamp(19, Timestamp.valueOf(auditLog.getStartTime()));
+        ps.setTimestamp(20, Timestamp.valueOf(auditLog.getEndTime()));
+        ps.setString(21, truncate(auditLog.getStatus(), STATUS_LENGTH));
+        ps.setString(22, truncate(auditLog.getErrorMessage(), DEFAULT_LENGTH));
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
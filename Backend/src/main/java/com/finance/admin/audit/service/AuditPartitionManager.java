@@ -0,0 +1,175 @@
+package com.finance.admin.audit.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly partitions of audit_logs (see V14 migration).
+ * Partitions for the coming months are created ahead of time, and retention drops the partitions
+ * whose whole month is older than the cutoff. Only active where audit_logs is partitioned, i.e.
+ * on PostgreSQL with migrations applied. A month whose rows already landed in the default partition
+ * gets its partition by briefly detaching the default and moving those rows across.
+ */
+@Component
+public class AuditPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditPartitionManager.class);
+
+    private static final String PARTITION_PREFIX = "audit_logs_y";
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_y(\\d{4})m(\\d{2})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy'm'MM");
+    private static final String DEFAULT_PARTITION = "audit_logs_default";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.audit.partitioning.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.audit.partitioning.months-ahead:3}")
+    private int monthsAhead = 3;
+
+    public AuditPartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check that audit_logs really is a partitioned table, i.e. that V14 has been applied
+     */
+    public boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid " +
+            "WHERE c.relname = 'audit_logs'", Integer.class);
+        return count != null && count > 0;
+    }
+
+    /**
+     * Create partitions for the current month and the configured number of months ahead
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.audit.partitioning.maintenance-schedule:0 30 0 * * ?}")
+    public void createUpcomingPartitions() {
+        if (!enabled) {
+            return;
+        }
+        if (!isPartitioned()) {
+            logger.warn("Audit log partitioning is enabled but audit_logs is not partitioned; skipping maintenance");
+            return;
+        }
+        List<String> partitions = listPartitions();
+        boolean hasDefault = partitions.contains(DEFAULT_PARTITION);
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (partitions.contains(partitionName(month))) {
+                continue;
+            }
+            try {
+                if (hasDefault && defaultPartitionHasRows(month)) {
+                    createPartitionFromDefault(month);
+                } else {
+                    jdbcTemplate.execute(createPartitionSql(month));
+                }
+            } catch (Exception e) {
+                logger.error("Failed to create audit log partition for {}: {}", month, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drop every monthly partition that ends on or before the cutoff.
+     * Rows in the partially expired month stay until the whole month is past the cutoff.
+     *
+     * @param cutoff Audit logs started before this point may be removed
+     * @return Number of partitions dropped
+     */
+    public int dropPartitionsBefore(LocalDateTime cutoff) {
+        List<String> partitions = listPartitions();
+
+        LocalDate cutoffDate = cutoff.toLocalDate();
+        int dropped = 0;
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.plusMonths(1).atDay(1).isAfter(cutoffDate)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                logger.info("Dropped audit log partition {}", partition);
+                dropped++;
+            }
+        }
+
+        // Stray rows outside any monthly partition are few, so they are deleted row by row
+        if (partitions.contains(DEFAULT_PARTITION)) {
+            jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE start_time < ?", Timestamp.valueOf(cutoff));
+        }
+        return dropped;
+    }
+
+    // Helper methods
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList(
+            "SELECT child.relname FROM pg_inherits " +
+            "JOIN pg_class parent ON parent.oid = pg_inherits.inhparent " +
+            "JOIN pg_class child ON child.oid = pg_inherits.inhrelid " +
+            "WHERE parent.relname = 'audit_logs'", String.class);
+    }
+
+    private boolean defaultPartitionHasRows(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE start_time >= ? AND start_time < ?)",
+            Boolean.class, Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+            Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay())));
+    }
+
+    // PostgreSQL refuses to create a partition whose range the default partition already holds rows for,
+    // so the default is detached while the rows move and reattached in the same transaction
+    private void createPartitionFromDefault(YearMonth month) {
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + DEFAULT_PARTITION);
+            jdbcTemplate.execute(createPartitionSql(month));
+            int moved = jdbcTemplate.update("INSERT INTO audit_logs SELECT * FROM " + DEFAULT_PARTITION +
+                " WHERE start_time >= ? AND start_time < ?", from, to);
+            jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE start_time >= ? AND start_time < ?", from, to);
+            jdbcTemplate.execute("ALTER TABLE audit_logs ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+            logger.info("Moved {} audit logs from the default partition into {}", moved, partitionName(month));
+        });
+    }
+
+    private String createPartitionSql(YearMonth month) {
+        return String.format(
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF audit_logs FOR VALUES FROM ('%s') TO ('%s')",
+            partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+}
@@ -4,6 +4,7 @@ import com.finance.admin.audit.entity.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -32,6 +33,17 @@ public interface AuditService {
         LocalDateTime endDate
     );
     
+    long streamAuditLogs(
+        UUID userId,
+        String userType,
+        String actionType,
+        String entityType,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        AuditLogExporter.Format format,
+        OutputStream outputStream
+    );
+    
     void cleanupOldAuditLogs();
     
     List<AuditLog> findUserActionHistory(UUID userId, int limit);
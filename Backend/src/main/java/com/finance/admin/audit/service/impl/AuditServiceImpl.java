@@ -2,6 +2,8 @@ package com.finance.admin.audit.service.impl;
 
 import com.finance.admin.audit.entity.AuditLog;
 import com.finance.admin.audit.repository.AuditLogRepository;
+import com.finance.admin.audit.service.AuditLogExporter;
+import com.finance.admin.audit.service.AuditPartitionManager;
 import com.finance.admin.audit.service.AuditService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,8 +14,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -27,6 +31,12 @@ public class AuditServiceImpl implements AuditService {
     @Autowired
     private AuditLogRepository auditLogRepository;
 
+    @Autowired
+    private AuditPartitionManager partitionManager;
+
+    @Autowired
+    private AuditLogExporter auditLogExporter;
+
     @Value("${app.audit.retention-days}")
     private int retentionDays;
 
@@ -70,6 +80,8 @@ public class AuditServiceImpl implements AuditService {
         }
         if (endDate != null) {
             spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("endTime"), endDate));
+            // Implied by the end time bound; lets PostgreSQL skip partitions after endDate
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("startTime"), endDate));
         }
         if (status != null) {
             spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
@@ -106,11 +118,29 @@ public class AuditServiceImpl implements AuditService {
         }
         if (endDate != null) {
             spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("endTime"), endDate));
+            // Implied by the end time bound; lets PostgreSQL skip partitions after endDate
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("startTime"), endDate));
         }
 
         return auditLogRepository.findAll(spec);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long streamAuditLogs(
+            UUID userId,
+            String userType,
+            String actionType,
+            String entityType,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            AuditLogExporter.Format format,
+            OutputStream outputStream) {
+        // No surrounding transaction: each page query borrows a connection only while it runs
+        return auditLogExporter.export(userId, userType, actionType, entityType, startDate, endDate,
+                format, outputStream);
+    }
+
     @Override
     @Scheduled(cron = "${app.audit.cleanup-schedule}")
     public void cleanupOldAuditLogs() {
@@ -118,6 +148,11 @@ public class AuditServiceImpl implements AuditService {
         logger.info("Cleaning up audit logs older than: {}", cutoffDate);
         
         try {
+            if (partitionManager.isEnabled() && partitionManager.isPartitioned()) {
+                int droppedCount = partitionManager.dropPartitionsBefore(cutoffDate);
+                logger.info("Dropped {} expired audit log partitions", droppedCount);
+                return;
+            }
             int deletedCount = auditLogRepository.deleteByCreatedAtBefore(cutoffDate);
             logger.info("Deleted {} old audit logs", deletedCount);
         } catch (Exception e) {
@@ -0,0 +1,129 @@
+package com.finance.admin.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of admin principals that have already been verified for a token.
+ * Repeat requests with the same token skip signature validation and the user lookup.
+ * Entries never outlive the token; they are dropped when the token is revoked on this node
+ * and when the admin user's roles or lock state change here. Other nodes pick up such
+ * changes once their entry's TTL runs out.
+ */
+@Component
+@Slf4j
+public class AdminPrincipalCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${app.security.principal-cache.ttl-seconds:30}")
+    private long ttlSeconds = 30;
+
+    @Value("${app.security.principal-cache.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    /**
+     * Get the cached principal for a token
+     *
+     * @param token Raw JWT
+     * @return Principal verified for the token, or null if none is cached or it has expired
+     */
+    public AdminUserPrincipal get(String token) {
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry.principal;
+    }
+
+    /**
+     * Cache a principal for a token that has just been validated
+     *
+     * @param token           Raw JWT
+     * @param principal       Principal loaded for the token's user
+     * @param tokenExpiration Expiry of the token
+     */
+    public void put(String token, AdminUserPrincipal principal, LocalDateTime tokenExpiration) {
+        if (ttlSeconds <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(now + ttlSeconds * 1000,
+            tokenExpiration.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+        }
+        if (entries.size() < maxEntries) {
+            entries.put(token, new Entry(principal, expiresAt));
+        }
+    }
+
+    /**
+     * Drop the cached principal for a token, e.g. on logout
+     *
+     * @param token Raw JWT
+     */
+    public void evict(String token) {
+        entries.remove(token);
+    }
+
+    /**
+     * Drop every cached principal of a user.
+     * Inside a transaction the eviction runs after commit so a concurrent request
+     * cannot re-cache the user as it was before the change.
+     *
+     * @param userId Admin user whose roles or status changed
+     */
+    public void evictUser(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeUser(userId);
+                }
+            });
+        } else {
+            removeUser(userId);
+        }
+    }
+
+    /**
+     * Drop expired entries
+     */
+    @Scheduled(fixedDelayString = "${app.security.principal-cache.purge-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    // Helper methods
+
+    private void removeUser(UUID userId) {
+        entries.values().removeIf(entry -> entry.principal.getId().equals(userId));
+        log.debug("Evicted cached principals for admin user {}", userId);
+    }
+
+    private static final class Entry {
+        private final AdminUserPrincipal principal;
+        private final long expiresAt;
+
+        private Entry(AdminUserPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
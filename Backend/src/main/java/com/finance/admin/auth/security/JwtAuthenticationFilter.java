@@ -11,7 +11,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -32,41 +31,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private AuthenticationService authenticationService;
 
+    @Autowired
+    private AdminPrincipalCache principalCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                // Check if token is blacklisted
-                if (authenticationService.isTokenBlacklisted(jwt)) {
-                    logger.warn("Blacklisted token used: {}", jwt.substring(0, 20) + "...");
-                    filterChain.doFilter(request, response);
-                    return;
-                }
-
-                UUID userId = tokenProvider.getUserIdFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
-
-                // Verify IP address if specified in token
-                AdminUserPrincipal userPrincipal = (AdminUserPrincipal) userDetails;
-                String clientIp = getClientIpAddress(request);
-                
-                // IP checking temporarily disabled for testing
-                /*
-                if (!userPrincipal.isIpAllowed(clientIp)) {
-                    logger.warn("IP not allowed for user {}: {}", userPrincipal.getUsername(), clientIp);
-                    filterChain.doFilter(request, response);
-                    return;
+            if (StringUtils.hasText(jwt)) {
+                // A principal cached for this token was verified on an earlier request
+                AdminUserPrincipal userPrincipal = principalCache.get(jwt);
+
+                if (userPrincipal != null || tokenProvider.validateToken(jwt)) {
+                    // Check if token is blacklisted
+                    if (authenticationService.isTokenBlacklisted(jwt)) {
+                        principalCache.evict(jwt);
+                        logger.warn("Blacklisted token used: {}", jwt.substring(0, 20) + "...");
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+
+                    if (userPrincipal == null) {
+                        UUID userId = tokenProvider.getUserIdFromToken(jwt);
+                        userPrincipal = (AdminUserPrincipal) userDetailsService.loadUserById(userId);
+                        principalCache.put(jwt, userPrincipal, tokenProvider.getExpirationFromToken(jwt));
+                    }
+
+                    // Verify IP address if specified in token
+                    String clientIp = getClientIpAddress(request);
+
+                    // IP checking temporarily disabled for testing
+                    /*
+                    if (!userPrincipal.isIpAllowed(clientIp)) {
+                        logger.warn("IP not allowed for user {}: {}", userPrincipal.getUsername(), clientIp);
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+                    */
+
+                    UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
-                */
-
-                UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
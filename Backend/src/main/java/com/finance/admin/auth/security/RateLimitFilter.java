@@ -0,0 +1,84 @@
+package com.finance.admin.auth.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.finance.admin.common.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Throttles requests per caller according to the configured rate-limit policies. Authenticated
+ * requests are limited per admin or client, everything else per remote address. Forwarded-for
+ * headers are not read here, since any client can set them; behind a proxy the container resolves
+ * the remote address (server.forward-headers-strategy). Every limited response carries
+ * X-RateLimit-Limit and X-RateLimit-Remaining; rejected requests get 429 with Retry-After.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimitProperties.Policy policy = rateLimiter.findPolicy(request.getMethod(), path);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String callerKey = resolveCallerKey(request);
+        RateLimiter.Decision decision = rateLimiter.tryConsume(policy, callerKey);
+        response.setHeader("X-RateLimit-Limit", String.valueOf(decision.getLimit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+
+        if (!decision.isAllowed()) {
+            logger.warn("Rate limit {} exceeded by {} on {} {}", policy.getName(), callerKey, request.getMethod(), path);
+            response.setHeader("Retry-After", String.valueOf(decision.getRetryAfterSeconds()));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ApiResponse.error("Too many requests, please try again later", path));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveCallerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            Object principal = authentication.getPrincipal();
+            if (principal instanceof AdminUserPrincipal adminPrincipal) {
+                return "admin:" + adminPrincipal.getId();
+            }
+            String name = authentication.getName();
+            // Client principals are named by their numeric client id
+            return name.chars().allMatch(Character::isDigit) ? "client:" + name : "user:" + name;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
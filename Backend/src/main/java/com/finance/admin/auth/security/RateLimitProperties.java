@@ -0,0 +1,45 @@
+package com.finance.admin.auth.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate-limit policies from {@code app.rate-limit}. Policies are matched in order and the first
+ * policy whose paths and methods match a request applies; requests matching none are not limited.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Data
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Also count requests in Redis so the limit holds across all nodes
+    private boolean shared = false;
+
+    // Local buckets kept before full (idle) buckets are purged early
+    private int maxLocalBuckets = 100000;
+
+    private List<Policy> policies = new ArrayList<>();
+
+    @Data
+    public static class Policy {
+        private String name;
+
+        // Ant-style path patterns, e.g. /api/client/documents/*/download
+        private List<String> paths = new ArrayList<>();
+
+        // HTTP methods; empty matches every method
+        private List<String> methods = new ArrayList<>();
+
+        // Requests allowed per period for one caller
+        private long limit;
+
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,167 @@
+package com.finance.admin.auth.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the configured rate-limit policies. Each caller gets a local token bucket per policy,
+ * which absorbs bursts on this node without any I/O. In shared mode a request the local bucket
+ * allows is also counted in a Redis fixed window per caller and policy, so the limit holds across
+ * all nodes; if Redis cannot be reached the local bucket alone decides.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    private final RateLimitProperties properties;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitProperties properties, RedisTemplate<String, Object> redisTemplate) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Find the policy for a request, or null if it is not limited
+     */
+    public RateLimitProperties.Policy findPolicy(String method, String path) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            boolean methodMatches = policy.getMethods().isEmpty()
+                    || policy.getMethods().stream().anyMatch(m -> m.equalsIgnoreCase(method));
+            if (methodMatches && policy.getPaths().stream().anyMatch(p -> pathMatcher.match(p, path))) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Take one request from a caller's quota under a policy
+     *
+     * @param callerKey Caller identity, e.g. client:42, admin:{uuid} or ip:203.0.113.7
+     */
+    public Decision tryConsume(RateLimitProperties.Policy policy, String callerKey) {
+        String bucketKey = policy.getName() + ":" + callerKey;
+        Bucket bucket = buckets.computeIfAbsent(bucketKey, key -> newBucket(policy));
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (!probe.isConsumed()) {
+            return new Decision(false, policy.getLimit(), 0, secondsUntil(probe.getNanosToWaitForRefill()));
+        }
+        long remaining = probe.getRemainingTokens();
+        if (properties.isShared()) {
+            return consumeShared(policy, bucketKey, remaining);
+        }
+        return new Decision(true, policy.getLimit(), remaining, 0);
+    }
+
+    /**
+     * Drop buckets that have refilled completely; a full bucket is the same as a new one
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.purge-interval-ms:60000}")
+    public void purgeIdleBuckets() {
+        buckets.entrySet().removeIf(entry -> isFull(entry.getKey(), entry.getValue()));
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    // Helper methods
+
+    private Decision consumeShared(RateLimitProperties.Policy policy, String bucketKey, long localRemaining) {
+        long periodMs = policy.getPeriod().toMillis();
+        long now = System.currentTimeMillis();
+        long window = now / periodMs;
+        String redisKey = KEY_PREFIX + bucketKey + ":" + window;
+        try {
+            Long count = redisTemplate.opsForValue().increment(redisKey);
+            if (count == null) {
+                return new Decision(true, policy.getLimit(), localRemaining, 0);
+            }
+            if (count == 1) {
+                redisTemplate.expire(redisKey, periodMs, TimeUnit.MILLISECONDS);
+            }
+            if (count > policy.getLimit()) {
+                long retryAfter = secondsUntil(TimeUnit.MILLISECONDS.toNanos((window + 1) * periodMs - now));
+                return new Decision(false, policy.getLimit(), 0, retryAfter);
+            }
+            return new Decision(true, policy.getLimit(), Math.min(localRemaining, policy.getLimit() - count), 0);
+        } catch (Exception e) {
+            log.error("Failed to apply shared rate limit, using local limit only: {}", e.getMessage());
+            return new Decision(true, policy.getLimit(), localRemaining, 0);
+        }
+    }
+
+    private Bucket newBucket(RateLimitProperties.Policy policy) {
+        if (buckets.size() >= properties.getMaxLocalBuckets()) {
+            purgeIdleBuckets();
+        }
+        return Bucket.builder()
+                .addLimit(Bandwidth.classic(policy.getLimit(), Refill.greedy(policy.getLimit(), policy.getPeriod())))
+                .build();
+    }
+
+    private boolean isFull(String bucketKey, Bucket bucket) {
+        String policyName = bucketKey.substring(0, bucketKey.indexOf(':'));
+        return properties.getPolicies().stream()
+                .filter(policy -> policy.getName().equals(policyName))
+                .findFirst()
+                .map(policy -> bucket.getAvailableTokens() >= policy.getLimit())
+                .orElse(true);
+    }
+
+    private long secondsUntil(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * Outcome of a rate-limit check, with the quota figures reported to the caller
+     */
+    public static class Decision {
+        private final boolean allowed;
+        private final long limit;
+        private final long remaining;
+        private final long retryAfterSeconds;
+
+        public Decision(boolean allowed, long limit, long remaining, long retryAfterSeconds) {
+            this.allowed = allowed;
+            this.limit = limit;
+            this.remaining = remaining;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public boolean isAllowed() {
+            return allowed;
+        }
+
+        public long getLimit() {
+            return limit;
+        }
+
+        public long getRemaining() {
+            return remaining;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+}
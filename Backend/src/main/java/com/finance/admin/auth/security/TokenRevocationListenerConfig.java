@@ -0,0 +1,32 @@
+package com.finance.admin.auth.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes this node to token revocations published by the other nodes
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.security.token-revocation.pubsub-enabled", havingValue = "true", matchIfMissing = true)
+public class TokenRevocationListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer tokenRevocationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         RedisTemplate<String, Object> redisTemplate,
+                                                                         TokenRevocationStore revocationStore) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (payload != null) {
+                revocationStore.onRevocationMessage(payload.toString());
+            }
+        }, new ChannelTopic(TokenRevocationStore.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,200 @@
+package com.finance.admin.auth.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revoked JWTs shared by all backend nodes, for both admin and client tokens.
+ * A revocation is stored in Redis under the SHA-256 hash of the token with a TTL equal to the
+ * token's remaining lifetime, so entries disappear on their own once the token would have expired
+ * anyway. Each node keeps the revoked hashes it knows about in memory, plus a short-lived cache of
+ * hashes Redis reported as not revoked; new revocations are published on {@link #CHANNEL} so every
+ * node adds them locally straight away instead of waiting for its negative entry to expire.
+ * For one refresh-token lifetime after startup, the raw-token keys written before revocations were
+ * hashed are still honoured, so tokens logged out before the upgrade stay revoked.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationStore {
+
+    public static final String CHANNEL = "token_revocations";
+    private static final String KEY_PREFIX = "revoked_token:";
+    private static final String LEGACY_KEY_PREFIX = "blacklisted_token:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // Token hash -> epoch millis at which the token expires
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    // Token hash -> epoch millis until which "not revoked" may be answered without asking Redis
+    private final Map<String, Long> notRevoked = new ConcurrentHashMap<>();
+
+    @Value("${app.security.token-revocation.negative-cache-ttl-ms:30000}")
+    private long negativeCacheTtlMs = 30000;
+
+    @Value("${app.security.token-revocation.negative-cache-max-entries:100000}")
+    private int negativeCacheMaxEntries = 100000;
+
+    @Value("${app.security.token-revocation.legacy-key-check-ms:604800000}")
+    private long legacyKeyCheckMs = 604800000;
+
+    private final long startedAt = System.currentTimeMillis();
+
+    /**
+     * Revoke a token until it expires
+     *
+     * @param token     Raw JWT
+     * @param expiresAt Expiry of the token; nothing is stored if it has already passed
+     */
+    public void revoke(String token, Instant expiresAt) {
+        long ttlMs = expiresAt.toEpochMilli() - System.currentTimeMillis();
+        if (ttlMs <= 0) {
+            return;
+        }
+
+        String hash = hash(token);
+        revoked.put(hash, expiresAt.toEpochMilli());
+        notRevoked.remove(hash);
+
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + hash, expiresAt.toEpochMilli(), ttlMs, TimeUnit.MILLISECONDS);
+            redisTemplate.convertAndSend(CHANNEL, hash + ":" + expiresAt.toEpochMilli());
+        } catch (Exception e) {
+            // The revocation still holds on this node; other nodes pick it up once Redis is reachable again
+            log.error("Failed to share token revocation: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether a token has been revoked on any node
+     *
+     * @param token Raw JWT
+     * @return true if the token was revoked and has not expired yet
+     */
+    public boolean isRevoked(String token) {
+        long now = System.currentTimeMillis();
+        String hash = hash(token);
+
+        Long expiresAt = revoked.get(hash);
+        if (expiresAt != null) {
+            if (expiresAt > now) {
+                return true;
+            }
+            revoked.remove(hash);
+            return false;
+        }
+
+        Long checkedUntil = notRevoked.get(hash);
+        if (checkedUntil != null && checkedUntil > now) {
+            return false;
+        }
+
+        Long ttlMs;
+        try {
+            ttlMs = redisTemplate.getExpire(KEY_PREFIX + hash, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // If Redis is not available, only revocations known to this node apply
+            log.error("Error checking revoked token: {}", e.getMessage());
+            return false;
+        }
+        if (ttlMs == null) {
+            log.warn("Redis connection issue: no TTL returned for revoked token lookup");
+            return false;
+        }
+
+        // -2 means no such key; -1 means a key without TTL, which revoke() never writes
+        if (ttlMs == -2 && now < startedAt + legacyKeyCheckMs) {
+            ttlMs = legacyKeyTtl(token);
+        }
+        if (ttlMs == -2) {
+            rememberNotRevoked(hash, now);
+            return false;
+        }
+        revoked.put(hash, ttlMs > 0 ? now + ttlMs : now + negativeCacheTtlMs);
+        return true;
+    }
+
+    /**
+     * Apply a revocation published by another node
+     *
+     * @param message Payload published by {@link #revoke(String, Instant)}: {@code <hash>:<expiresAtMillis>}
+     */
+    public void onRevocationMessage(String message) {
+        int separator = message.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("Ignoring malformed token revocation message");
+            return;
+        }
+        String hash = message.substring(0, separator);
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(message.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token revocation message");
+            return;
+        }
+        if (expiresAt > System.currentTimeMillis()) {
+            revoked.put(hash, expiresAt);
+        }
+        notRevoked.remove(hash);
+    }
+
+    /**
+     * Drop local entries for tokens that have expired.
+     * Redis expires its own keys, so only the in-memory maps need purging.
+     */
+    @Scheduled(fixedDelayString = "${app.security.token-revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        notRevoked.values().removeIf(checkedUntil -> checkedUntil <= now);
+    }
+
+    // Helper methods
+
+    // Read-only: legacy keys were written with the token's remaining lifetime and expire on their own
+    private long legacyKeyTtl(String token) {
+        try {
+            Long ttlMs = redisTemplate.getExpire(LEGACY_KEY_PREFIX + token, TimeUnit.MILLISECONDS);
+            return ttlMs != null ? ttlMs : -2;
+        } catch (Exception e) {
+            log.error("Error checking legacy revoked token: {}", e.getMessage());
+            return -2;
+        }
+    }
+
+    private void rememberNotRevoked(String hash, long now) {
+        if (negativeCacheTtlMs <= 0) {
+            return;
+        }
+        if (notRevoked.size() >= negativeCacheMaxEntries) {
+            notRevoked.values().removeIf(checkedUntil -> checkedUntil <= now);
+        }
+        if (notRevoked.size() < negativeCacheMaxEntries) {
+            notRevoked.put(hash, now + negativeCacheTtlMs);
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
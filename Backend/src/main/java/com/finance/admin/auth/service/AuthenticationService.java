@@ -5,8 +5,10 @@ import com.finance.admin.auth.dto.LoginResponse;
 import com.finance.admin.auth.dto.MfaVerificationRequest;
 import com.finance.admin.auth.entity.AdminUser;
 import com.finance.admin.auth.repository.AdminUserRepository;
+import com.finance.admin.auth.security.AdminPrincipalCache;
 import com.finance.admin.auth.security.AdminUserPrincipal;
 import com.finance.admin.auth.security.JwtTokenProvider;
+import com.finance.admin.auth.security.TokenRevocationStore;
 import com.finance.admin.common.exception.AuthenticationException;
 import com.finance.admin.common.exception.AccountLockedException;
 import com.finance.admin.common.util.IpAddressUtil;
@@ -24,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.concurrent.TimeUnit;
 import java.util.UUID;
 
@@ -52,6 +55,12 @@ public class AuthenticationService {
     @Autowired
     private MfaService mfaService;
 
+    @Autowired
+    private TokenRevocationStore revocationStore;
+
+    @Autowired
+    private AdminPrincipalCache principalCache;
+
     @Value("${app.security.max-failed-attempts}")
     private int maxFailedAttempts;
 
@@ -147,15 +156,10 @@ public class AuthenticationService {
         logger.info("User logout");
         
         if (tokenProvider.validateToken(token)) {
-            // Add token to blacklist (Redis)
-            UUID userId = tokenProvider.getUserIdFromToken(token);
+            // Revoke the token on every node until it expires
             LocalDateTime expiration = tokenProvider.getExpirationFromToken(token);
-            long ttl = java.time.Duration.between(LocalDateTime.now(), expiration).toMillis();
-            
-            if (ttl > 0) {
-                redisTemplate.opsForValue().set("blacklisted_token:" + token, userId.toString(), 
-                                              ttl, TimeUnit.MILLISECONDS);
-            }
+            revocationStore.revoke(token, expiration.atZone(ZoneId.systemDefault()).toInstant());
+            principalCache.evict(token);
         }
     }
 
@@ -181,6 +185,7 @@ public class AuthenticationService {
         if (user.getFailedLoginAttempts() >= maxFailedAttempts) {
             LocalDateTime lockUntil = LocalDateTime.now().plusNanos(lockoutDurationMs * 1_000_000);
             user.lockAccount(lockUntil);
+            principalCache.evictUser(user.getId());
             logger.warn("Account locked for user: {} until {}", user.getUsername(), lockUntil);
         }
         
@@ -217,22 +222,6 @@ public class AuthenticationService {
     }
 
     public boolean isTokenBlacklisted(String token) {
-        try {
-            String key = "blacklisted_token:" + token;
-            logger.debug("Checking if token is blacklisted: {}", key);
-            Boolean hasKey = redisTemplate.hasKey(key);
-            
-            if (hasKey == null) {
-                logger.warn("Redis connection issue: hasKey returned null for {}", key);
-                // If Redis is not responding properly, allow the request to proceed
-                return false;
-            }
-            
-            return hasKey;
-        } catch (Exception e) {
-            logger.error("Error checking blacklisted token: {}", e.getMessage(), e);
-            // If Redis is not available, assume token is not blacklisted
-            return false;
-        }
+        return revocationStore.isRevoked(token);
     }
 }
@@ -1,5 +1,6 @@
 package com.finance.admin.certificate.controller;
 
+import com.finance.admin.certificate.dto.CertificateBatchJobResponse;
 import com.finance.admin.certificate.dto.CertificateResponse;
 import com.finance.admin.certificate.dto.CreateCertificateRequest;
 import com.finance.admin.certificate.model.Certificate;
@@ -15,8 +16,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.security.access.prepost.PreAuthorize;
 import io.swagger.v3.oas.annotations.Operation;
 
@@ -115,16 +118,38 @@ public class CertificateController {
     }
 
     /**
-     * Generate batch certificates
+     * Generate batch certificates. With async=true the batch runs in the background and the
+     * job is returned for polling or streaming.
      */
     @PostMapping("/batch-generate")
-    public ResponseEntity<Map<String, CertificateResponse>> generateBatchCertificates(
-            @RequestBody List<Long> certificateIds) {
+    public ResponseEntity<?> generateBatchCertificates(
+            @RequestBody List<Long> certificateIds,
+            @RequestParam(defaultValue = "false") boolean async) {
         log.info("Generating batch certificates for {} certificates", certificateIds.size());
+        if (async) {
+            CertificateBatchJobResponse job = certificateService.startBatchGeneration(certificateIds);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        }
         Map<String, CertificateResponse> results = certificateService.generateBatchCertificates(certificateIds);
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * Get batch generation job progress
+     */
+    @GetMapping("/batch-generate/{jobId}")
+    public ResponseEntity<CertificateBatchJobResponse> getBatchGenerationJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(certificateService.getBatchGenerationJob(jobId));
+    }
+
+    /**
+     * Stream batch generation job progress as Server-Sent Events
+     */
+    @GetMapping(value = "/batch-generate/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBatchGenerationJob(@PathVariable String jobId) {
+        return certificateService.streamBatchGenerationJob(jobId);
+    }
+
     /**
      * Update certificate status
      */
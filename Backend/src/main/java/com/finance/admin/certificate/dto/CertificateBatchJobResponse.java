@@ -0,0 +1,39 @@
+package com.finance.admin.certificate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CertificateBatchJobResponse {
+
+    private String jobId;
+    private JobStatus status;
+
+    // Progress
+    private int total;
+    private int completed;
+    private int succeeded;
+    private int failed;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    // Certificate ID to certificate number for generated certificates
+    private Map<Long, String> generated;
+
+    // Certificate ID to error message for failed certificates
+    private Map<Long, String> failures;
+
+    public enum JobStatus {
+        RUNNING,
+        COMPLETED
+    }
+}
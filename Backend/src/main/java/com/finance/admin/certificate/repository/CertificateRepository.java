@@ -4,14 +4,17 @@ import com.finance.admin.certificate.model.Certificate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface CertificateRepository extends JpaRepository<Certificate, Long> {
@@ -20,6 +23,11 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
     Optional<Certificate> findByCertificateNumber(String certificateNumber);
     boolean existsByCertificateNumber(String certificateNumber);
 
+    // Highest sequence number issued under a prefix, compared numerically, used to seed a new number sequence
+    @Query("SELECT MAX(CAST(SUBSTRING(c.certificateNumber, LENGTH(:prefix) + 1) AS Long)) FROM Certificate c " +
+           "WHERE c.certificateNumber LIKE CONCAT(:prefix, '%')")
+    Optional<Long> findMaxCertificateSequenceByPrefix(@Param("prefix") String prefix);
+
     // Client-based queries
     List<Certificate> findByClientId(Long clientId);
     Page<Certificate> findByClientId(Long clientId, Pageable pageable);
@@ -108,6 +116,23 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
     @Query("SELECT c FROM Certificate c WHERE c.filePath IS NULL OR c.filePath = ''")
     List<Certificate> findCertificatesWithoutFiles();
 
+    // Certificates with the associations PDF rendering needs (for batch processing)
+    @Query("SELECT c FROM Certificate c JOIN FETCH c.client JOIN FETCH c.investment LEFT JOIN FETCH c.template WHERE c.id IN :ids")
+    List<Certificate> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Record a generated certificate file; bulk updates bypass entity auditing, so version and updater are set here
+    @Modifying
+    @Query("UPDATE Certificate c SET c.filePath = :filePath, c.fileSize = :fileSize, c.fileHash = :fileHash, " +
+           "c.digitalSignature = :digitalSignature, c.status = 'ACTIVE', c.version = COALESCE(c.version, 0) + 1, " +
+           "c.updatedAt = :updatedAt, c.updatedBy = :updatedBy WHERE c.id = :id")
+    int markGenerated(@Param("id") Long id,
+                      @Param("filePath") String filePath,
+                      @Param("fileSize") Long fileSize,
+                      @Param("fileHash") String fileHash,
+                      @Param("digitalSignature") String digitalSignature,
+                      @Param("updatedAt") LocalDateTime updatedAt,
+                      @Param("updatedBy") UUID updatedBy);
+
     // Certificates by investment type
     @Query("SELECT c FROM Certificate c WHERE c.investment.investmentType = :investmentType")
     List<Certificate> findByInvestmentType(@Param("investmentType") String investmentType);
@@ -0,0 +1,383 @@
+package com.finance.admin.certificate.service;
+
+import com.finance.admin.auth.security.AdminUserPrincipal;
+import com.finance.admin.certificate.dto.CertificateBatchJobResponse;
+import com.finance.admin.certificate.model.Certificate;
+import com.finance.admin.certificate.model.CertificateTemplate;
+import com.finance.admin.certificate.repository.CertificateRepository;
+import com.finance.admin.certificate.repository.CertificateTemplateRepository;
+import com.finance.admin.common.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pipelined batch generation of certificate PDFs.
+ * Certificates are loaded in chunks with their client, investment and template, rendered on a
+ * CPU-bound pool sized to the available cores, then hashed, signed, uploaded and recorded on a
+ * separate I/O pool, so rendering never waits on storage. The number of certificates between
+ * render and upload is capped to bound the PDFs held in memory. Jobs run in the background and
+ * report progress for polling or over Server-Sent Events.
+ */
+@Service
+@Slf4j
+public class CertificateBatchService {
+
+    private final CertificateRepository certificateRepository;
+    private final CertificateTemplateRepository templateRepository;
+    private final PdfGenerationService pdfGenerationService;
+    private final CertificateEmailService certificateEmailService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, BatchJob> jobs = new ConcurrentHashMap<>();
+    private ExecutorService coordinatorPool;
+    private ExecutorService renderPool;
+    private ExecutorService ioPool;
+
+    @Value("${app.certificate.batch.render-threads:0}")
+    private int renderThreads = 0;
+
+    @Value("${app.certificate.batch.io-threads:16}")
+    private int ioThreads = 16;
+
+    @Value("${app.certificate.batch.max-concurrent-jobs:2}")
+    private int maxConcurrentJobs = 2;
+
+    @Value("${app.certificate.batch.max-in-flight:64}")
+    private int maxInFlight = 64;
+
+    @Value("${app.certificate.batch.load-chunk-size:200}")
+    private int loadChunkSize = 200;
+
+    @Value("${app.certificate.batch.job-retention-minutes:60}")
+    private long jobRetentionMinutes = 60;
+
+    @Value("${app.certificate.batch.wait-timeout-seconds:600}")
+    private long waitTimeoutSeconds = 600;
+
+    public CertificateBatchService(CertificateRepository certificateRepository,
+                                   CertificateTemplateRepository templateRepository,
+                                   PdfGenerationService pdfGenerationService,
+                                   CertificateEmailService certificateEmailService,
+                                   PlatformTransactionManager transactionManager) {
+        this.certificateRepository = certificateRepository;
+        this.templateRepository = templateRepository;
+        this.pdfGenerationService = pdfGenerationService;
+        this.certificateEmailService = certificateEmailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        int renderPoolSize = renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors();
+        coordinatorPool = Executors.newFixedThreadPool(maxConcurrentJobs, new CustomizableThreadFactory("cert-batch-"));
+        renderPool = Executors.newFixedThreadPool(renderPoolSize, new CustomizableThreadFactory("cert-render-"));
+        ioPool = Executors.newFixedThreadPool(ioThreads, new CustomizableThreadFactory("cert-io-"));
+    }
+
+    /**
+     * Start generating certificates in the background
+     *
+     * @return Initial job status, including the job ID to poll or stream
+     */
+    public CertificateBatchJobResponse startBatch(List<Long> certificateIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(certificateIds));
+        BatchJob job = new BatchJob(UUID.randomUUID().toString(), ids.size(), currentAdminId());
+        jobs.put(job.jobId, job);
+        log.info("Starting certificate batch job {} for {} certificates", job.jobId, ids.size());
+
+        try {
+            coordinatorPool.execute(() -> run(job, ids));
+        } catch (RejectedExecutionException e) {
+            log.error("Certificate batch job {} could not be started", job.jobId, e);
+            ids.forEach(id -> job.fail(id, "Certificate batch could not be started"));
+        }
+        return job.snapshot();
+    }
+
+    // Captured on the request thread, since the batch runs on pool threads without a security context
+    private UUID currentAdminId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AdminUserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
+    /**
+     * Generate certificates and wait for the batch to finish. If it takes longer than the wait
+     * timeout, the job keeps running and its current status is returned.
+     */
+    public CertificateBatchJobResponse generateAndWait(List<Long> certificateIds) {
+        CertificateBatchJobResponse started = startBatch(certificateIds);
+        BatchJob job = jobs.get(started.getJobId());
+        try {
+            if (!job.done.await(waitTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("Certificate batch job {} still running after {} seconds, returning its progress",
+                    job.jobId, waitTimeoutSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for certificate batch " + job.jobId, e);
+        }
+        return job.snapshot();
+    }
+
+    /**
+     * Get the status of a batch job
+     */
+    public CertificateBatchJobResponse getJob(String jobId) {
+        return findJob(jobId).snapshot();
+    }
+
+    /**
+     * Stream progress events for a batch job. The stream completes when the job does.
+     */
+    public SseEmitter streamJob(String jobId) {
+        BatchJob job = findJob(jobId);
+        SseEmitter emitter = new SseEmitter(0L);
+        job.emitters.add(emitter);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(e -> job.emitters.remove(emitter));
+
+        send(job, emitter, SseEmitter.event().name("progress").data(job.progress()));
+        if (job.done.getCount() == 0) {
+            send(job, emitter, SseEmitter.event().name("completed").data(job.snapshot()));
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * Drop finished jobs once their retention period has passed
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinatorPool.shutdownNow();
+        renderPool.shutdownNow();
+        ioPool.shutdownNow();
+    }
+
+    // Helper methods
+
+    private void run(BatchJob job, List<Long> ids) {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Set<Long> dispatched = new HashSet<>();
+        Map<Certificate.CertificateType, Optional<CertificateTemplate>> defaultTemplates = new ConcurrentHashMap<>();
+        try {
+            for (int start = 0; start < ids.size(); start += loadChunkSize) {
+                List<Long> chunk = ids.subList(start, Math.min(start + loadChunkSize, ids.size()));
+                List<Certificate> certificates = transactionTemplate.execute(status ->
+                    certificateRepository.findWithDetailsByIdIn(chunk));
+
+                Set<Long> found = new HashSet<>();
+                for (Certificate certificate : certificates) {
+                    found.add(certificate.getId());
+                    CertificateTemplate template = certificate.getTemplate() != null
+                        ? certificate.getTemplate()
+                        : defaultTemplates.computeIfAbsent(certificate.getCertificateType(), this::findDefaultTemplate).orElse(null);
+
+                    inFlight.acquire();
+                    dispatched.add(certificate.getId());
+                    try {
+                        process(job, certificate, template).whenComplete((result, e) -> inFlight.release());
+                    } catch (RejectedExecutionException e) {
+                        // Nothing was queued, so the certificate would otherwise never be settled
+                        inFlight.release();
+                        job.fail(certificate.getId(), "Certificate could not be queued for generation");
+                    }
+                }
+                for (Long id : chunk) {
+                    if (!found.contains(id)) {
+                        dispatched.add(id);
+                        job.fail(id, "Certificate not found with ID: " + id);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Certificate batch job {} interrupted", job.jobId);
+        } catch (Exception e) {
+            log.error("Certificate batch job {} failed", job.jobId, e);
+        } finally {
+            // Certificates never handed to the pipeline will not be generated
+            for (Long id : ids) {
+                if (!dispatched.contains(id)) {
+                    job.fail(id, "Certificate batch stopped before this certificate was processed");
+                }
+            }
+        }
+    }
+
+    private CompletableFuture<Void> process(BatchJob job, Certificate certificate, CertificateTemplate template) {
+        return CompletableFuture
+            .supplyAsync(() -> render(certificate, template), renderPool)
+            .thenApplyAsync(pdf -> pdfGenerationService.signAndUpload(certificate, pdf), ioPool)
+            .thenAccept(result -> {
+                if (!result.isSuccess()) {
+                    job.fail(certificate.getId(), result.getErrorMessage());
+                    return;
+                }
+                transactionTemplate.executeWithoutResult(status -> certificateRepository.markGenerated(
+                    certificate.getId(), result.getFilePath(), result.getFileSize(), result.getFileHash(),
+                    result.getDigitalSignature(), LocalDateTime.now(), job.requestedBy));
+                notifyClient(certificate, result);
+                job.succeed(certificate.getId(), certificate.getCertificateNumber());
+            })
+            .exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.error("Failed to generate certificate for ID: {}", certificate.getId(), cause);
+                job.fail(certificate.getId(), cause.getMessage());
+                return null;
+            });
+    }
+
+    private byte[] render(Certificate certificate, CertificateTemplate template) {
+        try {
+            return pdfGenerationService.renderCertificatePdf(certificate, template);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void notifyClient(Certificate certificate, PdfGenerationService.CertificateGenerationResult result) {
+        certificate.setFilePath(result.getFilePath());
+        certificate.setFileSize(result.getFileSize());
+        certificate.setFileHash(result.getFileHash());
+        certificate.setDigitalSignature(result.getDigitalSignature());
+        certificate.setStatus(Certificate.CertificateStatus.ACTIVE);
+        try {
+            certificateEmailService.sendCertificateGeneratedNotification(certificate);
+        } catch (Exception e) {
+            log.warn("Failed to send certificate generation notification for certificate: {}",
+                certificate.getCertificateNumber(), e);
+        }
+    }
+
+    private Optional<CertificateTemplate> findDefaultTemplate(Certificate.CertificateType certificateType) {
+        return templateRepository.findByTemplateTypeAndIsDefaultTrue(
+            CertificateTemplate.TemplateType.valueOf(certificateType.name()));
+    }
+
+    private BatchJob findJob(String jobId) {
+        BatchJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Certificate batch job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void send(BatchJob job, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            job.emitters.remove(emitter);
+        }
+    }
+
+    private class BatchJob {
+        private final String jobId;
+        private final int total;
+        private final UUID requestedBy;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final Map<Long, String> generated = new ConcurrentHashMap<>();
+        private final Map<Long, String> failures = new ConcurrentHashMap<>();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile LocalDateTime finishedAt;
+
+        private BatchJob(String jobId, int total, UUID requestedBy) {
+            this.jobId = jobId;
+            this.total = total;
+            this.requestedBy = requestedBy;
+            if (total == 0) {
+                finish();
+            }
+        }
+
+        private void succeed(Long certificateId, String certificateNumber) {
+            generated.put(certificateId, certificateNumber);
+            settled();
+        }
+
+        private void fail(Long certificateId, String error) {
+            failures.put(certificateId, error != null ? error : "Unknown error");
+            settled();
+        }
+
+        private void settled() {
+            int count = completed.incrementAndGet();
+            Map<String, Object> progress = progress();
+            emitters.forEach(emitter -> send(this, emitter, SseEmitter.event().name("progress").data(progress)));
+            if (count == total) {
+                finish();
+            }
+        }
+
+        private synchronized void finish() {
+            if (finishedAt != null) {
+                return;
+            }
+            finishedAt = LocalDateTime.now();
+            done.countDown();
+            log.info("Certificate batch job {} completed: {} generated, {} failed", jobId, generated.size(), failures.size());
+
+            CertificateBatchJobResponse snapshot = snapshot();
+            for (SseEmitter emitter : emitters) {
+                send(this, emitter, SseEmitter.event().name("completed").data(snapshot));
+                emitter.complete();
+            }
+            emitters.clear();
+        }
+
+        private Map<String, Object> progress() {
+            Map<String, Object> progress = new HashMap<>();
+            progress.put("jobId", jobId);
+            progress.put("total", total);
+            progress.put("completed", completed.get());
+            progress.put("succeeded", generated.size());
+            progress.put("failed", failures.size());
+            return progress;
+        }
+
+        private CertificateBatchJobResponse snapshot() {
+            return CertificateBatchJobResponse.builder()
+                .jobId(jobId)
+                .status(finishedAt != null
+                    ? CertificateBatchJobResponse.JobStatus.COMPLETED
+                    : CertificateBatchJobResponse.JobStatus.RUNNING)
+                .total(total)
+                .completed(completed.get())
+                .succeeded(generated.size())
+                .failed(failures.size())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .generated(new HashMap<>(generated))
+                .failures(new HashMap<>(failures))
+                .build();
+        }
+    }
+}
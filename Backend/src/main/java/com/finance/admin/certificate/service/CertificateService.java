@@ -1,5 +1,6 @@
 package com.finance.admin.certificate.service;
 
+import com.finance.admin.certificate.dto.CertificateBatchJobResponse;
 import com.finance.admin.certificate.dto.CertificateResponse;
 import com.finance.admin.certificate.dto.CreateCertificateRequest;
 import com.finance.admin.certificate.model.Certificate;
@@ -8,6 +9,7 @@ import com.finance.admin.certificate.repository.CertificateRepository;
 import com.finance.admin.certificate.repository.CertificateTemplateRepository;
 import com.finance.admin.client.model.Client;
 import com.finance.admin.client.repository.ClientRepository;
+import com.finance.admin.common.service.IdentifierAllocationService;
 import com.finance.admin.investment.model.Investment;
 import com.finance.admin.investment.repository.InvestmentRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +17,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -35,6 +39,8 @@ public class CertificateService {
     private final InvestmentRepository investmentRepository;
     private final PdfGenerationService pdfGenerationService;
     private final CertificateEmailService certificateEmailService;
+    private final CertificateBatchService certificateBatchService;
+    private final IdentifierAllocationService identifierAllocationService;
 
     /**
      * Create a new certificate
@@ -231,26 +237,50 @@ public class CertificateService {
     }
 
     /**
-     * Generate batch certificates
+     * Generate batch certificates and wait for them to finish
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, CertificateResponse> generateBatchCertificates(List<Long> certificateIds) {
         log.info("Generating batch certificates for {} certificates", certificateIds.size());
 
+        CertificateBatchJobResponse job = certificateBatchService.generateAndWait(certificateIds);
+        job.getFailures().forEach((certificateId, error) ->
+            log.error("Failed to generate certificate for ID: {}: {}", certificateId, error));
+
         Map<String, CertificateResponse> results = new HashMap<>();
-        
-        for (Long certificateId : certificateIds) {
-            try {
-                CertificateResponse response = generateCertificatePdf(certificateId);
-                results.put(response.getCertificateNumber(), response);
-            } catch (Exception e) {
-                log.error("Failed to generate certificate for ID: {}", certificateId, e);
-                // Continue with other certificates
+        if (!job.getGenerated().isEmpty()) {
+            for (Certificate certificate : certificateRepository.findWithDetailsByIdIn(job.getGenerated().keySet())) {
+                results.put(certificate.getCertificateNumber(), mapToResponse(certificate));
             }
         }
 
         return results;
     }
 
+    /**
+     * Start generating batch certificates in the background
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CertificateBatchJobResponse startBatchGeneration(List<Long> certificateIds) {
+        return certificateBatchService.startBatch(certificateIds);
+    }
+
+    /**
+     * Get the progress of a background batch generation job
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CertificateBatchJobResponse getBatchGenerationJob(String jobId) {
+        return certificateBatchService.getJob(jobId);
+    }
+
+    /**
+     * Stream the progress of a background batch generation job
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter streamBatchGenerationJob(String jobId) {
+        return certificateBatchService.streamJob(jobId);
+    }
+
     /**
      * Update certificate status
      */
@@ -400,23 +430,14 @@ public class CertificateService {
             case EQUITY_CERTIFICATE -> "EQT";
         };
 
-        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-        
-        // Find next sequence number for this month
-        String pattern = prefix + "-" + datePart + "-%";
-        long count = certificateRepository.count(); // Simplified - in production, use proper sequence
-        String sequence = String.format("%04d", (count % 10000) + 1);
-
-        String certificateNumber = String.format("%s-%s-%s", prefix, datePart, sequence);
-
-        // Ensure uniqueness
-        while (certificateRepository.existsByCertificateNumber(certificateNumber)) {
-            count++;
-            sequence = String.format("%04d", (count % 10000) + 1);
-            certificateNumber = String.format("%s-%s-%s", prefix, datePart, sequence);
-        }
+        String sequencePrefix = prefix + "-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM")) + "-";
+
+        // Monthly sequence per type; only seeded from existing certificates the first time the month's sequence is used
+        long sequence = identifierAllocationService.next(sequencePrefix, () -> certificateRepository
+            .findMaxCertificateSequenceByPrefix(sequencePrefix)
+            .orElse(0L));
 
-        return certificateNumber;
+        return String.format("%s%04d", sequencePrefix, sequence);
     }
 
     /**
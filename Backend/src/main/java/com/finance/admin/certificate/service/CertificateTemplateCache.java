@@ -0,0 +1,147 @@
+package com.finance.admin.certificate.service;
+
+import com.finance.admin.certificate.model.CertificateTemplate;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.kernel.colors.Color;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.colors.WebColors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles certificate templates into reusable layouts and keeps them, keyed by template id and
+ * version, so fonts, images and static content are prepared once rather than for every PDF.
+ * Editing a template bumps its version or update time, which compiles a new layout.
+ */
+@Component
+@Slf4j
+public class CertificateTemplateCache {
+
+    private static final String DEFAULT_KEY = "default";
+
+    private final Map<String, CompiledCertificateTemplate> compiled = new ConcurrentHashMap<>();
+    private final FontProgram regularFont;
+    private final FontProgram boldFont;
+
+    @Value("${app.certificate.template.path:/tmp/templates}")
+    private String templatePath = "/tmp/templates";
+
+    @Value("${app.certificate.template.cache-size:32}")
+    private int maxTemplates = 32;
+
+    public CertificateTemplateCache() throws IOException {
+        this.regularFont = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+        this.boldFont = FontProgramFactory.createFont(StandardFonts.HELVETICA_BOLD);
+    }
+
+    /**
+     * Get the compiled layout for a template, compiling it on first use. A null template uses
+     * the default layout.
+     */
+    public CompiledCertificateTemplate get(CertificateTemplate template) throws IOException {
+        String key = key(template);
+        CompiledCertificateTemplate layout = compiled.get(key);
+        if (layout != null) {
+            return layout;
+        }
+        if (compiled.size() >= maxTemplates) {
+            log.info("Certificate template cache is full ({} layouts), clearing it", compiled.size());
+            compiled.clear();
+        }
+        try {
+            return compiled.computeIfAbsent(key, k -> {
+                try {
+                    return compile(k, template);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Drop all compiled layouts, e.g. after template images were replaced on disk
+     */
+    public void clear() {
+        compiled.clear();
+    }
+
+    public int size() {
+        return compiled.size();
+    }
+
+    private CompiledCertificateTemplate compile(String key, CertificateTemplate template) throws IOException {
+        long start = System.currentTimeMillis();
+        CompiledCertificateTemplate layout;
+        if (template == null) {
+            layout = CompiledCertificateTemplate.compile(key, ColorConstants.BLUE, ColorConstants.LIGHT_GRAY,
+                    null, null, regularFont, boldFont);
+        } else {
+            layout = CompiledCertificateTemplate.compile(key,
+                    color(template.getPrimaryColor(), ColorConstants.BLUE),
+                    color(template.getSecondaryColor(), ColorConstants.LIGHT_GRAY),
+                    image(template.getCompanyLogoPath()),
+                    image(template.getBackgroundImagePath()),
+                    regularFont, boldFont);
+        }
+        log.info("Compiled certificate template {} in {} ms", key, System.currentTimeMillis() - start);
+        return layout;
+    }
+
+    private String key(CertificateTemplate template) {
+        if (template == null || template.getId() == null) {
+            return DEFAULT_KEY;
+        }
+        return template.getId() + ":" + template.getVersion() + ":" + template.getUpdatedAt();
+    }
+
+    private Color color(String hex, Color defaultColor) {
+        if (hex == null || hex.isBlank()) {
+            return defaultColor;
+        }
+        try {
+            return WebColors.getRGBColor(hex);
+        } catch (Exception e) {
+            log.warn("Invalid template color {}, using default", hex);
+            return defaultColor;
+        }
+    }
+
+    /**
+     * Load a template image. Relative paths are resolved against the template directory; missing
+     * or unreadable images are left out of the layout.
+     */
+    private ImageData image(String imagePath) {
+        if (imagePath == null || imagePath.isBlank()) {
+            return null;
+        }
+        Path path = Path.of(imagePath);
+        if (!path.isAbsolute()) {
+            path = Path.of(templatePath).resolve(imagePath);
+        }
+        if (!Files.isReadable(path)) {
+            log.warn("Template image not found: {}", path);
+            return null;
+        }
+        try {
+            return ImageDataFactory.create(Files.readAllBytes(path));
+        } catch (Exception e) {
+            log.warn("Failed to load template image {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.finance.admin.certificate.service;
+
+import com.finance.admin.certificate.model.Certificate;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.kernel.colors.Color;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
+import com.itextpdf.layout.Canvas;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.layout.LayoutArea;
+import com.itextpdf.layout.layout.LayoutContext;
+import com.itextpdf.layout.layout.LayoutResult;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.itextpdf.layout.renderer.IRenderer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A certificate template laid out once. Static content (border, logo, background, title, field
+ * labels, company details) is rendered into a one-page skeleton PDF when the template is compiled;
+ * rendering a certificate stamps only the variable fields onto a copy of the skeleton at positions
+ * fixed at compile time. Field values too wide for their row are shrunk, then cut short; a statement
+ * that does not fit its area at the smallest size fails the render rather than being dropped.
+ */
+public class CompiledCertificateTemplate {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMMM yyyy");
+    private static final DateTimeFormatter GENERATED_FORMAT = DateTimeFormatter.ofPattern("dd MMMM yyyy 'at' HH:mm");
+
+    private static final float LEFT = 50;
+    private static final float RIGHT = 545;
+    private static final float VALUE_X = 200;
+    private static final float FIRST_ROW_Y = 690;
+    private static final float ROW_HEIGHT = 22;
+    private static final float FONT_SIZE = 10;
+    private static final float MIN_FONT_SIZE = 7;
+    private static final float VALUE_WIDTH = RIGHT - 4 - VALUE_X;
+    private static final float STATEMENT_FONT_SIZE = 12;
+    private static final float MIN_STATEMENT_FONT_SIZE = 9;
+    private static final String ELLIPSIS = "...";
+
+    private static final List<Field> FIELDS = List.of(
+            new Field("Certificate Type:", c -> c.getCertificateType().getDisplayName()),
+            new Field("Issue Date:", c -> c.getIssueDate().format(DATE_FORMAT)),
+            new Field("Expiry Date:", c -> c.getExpiryDate().format(DATE_FORMAT)),
+            new Field("Client Name:", c -> c.getClient() != null
+                    ? c.getClient().getFirstName() + " " + c.getClient().getLastName() : null),
+            new Field("Membership Number:", c -> c.getClient() != null ? c.getClient().getMembershipNumber() : null),
+            new Field("Email:", c -> c.getClient() != null ? c.getClient().getEmailPrimary() : null),
+            new Field("Investment Name:", c -> c.getInvestment() != null ? c.getInvestment().getInvestmentName() : null),
+            new Field("Investment Type:", c -> c.getInvestment() != null
+                    ? c.getInvestment().getInvestmentType().toString() : null),
+            new Field("Investment Amount:", c -> String.format("$%.2f", c.getInvestmentAmount())),
+            new Field("Number of Shares:", c -> c.getNumberOfShares().toString()),
+            new Field("Share Price:", c -> String.format("$%.2f", c.getSharePrice())));
+
+    private static final float STATEMENT_TOP = FIRST_ROW_Y - FIELDS.size() * ROW_HEIGHT - 20;
+    private static final Rectangle STATEMENT_AREA = new Rectangle(LEFT, STATEMENT_TOP - 80, RIGHT - LEFT, 80);
+    private static final float FOOTER_Y = STATEMENT_TOP - 130;
+
+    private final String key;
+    private final byte[] skeleton;
+    private final FontProgram regularFont;
+    private final FontProgram boldFont;
+
+    private CompiledCertificateTemplate(String key, byte[] skeleton, FontProgram regularFont, FontProgram boldFont) {
+        this.key = key;
+        this.skeleton = skeleton;
+        this.regularFont = regularFont;
+        this.boldFont = boldFont;
+    }
+
+    /**
+     * Lay out the static parts of a template. Logo and background images are optional.
+     */
+    static CompiledCertificateTemplate compile(String key, Color primaryColor, Color secondaryColor,
+                                               ImageData logo, ImageData background,
+                                               FontProgram regularFont, FontProgram boldFont) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos))) {
+            PdfPage page = pdfDoc.addNewPage(PageSize.A4);
+            Rectangle pageSize = page.getPageSize();
+            PdfCanvas pdfCanvas = new PdfCanvas(page);
+            PdfFont regular = font(regularFont);
+            PdfFont bold = font(boldFont);
+
+            // Background, border and logo are drawn once into a reusable form XObject
+            PdfFormXObject frame = new PdfFormXObject(pageSize);
+            PdfCanvas frameCanvas = new PdfCanvas(frame, pdfDoc);
+            if (background != null) {
+                frameCanvas.addXObjectFittedIntoRectangle(new PdfImageXObject(background), pageSize);
+            }
+            frameCanvas.setStrokeColor(primaryColor).setLineWidth(3)
+                    .rectangle(20, 20, pageSize.getWidth() - 40, pageSize.getHeight() - 40).stroke();
+            frameCanvas.setStrokeColor(secondaryColor).setLineWidth(1)
+                    .rectangle(28, 28, pageSize.getWidth() - 56, pageSize.getHeight() - 56).stroke();
+            if (logo != null) {
+                float height = 50;
+                float width = logo.getWidth() * height / logo.getHeight();
+                frameCanvas.addXObjectFittedIntoRectangle(new PdfImageXObject(logo),
+                        new Rectangle(LEFT, pageSize.getHeight() - 40 - height, width, height));
+            }
+            pdfCanvas.addXObjectAt(frame, 0, 0);
+
+            // Field grid
+            pdfCanvas.setStrokeColor(ColorConstants.LIGHT_GRAY).setLineWidth(0.5f);
+            for (int i = 0; i <= FIELDS.size(); i++) {
+                float y = FIRST_ROW_Y + ROW_HEIGHT - 6 - i * ROW_HEIGHT;
+                pdfCanvas.moveTo(LEFT, y).lineTo(RIGHT, y);
+            }
+            pdfCanvas.stroke();
+
+            try (Canvas canvas = new Canvas(pdfCanvas, pageSize)) {
+                canvas.showTextAligned(new Paragraph("E-SHARE CERTIFICATE").setFont(bold).setFontSize(24)
+                        .setFontColor(primaryColor), pageSize.getWidth() / 2, 770, TextAlignment.CENTER);
+
+                for (int i = 0; i < FIELDS.size(); i++) {
+                    canvas.showTextAligned(new Paragraph(FIELDS.get(i).label).setFont(bold).setFontSize(FONT_SIZE),
+                            LEFT + 4, rowY(i), TextAlignment.LEFT);
+                }
+
+                float lineY = FOOTER_Y;
+                for (String line : List.of("LifeTech Financial Services",
+                        "123 Financial District, Sydney NSW 2000",
+                        "Phone: +61 2 9999 8888 | Email: info@lifetech.com.au")) {
+                    canvas.showTextAligned(new Paragraph(line).setFont(regular).setFontSize(FONT_SIZE),
+                            pageSize.getWidth() / 2, lineY, TextAlignment.CENTER);
+                    lineY -= 14;
+                }
+
+                canvas.showTextAligned(new Paragraph("Digitally Signed").setFont(regular).setFontSize(FONT_SIZE)
+                        .setFontColor(ColorConstants.GRAY), RIGHT, FOOTER_Y - 90, TextAlignment.RIGHT);
+            }
+        }
+        return new CompiledCertificateTemplate(key, baos.toByteArray(), regularFont, boldFont);
+    }
+
+    /**
+     * Render a certificate by filling the variable fields into a copy of the skeleton
+     */
+    public byte[] render(Certificate certificate, LocalDateTime generatedAt) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(skeleton.length + 8192);
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(skeleton)), new PdfWriter(baos))) {
+            PdfPage page = pdfDoc.getFirstPage();
+            Rectangle pageSize = page.getPageSize();
+            PdfFont regular = font(regularFont);
+            PdfFont bold = font(boldFont);
+
+            try (Canvas canvas = new Canvas(new PdfCanvas(page), pageSize)) {
+                canvas.showTextAligned(new Paragraph("Certificate Number: " + certificate.getCertificateNumber())
+                        .setFont(bold).setFontSize(14), pageSize.getWidth() / 2, 735, TextAlignment.CENTER);
+
+                for (int i = 0; i < FIELDS.size(); i++) {
+                    String value = Objects.toString(FIELDS.get(i).value.apply(certificate), "");
+                    float fontSize = fittedFontSize(regular, value);
+                    canvas.showTextAligned(new Paragraph(fitted(regular, value, fontSize)).setFont(regular)
+                            .setFontSize(fontSize), VALUE_X, rowY(i), TextAlignment.LEFT);
+                }
+
+                canvas.showTextAligned(new Paragraph("Generated on: " + generatedAt.format(GENERATED_FORMAT))
+                        .setFont(regular).setFontSize(FONT_SIZE), pageSize.getWidth() / 2, FOOTER_Y - 42, TextAlignment.CENTER);
+            }
+
+            // The statement wraps, so it is laid out inside its fixed area, shrinking until it fits
+            try (Canvas statementCanvas = new Canvas(new PdfCanvas(page), STATEMENT_AREA)) {
+                String text = statement(certificate);
+                for (float fontSize = STATEMENT_FONT_SIZE; ; fontSize--) {
+                    Paragraph statement = new Paragraph(text).setFont(regular).setFontSize(fontSize)
+                            .setTextAlignment(TextAlignment.LEFT);
+                    if (fits(statementCanvas, statement)) {
+                        statementCanvas.add(statement);
+                        break;
+                    }
+                    if (fontSize <= MIN_STATEMENT_FONT_SIZE) {
+                        throw new IllegalStateException("Certificate statement does not fit the template for certificate: "
+                                + certificate.getCertificateNumber());
+                    }
+                }
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    private static String statement(Certificate certificate) {
+        return "This is to certify that "
+                + certificate.getClient().getFirstName() + " " + certificate.getClient().getLastName()
+                + " is the registered holder of "
+                + certificate.getNumberOfShares().toString()
+                + " shares in "
+                + certificate.getInvestment().getInvestmentName()
+                + " with a total investment value of "
+                + String.format("$%.2f", certificate.getInvestmentAmount())
+                + ".";
+    }
+
+    private static float fittedFontSize(PdfFont font, String value) {
+        float width = font.getWidth(value, FONT_SIZE);
+        if (width <= VALUE_WIDTH) {
+            return FONT_SIZE;
+        }
+        // Round down to a tenth of a point so the shrunk value is not a rounding error too wide
+        return Math.max(MIN_FONT_SIZE, (float) Math.floor(FONT_SIZE * VALUE_WIDTH / width * 10) / 10);
+    }
+
+    private static String fitted(PdfFont font, String value, float fontSize) {
+        if (font.getWidth(value, fontSize) <= VALUE_WIDTH) {
+            return value;
+        }
+        float available = VALUE_WIDTH - font.getWidth(ELLIPSIS, fontSize);
+        int end = value.length();
+        while (end > 0 && font.getWidth(value.substring(0, end), fontSize) > available) {
+            end--;
+        }
+        return value.substring(0, end) + ELLIPSIS;
+    }
+
+    private static boolean fits(Canvas canvas, Paragraph paragraph) {
+        IRenderer renderer = paragraph.createRendererSubTree().setParent(canvas.getRenderer());
+        LayoutResult result = renderer.layout(new LayoutContext(new LayoutArea(1, STATEMENT_AREA.clone())));
+        return result.getStatus() == LayoutResult.FULL;
+    }
+
+    private static float rowY(int row) {
+        return FIRST_ROW_Y - row * ROW_HEIGHT;
+    }
+
+    private static PdfFont font(FontProgram fontProgram) {
+        return PdfFontFactory.createFont(fontProgram, PdfEncodings.WINANSI);
+    }
+
+    private static class Field {
+        private final String label;
+        private final Function<Certificate, String> value;
+
+        private Field(String label, Function<Certificate, String> value) {
+            this.label = label;
+            this.value = value;
+        }
+    }
+}
@@ -7,22 +7,42 @@ import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.time.LocalDateTime;
 import java.util.Base64;
 
+/**
+ * Signs and verifies certificate documents. Key material is read from the keystore once and cached;
+ * when the keystore is a file it is reloaded after the file changes, checked at most once per check
+ * interval. Each thread keeps its own Signature instances, so signing a batch does not repeat the
+ * keystore decrypt or the provider lookup per document.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DigitalSignatureService {
 
+    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
     private final DigitalSignatureConfig signatureConfig;
     private final KeyStore keyStore;
 
+    private final ThreadLocal<CachedSignature> signers = new ThreadLocal<>();
+    private final ThreadLocal<CachedSignature> verifiers = new ThreadLocal<>();
+    private final Object keyLock = new Object();
+    private volatile KeyMaterial keyMaterial;
+    private volatile long lastCheckedAt;
+
     @Value("${digital-signature.enabled:false}")
     private boolean digitalSignatureEnabled;
 
+    @Value("${digital-signature.key-cache.check-interval-ms:60000}")
+    private long keyCheckIntervalMs = 60000;
+
     /**
      * Sign a document with digital signature
      */
@@ -40,9 +60,8 @@ public class DigitalSignatureService {
                 return generateMockSignature(documentContent, documentId);
             }
 
-            // Create signature
-            Signature signature = Signature.getInstance("SHA256withRSA", BouncyCastleProvider.PROVIDER_NAME);
-            signature.initSign(privateKey);
+            // Reuse this thread's signer, initialised once per key
+            Signature signature = signer(privateKey);
             
             // Add document content and metadata to signature
             String signatureData = documentId + ":" + LocalDateTime.now().toString();
@@ -56,6 +75,7 @@ public class DigitalSignatureService {
             return encodedSignature;
             
         } catch (Exception e) {
+            signers.remove();
             log.error("Failed to generate digital signature for document: {}", documentId, e);
             return generateMockSignature(documentContent, documentId);
         }
@@ -78,9 +98,8 @@ public class DigitalSignatureService {
                 return verifyMockSignature(documentContent, documentId, signatureToVerify);
             }
 
-            // Verify signature
-            Signature signature = Signature.getInstance("SHA256withRSA", BouncyCastleProvider.PROVIDER_NAME);
-            signature.initVerify(publicKey);
+            // Reuse this thread's verifier, initialised once per key
+            Signature signature = verifier(publicKey);
             
             String signatureData = documentId + ":" + LocalDateTime.now().toString();
             signature.update(documentContent);
@@ -93,6 +112,7 @@ public class DigitalSignatureService {
             return isValid;
             
         } catch (Exception e) {
+            verifiers.remove();
             log.error("Failed to verify digital signature for document: {}", documentId, e);
             return false;
         }
@@ -133,36 +153,110 @@ public class DigitalSignatureService {
     }
 
     private PrivateKey getPrivateKey() {
-        try {
-            return (PrivateKey) keyStore.getKey(
-                signatureConfig.getKeyAlias(), 
-                signatureConfig.getKeystorePassword().toCharArray()
-            );
+        return keyMaterial().privateKey;
+    }
+
+    private PublicKey getPublicKey() {
+        return keyMaterial().publicKey;
+    }
+
+    private Certificate getCertificate() {
+        return keyMaterial().certificate;
+    }
+
+    private KeyMaterial keyMaterial() {
+        KeyMaterial current = keyMaterial;
+        if (current != null && System.currentTimeMillis() - lastCheckedAt < keyCheckIntervalMs) {
+            return current;
+        }
+        synchronized (keyLock) {
+            current = keyMaterial;
+            if (current == null) {
+                current = load(keyStore, keystoreLastModified());
+            } else if (System.currentTimeMillis() - lastCheckedAt >= keyCheckIntervalMs) {
+                long lastModified = keystoreLastModified();
+                if (lastModified != current.sourceLastModified) {
+                    log.info("Keystore {} changed, reloading signing key", signatureConfig.getKeystorePath());
+                    current = reloadFromFile(current, lastModified);
+                }
+            }
+            keyMaterial = current;
+            lastCheckedAt = System.currentTimeMillis();
+            return current;
+        }
+    }
+
+    private KeyMaterial reloadFromFile(KeyMaterial current, long lastModified) {
+        char[] password = signatureConfig.getKeystorePassword().toCharArray();
+        try (InputStream in = Files.newInputStream(Path.of(signatureConfig.getKeystorePath()))) {
+            KeyStore reloaded = KeyStore.getInstance("PKCS12");
+            reloaded.load(in, password);
+            return load(reloaded, lastModified);
         } catch (Exception e) {
-            log.debug("Failed to get private key from keystore", e);
-            return null;
+            log.error("Failed to reload keystore {}, keeping the current signing key", signatureConfig.getKeystorePath(), e);
+            return new KeyMaterial(current.privateKey, current.certificate, lastModified);
         }
     }
 
-    private PublicKey getPublicKey() {
+    private KeyMaterial load(KeyStore source, long sourceLastModified) {
+        String alias = signatureConfig.getKeyAlias();
+        PrivateKey privateKey = null;
+        Certificate certificate = null;
         try {
-            Certificate certificate = getCertificate();
-            return certificate != null ? certificate.getPublicKey() : null;
+            privateKey = (PrivateKey) source.getKey(alias, signatureConfig.getKeystorePassword().toCharArray());
+        } catch (Exception e) {
+            log.debug("Failed to get private key from keystore", e);
+        }
+        try {
+            certificate = source.getCertificate(alias);
         } catch (Exception e) {
-            log.debug("Failed to get public key from certificate", e);
-            return null;
+            log.debug("Failed to get certificate from keystore", e);
         }
+        return new KeyMaterial(privateKey, certificate, sourceLastModified);
     }
 
-    private Certificate getCertificate() {
+    /**
+     * Last-modified time of a file-system keystore, or 0 for classpath and missing keystores
+     */
+    private long keystoreLastModified() {
+        String path = signatureConfig.getKeystorePath();
+        if (path == null || path.startsWith("classpath:")) {
+            return 0;
+        }
         try {
-            return keyStore.getCertificate(signatureConfig.getKeyAlias());
+            return Files.getLastModifiedTime(Path.of(path)).toMillis();
         } catch (Exception e) {
-            log.debug("Failed to get certificate from keystore", e);
-            return null;
+            log.debug("Could not read keystore modification time for {}", path, e);
+            return 0;
         }
     }
 
+    private Signature signer(PrivateKey privateKey) throws GeneralSecurityException {
+        CachedSignature cached = signers.get();
+        if (cached == null || cached.key != privateKey) {
+            Signature signature = newSignature();
+            signature.initSign(privateKey);
+            cached = new CachedSignature(signature, privateKey);
+            signers.set(cached);
+        }
+        return cached.signature;
+    }
+
+    private Signature verifier(PublicKey publicKey) throws GeneralSecurityException {
+        CachedSignature cached = verifiers.get();
+        if (cached == null || cached.key != publicKey) {
+            Signature signature = newSignature();
+            signature.initVerify(publicKey);
+            cached = new CachedSignature(signature, publicKey);
+            verifiers.set(cached);
+        }
+        return cached.signature;
+    }
+
+    private Signature newSignature() throws GeneralSecurityException {
+        return Signature.getInstance(SIGNATURE_ALGORITHM, BouncyCastleProvider.PROVIDER_NAME);
+    }
+
     private String generateMockSignature(byte[] documentContent, String documentId) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
@@ -189,4 +283,28 @@ public class DigitalSignatureService {
         // For mock signatures, we just check if it's properly formatted
         return signatureToVerify.length() > 10 && signatureToVerify.matches("MOCK_SIG_[a-f0-9]+");
     }
-} 
\ No newline at end of file
+
+    private static class KeyMaterial {
+        private final PrivateKey privateKey;
+        private final Certificate certificate;
+        private final PublicKey publicKey;
+        private final long sourceLastModified;
+
+        private KeyMaterial(PrivateKey privateKey, Certificate certificate, long sourceLastModified) {
+            this.privateKey = privateKey;
+            this.certificate = certificate;
+            this.publicKey = certificate != null ? certificate.getPublicKey() : null;
+            this.sourceLastModified = sourceLastModified;
+        }
+    }
+
+    private static class CachedSignature {
+        private final Signature signature;
+        private final Key key;
+
+        private CachedSignature(Signature signature, Key key) {
+            this.signature = signature;
+            this.key = key;
+        }
+    }
+}
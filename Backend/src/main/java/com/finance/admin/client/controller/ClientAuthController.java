@@ -244,16 +244,8 @@ public class ClientAuthController {
     }
 
     private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIP = request.getHeader("X-Real-IP");
-        if (xRealIP != null && !xRealIP.isEmpty()) {
-            return xRealIP;
-        }
-        
+        // Forwarded headers are set by the client unless a trusted proxy rewrote them, and this address keys
+        // the per-IP login lockout; the container resolves proxied addresses (server.forward-headers-strategy)
         return request.getRemoteAddr();
     }
 } 
\ No newline at end of file
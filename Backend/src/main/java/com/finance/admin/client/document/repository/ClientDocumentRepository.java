@@ -4,9 +4,11 @@ import com.finance.admin.client.document.model.ClientDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -93,6 +95,24 @@ public interface ClientDocumentRepository extends JpaRepository<ClientDocument,
     List<ClientDocument> searchDocuments(@Param("clientId") Long clientId, 
                                         @Param("searchTerm") String searchTerm);
 
+    /**
+     * Search documents by name, description, or tags, one sorted page at a time.
+     * The LOWER(...) LIKE predicates are served by the trigram indexes from V13 on PostgreSQL.
+     */
+    @Query(value = "SELECT d FROM ClientDocument d WHERE d.client.id = :clientId " +
+           "AND d.isActive = true " +
+           "AND (LOWER(d.documentName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR LOWER(d.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR LOWER(d.tags) LIKE LOWER(CONCAT('%', :searchTerm, '%')))",
+           countQuery = "SELECT COUNT(d) FROM ClientDocument d WHERE d.client.id = :clientId " +
+           "AND d.isActive = true " +
+           "AND (LOWER(d.documentName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR LOWER(d.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR LOWER(d.tags) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+    Page<ClientDocument> searchDocuments(@Param("clientId") Long clientId,
+                                        @Param("searchTerm") String searchTerm,
+                                        Pageable pageable);
+
     /**
      * Find documents expiring soon
      */
@@ -138,6 +158,25 @@ public interface ClientDocumentRepository extends JpaRepository<ClientDocument,
            "GROUP BY d.documentStatus")
     List<Object[]> countDocumentsByStatus(@Param("clientId") Long clientId);
 
+    /**
+     * Get all list-page statistics for a client in one pass, one row per category/type/status combination.
+     * Columns: category, type, status, count, total file size, recent uploads, expiring soon, expired,
+     * uploaded by client, total access count, latest upload date
+     */
+    @Query("SELECT d.documentCategory, d.documentType, d.documentStatus, COUNT(d), " +
+           "COALESCE(SUM(d.fileSize), 0), " +
+           "SUM(CASE WHEN d.uploadDate >= :recentSince THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN d.expiryDate BETWEEN :now AND :expiringBefore THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN d.expiryDate < :now THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN d.uploadedByClient = true THEN 1 ELSE 0 END), " +
+           "COALESCE(SUM(d.accessCount), 0), MAX(d.uploadDate) " +
+           "FROM ClientDocument d WHERE d.client.id = :clientId AND d.isActive = true " +
+           "GROUP BY d.documentCategory, d.documentType, d.documentStatus")
+    List<Object[]> getDocumentStatisticsRows(@Param("clientId") Long clientId,
+                                             @Param("now") LocalDateTime now,
+                                             @Param("recentSince") LocalDateTime recentSince,
+                                             @Param("expiringBefore") LocalDateTime expiringBefore);
+
     /**
      * Find recently uploaded documents
      */
@@ -189,4 +228,17 @@ public interface ClientDocumentRepository extends JpaRepository<ClientDocument,
     @Query("SELECT COALESCE(SUM(d.fileSize), 0) FROM ClientDocument d " +
            "WHERE d.client.id = :clientId AND d.isActive = true")
     Long getTotalFileSizeForClient(@Param("clientId") Long clientId);
-} 
\ No newline at end of file
+
+    /**
+     * Apply buffered access counts to a batch of documents
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ClientDocument d SET d.accessCount = COALESCE(d.accessCount, 0) + :increment, " +
+           "d.lastAccessedDate = CASE WHEN d.lastAccessedDate IS NULL OR d.lastAccessedDate < :accessedAt " +
+           "THEN :accessedAt ELSE d.lastAccessedDate END " +
+           "WHERE d.id IN :documentIds")
+    int incrementAccessCounts(@Param("documentIds") List<Long> documentIds,
+                              @Param("increment") int increment,
+                              @Param("accessedAt") LocalDateTime accessedAt);
+}
@@ -8,6 +8,8 @@ import com.finance.admin.common.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +26,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -40,6 +43,7 @@ public class ClientDocumentService {
 
     private final ClientDocumentRepository documentRepository;
     private final ClientRepository clientRepository;
+    private final DocumentAccessTracker accessTracker;
 
     @Value("${app.document.upload.path:/tmp/documents}")
     private String uploadPath;
@@ -81,8 +85,7 @@ public class ClientDocumentService {
         // Get filtered documents
         Page<ClientDocument> documentsPage;
         if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-            List<ClientDocument> searchResults = documentRepository.searchDocuments(clientId, searchTerm);
-            documentsPage = convertListToPage(searchResults, pageable);
+            documentsPage = documentRepository.searchDocuments(clientId, searchTerm.trim(), pageable);
         } else {
             documentsPage = documentRepository.findWithFilters(clientId, documentType, 
                                                               documentCategory, documentStatus, 
@@ -94,13 +97,8 @@ public class ClientDocumentService {
             .map(this::convertToResponse)
             .collect(Collectors.toList());
         
-        // Get statistics
-        DocumentListResponse.DocumentStatistics statistics = getDocumentStatistics(clientId);
-        
-        // Get counts by category/type/status
-        Map<String, Integer> categoryCount = getCategoryCount(clientId);
-        Map<String, Integer> typeCount = getTypeCount(clientId);
-        Map<String, Integer> statusCount = getStatusCount(clientId);
+        // Get statistics and counts by category/type/status
+        DocumentListResponse summary = buildStatistics(clientId);
         
         // Create pagination info
         DocumentListResponse.PaginationInfo paginationInfo = DocumentListResponse.PaginationInfo.builder()
@@ -114,10 +112,10 @@ public class ClientDocumentService {
         
         return DocumentListResponse.builder()
             .documents(documentResponses)
-            .statistics(statistics)
-            .categoryCount(categoryCount)
-            .typeCount(typeCount)
-            .statusCount(statusCount)
+            .statistics(summary.getStatistics())
+            .categoryCount(summary.getCategoryCount())
+            .typeCount(summary.getTypeCount())
+            .statusCount(summary.getStatusCount())
             .pagination(paginationInfo)
             .build();
     }
@@ -125,23 +123,31 @@ public class ClientDocumentService {
     /**
      * Get a specific document by ID
      */
+    @Transactional(readOnly = true)
     public ClientDocumentResponse getDocumentById(Long clientId, Long documentId) {
         log.info("Getting document {} for client: {}", documentId, clientId);
         
         ClientDocument document = documentRepository.findByIdAndClientId(documentId, clientId)
             .orElseThrow(() -> new ResourceNotFoundException("Document not found"));
         
-        // Increment access count
-        document.incrementAccessCount();
-        documentRepository.save(document);
+        // Record the access; the count is written back in the next batched flush
+        long pendingAccesses = accessTracker.recordAccess(documentId);
         
-        return convertToResponse(document);
+        ClientDocumentResponse response = convertToResponse(document);
+        int storedAccesses = document.getAccessCount() != null ? document.getAccessCount() : 0;
+        response.setAccessCount((int) (storedAccesses + pendingAccesses));
+        response.setLastAccessedDate(LocalDateTime.now());
+        return response;
     }
 
     /**
      * Download a document
+     * The file is returned as a resource and streamed by the message converter after this
+     * method returns, so it is never buffered on the heap. Spring MVC answers Range requests
+     * with 206 partial content and If-None-Match / If-Modified-Since with 304 from the headers set here.
      */
-    public ResponseEntity<byte[]> downloadDocument(Long clientId, Long documentId) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<Resource> downloadDocument(Long clientId, Long documentId) {
         log.info("Downloading document {} for client: {}", documentId, clientId);
         
         ClientDocument document = documentRepository.findByIdAndClientId(documentId, clientId)
@@ -149,20 +155,23 @@ public class ClientDocumentService {
         
         try {
             Path filePath = Paths.get(document.getFilePath());
-            byte[] fileContent = Files.readAllBytes(filePath);
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            long lastModified = attributes.lastModifiedTime().toMillis();
             
-            // Increment access count
-            document.incrementAccessCount();
-            documentRepository.save(document);
+            // Record the access; the count is written back in the next batched flush
+            accessTracker.recordAccess(documentId);
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.parseMediaType(document.getMimeType()));
             headers.setContentDispositionFormData("attachment", document.getDocumentName());
-            headers.setContentLength(fileContent.length);
+            headers.setContentLength(attributes.size());
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+            headers.setETag("\"" + document.getId() + "-" + Long.toHexString(lastModified) + "-" + Long.toHexString(attributes.size()) + "\"");
+            headers.setLastModified(lastModified);
             
             return ResponseEntity.ok()
                 .headers(headers)
-                .body(fileContent);
+                .body(new FileSystemResource(filePath));
                 
         } catch (IOException e) {
             log.error("Error reading file: {}", e.getMessage());
@@ -410,77 +419,72 @@ public class ClientDocumentService {
             .build();
     }
 
-    private DocumentListResponse.DocumentStatistics getDocumentStatistics(Long clientId) {
-        long totalDocuments = documentRepository.countByClientIdAndIsActiveTrue(clientId);
-        Long totalFileSize = documentRepository.getTotalFileSizeForClient(clientId);
-        
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        List<ClientDocument> recentUploads = documentRepository.findRecentUploads(clientId, thirtyDaysAgo);
-        
-        LocalDateTime sevenDaysFromNow = LocalDateTime.now().plusDays(7);
-        List<ClientDocument> expiringSoon = documentRepository.findExpiringSoon(clientId, 
-                                                                                LocalDateTime.now(), 
-                                                                                sevenDaysFromNow);
-        
-        List<ClientDocument> expired = documentRepository.findExpired(clientId, LocalDateTime.now());
-        
-        List<ClientDocument> uploadedByClient = documentRepository
-            .findByClientIdAndUploadedByClientTrueAndIsActiveTrue(clientId);
-        
-        List<ClientDocument> allDocuments = documentRepository.findByClientIdAndIsActiveTrue(clientId);
-        OptionalDouble averageAccess = allDocuments.stream()
-            .mapToInt(ClientDocument::getAccessCount)
-            .average();
-        
-        LocalDateTime lastUpload = allDocuments.stream()
-            .map(ClientDocument::getUploadDate)
-            .filter(Objects::nonNull)
-            .max(LocalDateTime::compareTo)
-            .orElse(null);
-        
-        return DocumentListResponse.DocumentStatistics.builder()
+    /**
+     * Build the list-page statistics and category/type/status counts from a single grouped query
+     */
+    private DocumentListResponse buildStatistics(Long clientId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = documentRepository.getDocumentStatisticsRows(
+            clientId, now, now.minusDays(30), now.plusDays(7));
+
+        long totalDocuments = 0;
+        long totalFileSize = 0;
+        long recentUploads = 0;
+        long expiringSoon = 0;
+        long expired = 0;
+        long uploadedByClient = 0;
+        long totalAccessCount = 0;
+        LocalDateTime lastUpload = null;
+        Map<String, Integer> categoryCount = new HashMap<>();
+        Map<String, Integer> typeCount = new HashMap<>();
+        Map<String, Integer> statusCount = new HashMap<>();
+
+        for (Object[] row : rows) {
+            int count = ((Number) row[3]).intValue();
+            if (row[0] != null) {
+                categoryCount.merge(((ClientDocument.DocumentCategory) row[0]).getDisplayName(), count, Integer::sum);
+            }
+            if (row[1] != null) {
+                typeCount.merge(((ClientDocument.DocumentType) row[1]).getDisplayName(), count, Integer::sum);
+            }
+            if (row[2] != null) {
+                statusCount.merge(((ClientDocument.DocumentStatus) row[2]).getDisplayName(), count, Integer::sum);
+            }
+            totalDocuments += count;
+            totalFileSize += toLong(row[4]);
+            recentUploads += toLong(row[5]);
+            expiringSoon += toLong(row[6]);
+            expired += toLong(row[7]);
+            uploadedByClient += toLong(row[8]);
+            totalAccessCount += toLong(row[9]);
+            LocalDateTime groupLastUpload = (LocalDateTime) row[10];
+            if (groupLastUpload != null && (lastUpload == null || groupLastUpload.isAfter(lastUpload))) {
+                lastUpload = groupLastUpload;
+            }
+        }
+
+        DocumentListResponse.DocumentStatistics statistics = DocumentListResponse.DocumentStatistics.builder()
             .totalDocuments(totalDocuments)
             .totalFileSize(totalFileSize)
             .totalFileSizeFormatted(ClientDocumentResponse.formatFileSize(totalFileSize))
-            .recentUploads(recentUploads.size())
-            .expiringSoon(expiringSoon.size())
-            .expiredDocuments(expired.size())
-            .uploadedByClient(uploadedByClient.size())
-            .systemDocuments((int)(totalDocuments - uploadedByClient.size()))
+            .recentUploads((int) recentUploads)
+            .expiringSoon((int) expiringSoon)
+            .expiredDocuments((int) expired)
+            .uploadedByClient((int) uploadedByClient)
+            .systemDocuments((int) (totalDocuments - uploadedByClient))
             .lastUploadDate(lastUpload)
-            .averageAccessCount(averageAccess.isPresent() ? (int)averageAccess.getAsDouble() : 0)
+            .averageAccessCount(totalDocuments > 0 ? (int) (totalAccessCount / totalDocuments) : 0)
             .build();
-    }
-
-    private Map<String, Integer> getCategoryCount(Long clientId) {
-        List<Object[]> results = documentRepository.countDocumentsByCategory(clientId);
-        return results.stream().collect(Collectors.toMap(
-            result -> ((ClientDocument.DocumentCategory) result[0]).getDisplayName(),
-            result -> ((Long) result[1]).intValue()
-        ));
-    }
 
-    private Map<String, Integer> getTypeCount(Long clientId) {
-        List<Object[]> results = documentRepository.countDocumentsByType(clientId);
-        return results.stream().collect(Collectors.toMap(
-            result -> ((ClientDocument.DocumentType) result[0]).getDisplayName(),
-            result -> ((Long) result[1]).intValue()
-        ));
-    }
-
-    private Map<String, Integer> getStatusCount(Long clientId) {
-        List<Object[]> results = documentRepository.countDocumentsByStatus(clientId);
-        return results.stream().collect(Collectors.toMap(
-            result -> ((ClientDocument.DocumentStatus) result[0]).getDisplayName(),
-            result -> ((Long) result[1]).intValue()
-        ));
+        return DocumentListResponse.builder()
+            .statistics(statistics)
+            .categoryCount(categoryCount)
+            .typeCount(typeCount)
+            .statusCount(statusCount)
+            .build();
     }
 
-    @SuppressWarnings("unchecked")
-    private Page<ClientDocument> convertListToPage(List<ClientDocument> list, Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), list.size());
-        List<ClientDocument> pageContent = start >= list.size() ? new ArrayList<>() : list.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, list.size());
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.finance.admin.client.document.service;
+
+import com.finance.admin.client.document.repository.ClientDocumentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buffers document access counts in memory and writes them back in batches.
+ * Viewing or downloading a document only bumps an in-memory counter; a scheduled flush
+ * applies the accumulated increments with one UPDATE per distinct increment and
+ * last-access second, so reads no longer take a row lock on client_documents.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentAccessTracker {
+
+    private final ClientDocumentRepository documentRepository;
+
+    // Increments and removals both go through the map's per-bin locks, so no access is lost between them
+    private final ConcurrentHashMap<Long, PendingAccess> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Record one access to a document
+     *
+     * @param documentId Accessed document
+     * @return Accesses recorded for the document that have not been flushed yet, including this one
+     */
+    public long recordAccess(Long documentId) {
+        return recordAccess(documentId, LocalDateTime.now());
+    }
+
+    long recordAccess(Long documentId, LocalDateTime accessedAt) {
+        // Whole seconds, so documents accessed in the same second can share a flush UPDATE
+        LocalDateTime now = accessedAt.truncatedTo(ChronoUnit.SECONDS);
+        PendingAccess access = pending.compute(documentId, (id, current) -> {
+            PendingAccess next = current != null ? current : new PendingAccess();
+            next.count++;
+            if (next.lastAccessed == null || next.lastAccessed.isBefore(now)) {
+                next.lastAccessed = now;
+            }
+            return next;
+        });
+        return access.count;
+    }
+
+    /**
+     * Write all buffered access counts to the database
+     */
+    @Scheduled(fixedDelayString = "${app.document.access-flush-interval-ms:5000}")
+    @PreDestroy
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PendingAccess> drained = new HashMap<>();
+        for (Long documentId : pending.keySet()) {
+            PendingAccess access = pending.remove(documentId);
+            if (access != null) {
+                drained.put(documentId, access);
+            }
+        }
+
+        // Documents with the same increment and last access time share one UPDATE
+        Map<UpdateGroup, List<Long>> idsByGroup = new HashMap<>();
+        drained.forEach((documentId, access) ->
+            idsByGroup.computeIfAbsent(new UpdateGroup(access.count, access.lastAccessed), group -> new ArrayList<>())
+                .add(documentId));
+
+        for (Map.Entry<UpdateGroup, List<Long>> entry : idsByGroup.entrySet()) {
+            UpdateGroup group = entry.getKey();
+            List<Long> documentIds = entry.getValue();
+            try {
+                documentRepository.incrementAccessCounts(documentIds, (int) group.increment, group.lastAccessed);
+            } catch (Exception e) {
+                log.error("Failed to flush access counts for {} documents: {}", documentIds.size(), e.getMessage());
+                // Put the increments back so the next flush retries them
+                for (Long documentId : documentIds) {
+                    PendingAccess access = drained.get(documentId);
+                    pending.merge(documentId, access, (current, retry) -> {
+                        current.count += retry.count;
+                        if (current.lastAccessed.isBefore(retry.lastAccessed)) {
+                            current.lastAccessed = retry.lastAccessed;
+                        }
+                        return current;
+                    });
+                }
+            }
+        }
+        log.debug("Flushed access counts for {} documents", drained.size());
+    }
+
+    private static final class UpdateGroup {
+        private final long increment;
+        private final LocalDateTime lastAccessed;
+
+        private UpdateGroup(long increment, LocalDateTime lastAccessed) {
+            this.increment = increment;
+            this.lastAccessed = lastAccessed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof UpdateGroup other)) {
+                return false;
+            }
+            return increment == other.increment && lastAccessed.equals(other.lastAccessed);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(increment, lastAccessed);
+        }
+    }
+
+    private static final class PendingAccess {
+        private long count;
+        private LocalDateTime lastAccessed;
+    }
+}
@@ -0,0 +1,218 @@
+package com.finance.admin.client.investment.portfolio;
+
+import com.finance.admin.investment.model.Investment;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Portfolio-wide figures computed in one pass over a {@link PortfolioSnapshot}:
+ * totals, per-status / per-risk / per-type breakdowns, best and worst performers
+ * and maturity windows. All client investment endpoints read from this instead of
+ * re-streaming the entity list.
+ */
+public final class PortfolioAggregate {
+
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private static final Investment.InvestmentStatus[] STATUSES = Investment.InvestmentStatus.values();
+    private static final Investment.RiskRating[] RISKS = Investment.RiskRating.values();
+    private static final Investment.InvestmentType[] TYPES = Investment.InvestmentType.values();
+
+    private final PortfolioSnapshot snapshot;
+    private final LocalDate asOf;
+
+    private long investedCents;
+    private long currentCents;
+
+    private final int[] statusCounts = new int[STATUSES.length];
+    private final long[] statusInvestedCents = new long[STATUSES.length];
+    private final int[] riskCounts = new int[RISKS.length];
+    private final long[] riskInvestedCents = new long[RISKS.length];
+    private final int[] typeCounts = new int[TYPES.length];
+    private final long[] typeInvestedCents = new long[TYPES.length];
+    private final long[] typeCurrentCents = new long[TYPES.length];
+
+    private int bestIndex = -1;
+    private int worstIndex = -1;
+    private int maturingWithin30Days;
+    private int maturingWithin90Days;
+    private int latestPurchaseDay = PortfolioSnapshot.NO_DATE;
+
+    private PortfolioAggregate(PortfolioSnapshot snapshot, LocalDate asOf) {
+        this.snapshot = snapshot;
+        this.asOf = asOf;
+    }
+
+    static PortfolioAggregate compute(PortfolioSnapshot snapshot, LocalDate asOf) {
+        PortfolioAggregate aggregate = new PortfolioAggregate(snapshot, asOf);
+        int today = (int) asOf.toEpochDay();
+        int activeOrdinal = Investment.InvestmentStatus.ACTIVE.ordinal();
+        double bestRatio = Double.NEGATIVE_INFINITY;
+        double worstRatio = Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i < snapshot.size(); i++) {
+            long invested = snapshot.investedCents(i);
+            long current = snapshot.currentCents(i);
+            aggregate.investedCents += invested;
+            aggregate.currentCents += current;
+
+            byte status = snapshot.statusOrdinal(i);
+            if (status != PortfolioSnapshot.NO_ORDINAL) {
+                aggregate.statusCounts[status]++;
+                aggregate.statusInvestedCents[status] += invested;
+            }
+            byte risk = snapshot.riskOrdinal(i);
+            if (risk != PortfolioSnapshot.NO_ORDINAL) {
+                aggregate.riskCounts[risk]++;
+                aggregate.riskInvestedCents[risk] += invested;
+            }
+            byte type = snapshot.typeOrdinal(i);
+            if (type != PortfolioSnapshot.NO_ORDINAL) {
+                aggregate.typeCounts[type]++;
+                aggregate.typeInvestedCents[type] += invested;
+                aggregate.typeCurrentCents[type] += current;
+            }
+
+            if (snapshot.isValued(i) && invested > 0) {
+                double ratio = (double) (current - invested) / invested;
+                if (ratio > bestRatio) {
+                    bestRatio = ratio;
+                    aggregate.bestIndex = i;
+                }
+                if (ratio < worstRatio) {
+                    worstRatio = ratio;
+                    aggregate.worstIndex = i;
+                }
+            }
+
+            int maturity = snapshot.maturityDay(i);
+            if (status == activeOrdinal && maturity != PortfolioSnapshot.NO_DATE && maturity >= today) {
+                if (maturity - today <= 30) aggregate.maturingWithin30Days++;
+                if (maturity - today <= 90) aggregate.maturingWithin90Days++;
+            }
+            aggregate.latestPurchaseDay = Math.max(aggregate.latestPurchaseDay, snapshot.purchaseDay(i));
+        }
+        return aggregate;
+    }
+
+    public PortfolioSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public int getCount() {
+        return snapshot.size();
+    }
+
+    public BigDecimal getTotalInvested() {
+        return PortfolioSnapshot.fromCents(investedCents);
+    }
+
+    public BigDecimal getTotalCurrentValue() {
+        return PortfolioSnapshot.fromCents(currentCents);
+    }
+
+    public BigDecimal getTotalReturns() {
+        return PortfolioSnapshot.fromCents(currentCents - investedCents);
+    }
+
+    /**
+     * Overall return as a percentage of the invested amount
+     */
+    public BigDecimal getReturnPercentage() {
+        return percentage(currentCents - investedCents, investedCents);
+    }
+
+    public int getStatusCount(Investment.InvestmentStatus status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    public BigDecimal getStatusInvested(Investment.InvestmentStatus status) {
+        return PortfolioSnapshot.fromCents(statusInvestedCents[status.ordinal()]);
+    }
+
+    public int getRiskCount(Investment.RiskRating risk) {
+        return riskCounts[risk.ordinal()];
+    }
+
+    public BigDecimal getRiskInvested(Investment.RiskRating risk) {
+        return PortfolioSnapshot.fromCents(riskInvestedCents[risk.ordinal()]);
+    }
+
+    public int getTypeCount(Investment.InvestmentType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    public BigDecimal getTypeInvested(Investment.InvestmentType type) {
+        return PortfolioSnapshot.fromCents(typeInvestedCents[type.ordinal()]);
+    }
+
+    public BigDecimal getTypeCurrentValue(Investment.InvestmentType type) {
+        return PortfolioSnapshot.fromCents(typeCurrentCents[type.ordinal()]);
+    }
+
+    /**
+     * Share of the total invested amount, as a percentage
+     */
+    public BigDecimal shareOfInvested(BigDecimal amount) {
+        return percentage(PortfolioSnapshot.toCents(amount), investedCents);
+    }
+
+    /**
+     * Share of the total current value, as a percentage
+     */
+    public BigDecimal shareOfCurrentValue(BigDecimal amount) {
+        return percentage(PortfolioSnapshot.toCents(amount), currentCents);
+    }
+
+    public boolean hasPerformers() {
+        return bestIndex >= 0;
+    }
+
+    public String getBestPerformerName() {
+        return bestIndex >= 0 ? snapshot.getName(bestIndex) : null;
+    }
+
+    public BigDecimal getBestPerformerReturn() {
+        return bestIndex >= 0 ? returnPercentageOf(bestIndex) : null;
+    }
+
+    public String getWorstPerformerName() {
+        return worstIndex >= 0 ? snapshot.getName(worstIndex) : null;
+    }
+
+    public BigDecimal getWorstPerformerReturn() {
+        return worstIndex >= 0 ? returnPercentageOf(worstIndex) : null;
+    }
+
+    public int getMaturingWithin30Days() {
+        return maturingWithin30Days;
+    }
+
+    public int getMaturingWithin90Days() {
+        return maturingWithin90Days;
+    }
+
+    public LocalDate getLatestPurchaseDate() {
+        return latestPurchaseDay != PortfolioSnapshot.NO_DATE ? LocalDate.ofEpochDay(latestPurchaseDay) : null;
+    }
+
+    private BigDecimal returnPercentageOf(int index) {
+        long invested = snapshot.investedCents(index);
+        return percentage(snapshot.currentCents(index) - invested, invested);
+    }
+
+    private static BigDecimal percentage(long partCents, long totalCents) {
+        if (totalCents <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(partCents)
+            .divide(BigDecimal.valueOf(totalCents), 4, RoundingMode.HALF_UP)
+            .multiply(HUNDRED);
+    }
+}
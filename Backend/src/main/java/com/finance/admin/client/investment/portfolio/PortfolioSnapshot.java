@@ -0,0 +1,173 @@
+package com.finance.admin.client.investment.portfolio;
+
+import com.finance.admin.investment.model.Investment;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Compact, immutable view of a client's holdings.
+ * Amounts are stored as scaled longs (cents) and enums as ordinals in parallel arrays,
+ * so aggregating a portfolio is a single pass over primitives instead of repeated
+ * BigDecimal streams over the entity list.
+ */
+public final class PortfolioSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int AMOUNT_SCALE = 2;
+    static final byte NO_ORDINAL = -1;
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    private final Long clientId;
+    private final int size;
+    private final long[] ids;
+    private final String[] names;
+    private final byte[] types;
+    private final byte[] risks;
+    private final byte[] statuses;
+    private final long[] investedCents;
+    private final long[] currentCents;
+    private final boolean[] valued;
+    private final int[] purchaseDays;
+    private final int[] maturityDays;
+
+    private transient volatile PortfolioAggregate aggregate;
+
+    private PortfolioSnapshot(Long clientId, int size) {
+        this.clientId = clientId;
+        this.size = size;
+        this.ids = new long[size];
+        this.names = new String[size];
+        this.types = new byte[size];
+        this.risks = new byte[size];
+        this.statuses = new byte[size];
+        this.investedCents = new long[size];
+        this.currentCents = new long[size];
+        this.valued = new boolean[size];
+        this.purchaseDays = new int[size];
+        this.maturityDays = new int[size];
+    }
+
+    /**
+     * Build a snapshot from the client's investment entities
+     *
+     * @param clientId Owning client
+     * @param investments Investments loaded for the client
+     * @return Snapshot holding one row per investment
+     */
+    public static PortfolioSnapshot of(Long clientId, List<Investment> investments) {
+        PortfolioSnapshot snapshot = new PortfolioSnapshot(clientId, investments.size());
+        for (int i = 0; i < snapshot.size; i++) {
+            Investment investment = investments.get(i);
+            snapshot.ids[i] = investment.getId() != null ? investment.getId() : 0L;
+            snapshot.names[i] = investment.getInvestmentName();
+            snapshot.types[i] = ordinalOf(investment.getInvestmentType());
+            snapshot.risks[i] = ordinalOf(investment.getRiskRating());
+            snapshot.statuses[i] = ordinalOf(investment.getStatus());
+            snapshot.investedCents[i] = toCents(investment.getInitialAmount());
+            snapshot.valued[i] = investment.getCurrentValue() != null;
+            // Unvalued holdings are carried at cost, matching Investment.getCurrentReturn()
+            snapshot.currentCents[i] = snapshot.valued[i]
+                ? toCents(investment.getCurrentValue()) : snapshot.investedCents[i];
+            snapshot.purchaseDays[i] = toEpochDay(investment.getPurchaseDate());
+            snapshot.maturityDays[i] = toEpochDay(investment.getMaturityDate());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get the aggregate figures for this snapshot, computing them at most once per day
+     *
+     * @param asOf Reference date for maturity windows
+     * @return Aggregate computed in a single pass
+     */
+    public PortfolioAggregate aggregate(LocalDate asOf) {
+        PortfolioAggregate current = aggregate;
+        if (current == null || !current.getAsOf().equals(asOf)) {
+            current = PortfolioAggregate.compute(this, asOf);
+            aggregate = current;
+        }
+        return current;
+    }
+
+    public PortfolioAggregate aggregate() {
+        return aggregate(LocalDate.now());
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    // Package-private column accessors used by PortfolioAggregate
+
+    byte typeOrdinal(int index) {
+        return types[index];
+    }
+
+    byte riskOrdinal(int index) {
+        return risks[index];
+    }
+
+    byte statusOrdinal(int index) {
+        return statuses[index];
+    }
+
+    long investedCents(int index) {
+        return investedCents[index];
+    }
+
+    long currentCents(int index) {
+        return currentCents[index];
+    }
+
+    boolean isValued(int index) {
+        return valued[index];
+    }
+
+    int purchaseDay(int index) {
+        return purchaseDays[index];
+    }
+
+    int maturityDay(int index) {
+        return maturityDays[index];
+    }
+
+    static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, AMOUNT_SCALE);
+    }
+
+    private static byte ordinalOf(Enum<?> value) {
+        return value != null ? (byte) value.ordinal() : NO_ORDINAL;
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return date != null ? (int) date.toEpochDay() : NO_DATE;
+    }
+}
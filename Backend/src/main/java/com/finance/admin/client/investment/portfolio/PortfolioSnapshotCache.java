@@ -0,0 +1,156 @@
+package com.finance.admin.client.investment.portfolio;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Two-tier cache of per-client portfolio snapshots.
+ * The in-process tier serves repeat reads from memory; misses fall through to
+ * {@link PortfolioSnapshotLoader} (Redis, then the database). Investment writes
+ * call {@link #invalidate(Long)}, which clears both tiers once the writing
+ * transaction has committed. Other nodes drop their local copy when its TTL expires.
+ * <p>
+ * A read that loaded the pre-write state can finish after the eviction. Locally it is
+ * only cached if no eviction happened while it was loading; for the shared tier the
+ * eviction is repeated after a short delay, so such a snapshot outlives the write by
+ * at most that delay.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioSnapshotCache {
+
+    private final PortfolioSnapshotLoader loader;
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Map<Long, LocalEntry> localEntries = new ConcurrentHashMap<>();
+
+    // Bumped on every eviction of a client in the stripe; a load only caches if it is unchanged
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final ScheduledExecutorService delayedEvictions = createDelayedEvictionExecutor();
+
+    @Value("${app.investment.portfolio-cache.local-ttl-seconds:30}")
+    private long localTtlSeconds = 30;
+
+    @Value("${app.investment.portfolio-cache.local-max-entries:10000}")
+    private int localMaxEntries = 10000;
+
+    @Value("${app.investment.portfolio-cache.re-evict-delay-ms:2000}")
+    private long reEvictDelayMs = 2000;
+
+    /**
+     * Get the client's portfolio snapshot, loading it on a miss
+     *
+     * @param clientId Client ID
+     * @return Cached or freshly loaded snapshot
+     */
+    public PortfolioSnapshot get(Long clientId) {
+        long now = System.currentTimeMillis();
+        LocalEntry entry = localEntries.get(clientId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.snapshot;
+        }
+
+        long generation = generations.get(stripe(clientId));
+        PortfolioSnapshot snapshot = loader.load(clientId);
+        if (localTtlSeconds > 0 && generations.get(stripe(clientId)) == generation) {
+            if (localEntries.size() >= localMaxEntries) {
+                evictExpired(now);
+            }
+            if (localEntries.size() < localMaxEntries) {
+                localEntries.put(clientId, new LocalEntry(snapshot, now + localTtlSeconds * 1000));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Invalidate the client's snapshot in both tiers.
+     * Inside a transaction the eviction runs after commit so a concurrent reader
+     * cannot re-cache the pre-write state.
+     *
+     * @param clientId Client whose investments changed
+     */
+    public void invalidate(Long clientId) {
+        if (clientId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNowAndLater(clientId);
+                }
+            });
+        } else {
+            evictNowAndLater(clientId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        delayedEvictions.shutdownNow();
+    }
+
+    private void evictNowAndLater(Long clientId) {
+        evict(clientId);
+        if (reEvictDelayMs > 0) {
+            try {
+                delayedEvictions.schedule(() -> evict(clientId), reEvictDelayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                log.debug("Skipping delayed portfolio snapshot eviction for client {} during shutdown", clientId);
+            }
+        }
+    }
+
+    private void evict(Long clientId) {
+        generations.incrementAndGet(stripe(clientId));
+        localEntries.remove(clientId);
+        try {
+            loader.evict(clientId);
+        } catch (Exception e) {
+            log.warn("Failed to evict shared portfolio snapshot for client {}: {}", clientId, e.getMessage());
+        }
+        log.debug("Invalidated portfolio snapshot for client: {}", clientId);
+    }
+
+    private int stripe(Long clientId) {
+        return Math.floorMod(clientId.hashCode(), GENERATION_STRIPES);
+    }
+
+    private static ScheduledExecutorService createDelayedEvictionExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("portfolio-cache-evict-");
+        threadFactory.setDaemon(true);
+        return Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    private void evictExpired(long now) {
+        localEntries.entrySet().removeIf(e -> e.getValue().expiresAt <= now);
+    }
+
+    private static final class LocalEntry {
+        private final PortfolioSnapshot snapshot;
+        private final long expiresAt;
+
+        private LocalEntry(PortfolioSnapshot snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
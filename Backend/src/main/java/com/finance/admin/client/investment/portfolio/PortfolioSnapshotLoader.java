@@ -0,0 +1,36 @@
+package com.finance.admin.client.investment.portfolio;
+
+import com.finance.admin.investment.repository.InvestmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Shared (Redis) tier of the portfolio snapshot cache.
+ * Snapshots are loaded from the database on a miss and kept in the
+ * {@value #CACHE_NAME} cache until an investment write evicts them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioSnapshotLoader {
+
+    public static final String CACHE_NAME = "portfolioSnapshots";
+
+    private final InvestmentRepository investmentRepository;
+
+    @Cacheable(cacheNames = CACHE_NAME, key = "#clientId")
+    @Transactional(readOnly = true)
+    public PortfolioSnapshot load(Long clientId) {
+        log.debug("Loading portfolio snapshot from database for client: {}", clientId);
+        return PortfolioSnapshot.of(clientId, investmentRepository.findByClientId(clientId));
+    }
+
+    @CacheEvict(cacheNames = CACHE_NAME, key = "#clientId")
+    public void evict(Long clientId) {
+        log.debug("Evicted shared portfolio snapshot for client: {}", clientId);
+    }
+}
@@ -1,6 +1,9 @@
 package com.finance.admin.client.investment.service;
 
 import com.finance.admin.client.investment.dto.*;
+import com.finance.admin.client.investment.portfolio.PortfolioAggregate;
+import com.finance.admin.client.investment.portfolio.PortfolioSnapshot;
+import com.finance.admin.client.investment.portfolio.PortfolioSnapshotCache;
 import com.finance.admin.investment.model.Investment;
 import com.finance.admin.investment.repository.InvestmentRepository;
 import com.finance.admin.common.exception.ResourceNotFoundException;
@@ -13,7 +16,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -27,34 +29,35 @@ import java.util.stream.Collectors;
 public class ClientInvestmentService {
 
     private final InvestmentRepository investmentRepository;
+    private final PortfolioSnapshotCache portfolioSnapshotCache;
 
     public InvestmentSummaryResponse getInvestmentSummary(Long clientId) {
         log.info("Getting investment summary for client: {}", clientId);
         
-        List<Investment> investments = investmentRepository.findByClientId(clientId);
+        PortfolioSnapshot snapshot = loadPortfolioSnapshot(clientId);
         
-        if (investments.isEmpty()) {
+        if (snapshot.isEmpty()) {
             return createEmptyInvestmentSummary();
         }
         
-        return buildInvestmentSummary(investments);
+        return buildInvestmentSummary(snapshot.aggregate());
     }
 
     public InvestmentChartsResponse getInvestmentCharts(Long clientId, int months) {
         log.info("Getting investment charts data for client: {} for {} months", clientId, months);
         
-        List<Investment> investments = investmentRepository.findByClientId(clientId);
+        PortfolioAggregate portfolio = loadPortfolioSnapshot(clientId).aggregate();
         LocalDate startDate = LocalDate.now().minusMonths(months);
         
-        return buildInvestmentCharts(investments, startDate);
+        return buildInvestmentCharts(portfolio, startDate);
     }
 
     public InvestmentPerformanceResponse getInvestmentPerformance(Long clientId) {
         log.info("Getting investment performance for client: {}", clientId);
         
-        List<Investment> investments = investmentRepository.findByClientId(clientId);
+        PortfolioAggregate portfolio = loadPortfolioSnapshot(clientId).aggregate();
         
-        return buildPerformanceResponse(investments);
+        return buildPerformanceResponse(portfolio);
     }
 
     public FilteredInvestmentsResponse filterInvestments(Long clientId, InvestmentFilterRequest filterRequest) {
@@ -91,13 +94,13 @@ public class ClientInvestmentService {
     public AllInvestmentsResponse getAllInvestments(Long clientId) {
         log.info("Getting all investments for client: {}", clientId);
         
-        List<Investment> allInvestments = investmentRepository.findByClientId(clientId);
+        PortfolioSnapshot snapshot = loadPortfolioSnapshot(clientId);
         
         return AllInvestmentsResponse.builder()
             .activeInvestments(getActiveInvestments(clientId))
             .completedInvestments(getCompletedInvestments(clientId))
-            .portfolioSummary(getInvestmentSummary(clientId))
-            .categorization(buildCategorization(allInvestments))
+            .portfolioSummary(snapshot.isEmpty() ? createEmptyInvestmentSummary() : buildInvestmentSummary(snapshot.aggregate()))
+            .categorization(buildCategorization(snapshot.aggregate()))
             .build();
     }
 
@@ -161,6 +164,10 @@ public class ClientInvestmentService {
 
     // Private helper methods
 
+    private PortfolioSnapshot loadPortfolioSnapshot(Long clientId) {
+        return portfolioSnapshotCache.get(clientId);
+    }
+
     private InvestmentSummaryResponse createEmptyInvestmentSummary() {
         return InvestmentSummaryResponse.builder()
             .totalInvestedAmount(BigDecimal.ZERO)
@@ -176,74 +183,56 @@ public class ClientInvestmentService {
             .build();
     }
 
-    private InvestmentSummaryResponse buildInvestmentSummary(List<Investment> investments) {
-        BigDecimal totalInvested = investments.stream()
-            .map(Investment::getInitialAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalCurrentValue = investments.stream()
-            .map(inv -> inv.getCurrentValue() != null ? inv.getCurrentValue() : inv.getInitialAmount())
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalReturns = totalCurrentValue.subtract(totalInvested);
-        BigDecimal overallReturnPercentage = totalInvested.compareTo(BigDecimal.ZERO) > 0 ?
-            totalReturns.divide(totalInvested, 4, RoundingMode.HALF_UP).multiply(new BigDecimal("100")) :
-            BigDecimal.ZERO;
-
-        // Count by status
-        Map<Investment.InvestmentStatus, Long> statusCounts = investments.stream()
-            .collect(Collectors.groupingBy(Investment::getStatus, Collectors.counting()));
+    private InvestmentSummaryResponse buildInvestmentSummary(PortfolioAggregate portfolio) {
+        LocalDate lastPurchaseDate = portfolio.getLatestPurchaseDate();
 
         return InvestmentSummaryResponse.builder()
-            .totalInvestedAmount(totalInvested)
-            .totalCurrentValue(totalCurrentValue)
-            .totalReturns(totalReturns)
-            .totalBalance(totalCurrentValue)
-            .netProfitLoss(totalReturns)
-            .overallReturnPercentage(overallReturnPercentage)
-            .totalInvestments(investments.size())
-            .activeInvestments(statusCounts.getOrDefault(Investment.InvestmentStatus.ACTIVE, 0L).intValue())
-            .completedInvestments(statusCounts.getOrDefault(Investment.InvestmentStatus.MATURED, 0L).intValue())
-            .pendingInvestments(statusCounts.getOrDefault(Investment.InvestmentStatus.PENDING, 0L).intValue())
-            .riskDistribution(buildRiskDistribution(investments))
-            .assetAllocation(buildAssetAllocation(investments))
-            .statusDistribution(buildStatusDistribution(investments))
+            .totalInvestedAmount(portfolio.getTotalInvested())
+            .totalCurrentValue(portfolio.getTotalCurrentValue())
+            .totalReturns(portfolio.getTotalReturns())
+            .totalBalance(portfolio.getTotalCurrentValue())
+            .netProfitLoss(portfolio.getTotalReturns())
+            .overallReturnPercentage(portfolio.getReturnPercentage())
+            .totalInvestments(portfolio.getCount())
+            .activeInvestments(portfolio.getStatusCount(Investment.InvestmentStatus.ACTIVE))
+            .completedInvestments(portfolio.getStatusCount(Investment.InvestmentStatus.MATURED))
+            .pendingInvestments(portfolio.getStatusCount(Investment.InvestmentStatus.PENDING))
+            .bestPerformingInvestment(portfolio.getBestPerformerName())
+            .bestPerformanceReturn(portfolio.getBestPerformerReturn())
+            .worstPerformingInvestment(portfolio.getWorstPerformerName())
+            .worstPerformanceReturn(portfolio.getWorstPerformerReturn())
+            .lastInvestmentDate(lastPurchaseDate != null ? lastPurchaseDate.atStartOfDay() : null)
+            .investmentsMaturityNext30Days(portfolio.getMaturingWithin30Days())
+            .investmentsMaturityNext90Days(portfolio.getMaturingWithin90Days())
+            .riskDistribution(buildRiskDistribution(portfolio))
+            .assetAllocation(buildAssetAllocation(portfolio))
+            .statusDistribution(buildStatusDistribution(portfolio))
             .build();
     }
 
-    private InvestmentChartsResponse buildInvestmentCharts(List<Investment> investments, LocalDate startDate) {
+    private InvestmentChartsResponse buildInvestmentCharts(PortfolioAggregate portfolio, LocalDate startDate) {
         return InvestmentChartsResponse.builder()
-            .portfolioValueTimeSeries(buildPortfolioTimeSeries(investments, startDate))
-            .investmentAllocationByType(buildTypeAllocation(investments))
-            .returnPerformanceComparison(buildPerformanceComparison(investments))
-            .monthlyPerformanceTrends(buildMonthlyTrends(investments))
-            .assetAllocationBreakdown(buildAssetBreakdown(investments))
-            .riskDistribution(buildRiskPieChart(investments))
-            .chartMetrics(buildChartMetrics(investments))
+            .portfolioValueTimeSeries(buildPortfolioTimeSeries(portfolio, startDate))
+            .investmentAllocationByType(buildTypeAllocation(portfolio))
+            .returnPerformanceComparison(buildPerformanceComparison(portfolio))
+            .monthlyPerformanceTrends(buildMonthlyTrends(portfolio))
+            .assetAllocationBreakdown(buildAssetBreakdown(portfolio))
+            .riskDistribution(buildRiskPieChart(portfolio))
+            .chartMetrics(buildChartMetrics(portfolio))
             .build();
     }
 
-    private InvestmentPerformanceResponse buildPerformanceResponse(List<Investment> investments) {
-        BigDecimal portfolioReturn = investments.stream()
-            .map(Investment::getCurrentReturn)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalInvested = investments.stream()
-            .map(Investment::getInitialAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal portfolioReturnPercentage = totalInvested.compareTo(BigDecimal.ZERO) > 0 ?
-            portfolioReturn.divide(totalInvested, 4, RoundingMode.HALF_UP).multiply(new BigDecimal("100")) :
-            BigDecimal.ZERO;
+    private InvestmentPerformanceResponse buildPerformanceResponse(PortfolioAggregate portfolio) {
+        BigDecimal portfolioReturnPercentage = portfolio.getReturnPercentage();
 
         return InvestmentPerformanceResponse.builder()
-            .portfolioReturn(portfolioReturn)
+            .portfolioReturn(portfolio.getTotalReturns())
             .portfolioReturnPercentage(portfolioReturnPercentage)
-            .portfolioVolatility(calculatePortfolioVolatility(investments))
-            .sharpeRatio(calculateSharpeRatio(investments))
+            .portfolioVolatility(calculatePortfolioVolatility(portfolio))
+            .sharpeRatio(calculateSharpeRatio(portfolio))
             .performanceRating(determinePerformanceRating(portfolioReturnPercentage))
-            .topPerformers(getTopPerformers(investments))
-            .bottomPerformers(getBottomPerformers(investments))
+            .topPerformers(getTopPerformers(portfolio))
+            .bottomPerformers(getBottomPerformers(portfolio))
             .build();
     }
 
@@ -333,58 +322,116 @@ public class ClientInvestmentService {
 
     // Mock helper methods - these would be replaced with real implementations
 
-    private Map<String, InvestmentSummaryResponse.RiskDistribution> buildRiskDistribution(List<Investment> investments) {
-        Map<String, InvestmentSummaryResponse.RiskDistribution> riskDist = new HashMap<>();
-        // Implementation would calculate actual risk distribution
+    private Map<String, InvestmentSummaryResponse.RiskDistribution> buildRiskDistribution(PortfolioAggregate portfolio) {
+        Map<String, InvestmentSummaryResponse.RiskDistribution> riskDist = new LinkedHashMap<>();
+        for (Investment.RiskRating risk : Investment.RiskRating.values()) {
+            int count = portfolio.getRiskCount(risk);
+            if (count == 0) continue;
+            BigDecimal amount = portfolio.getRiskInvested(risk);
+            riskDist.put(risk.getDisplayName(), InvestmentSummaryResponse.RiskDistribution.builder()
+                .count(count)
+                .amount(amount)
+                .percentage(portfolio.shareOfInvested(amount))
+                .build());
+        }
         return riskDist;
     }
 
-    private Map<String, InvestmentSummaryResponse.AssetAllocation> buildAssetAllocation(List<Investment> investments) {
-        Map<String, InvestmentSummaryResponse.AssetAllocation> assetAlloc = new HashMap<>();
-        // Implementation would calculate actual asset allocation
+    private Map<String, InvestmentSummaryResponse.AssetAllocation> buildAssetAllocation(PortfolioAggregate portfolio) {
+        Map<String, InvestmentSummaryResponse.AssetAllocation> assetAlloc = new LinkedHashMap<>();
+        for (Investment.InvestmentType type : Investment.InvestmentType.values()) {
+            int count = portfolio.getTypeCount(type);
+            if (count == 0) continue;
+            BigDecimal amount = portfolio.getTypeInvested(type);
+            BigDecimal currentValue = portfolio.getTypeCurrentValue(type);
+            assetAlloc.put(type.getDisplayName(), InvestmentSummaryResponse.AssetAllocation.builder()
+                .count(count)
+                .amount(amount)
+                .percentage(portfolio.shareOfInvested(amount))
+                .currentValue(currentValue)
+                .returns(currentValue.subtract(amount))
+                .build());
+        }
         return assetAlloc;
     }
 
-    private Map<String, InvestmentSummaryResponse.StatusDistribution> buildStatusDistribution(List<Investment> investments) {
-        Map<String, InvestmentSummaryResponse.StatusDistribution> statusDist = new HashMap<>();
-        // Implementation would calculate actual status distribution
+    private Map<String, InvestmentSummaryResponse.StatusDistribution> buildStatusDistribution(PortfolioAggregate portfolio) {
+        Map<String, InvestmentSummaryResponse.StatusDistribution> statusDist = new LinkedHashMap<>();
+        for (Investment.InvestmentStatus status : Investment.InvestmentStatus.values()) {
+            int count = portfolio.getStatusCount(status);
+            if (count == 0) continue;
+            BigDecimal amount = portfolio.getStatusInvested(status);
+            statusDist.put(status.name(), InvestmentSummaryResponse.StatusDistribution.builder()
+                .count(count)
+                .amount(amount)
+                .percentage(portfolio.shareOfInvested(amount))
+                .build());
+        }
         return statusDist;
     }
 
     // Additional mock methods for chart data, performance calculations, etc.
-    private List<InvestmentChartsResponse.TimeSeriesDataPoint> buildPortfolioTimeSeries(List<Investment> investments, LocalDate startDate) {
+    private List<InvestmentChartsResponse.TimeSeriesDataPoint> buildPortfolioTimeSeries(PortfolioAggregate portfolio, LocalDate startDate) {
         return new ArrayList<>(); // Mock implementation
     }
 
-    private List<InvestmentChartsResponse.PieChartDataPoint> buildTypeAllocation(List<Investment> investments) {
-        return new ArrayList<>(); // Mock implementation
+    private List<InvestmentChartsResponse.PieChartDataPoint> buildTypeAllocation(PortfolioAggregate portfolio) {
+        List<InvestmentChartsResponse.PieChartDataPoint> allocation = new ArrayList<>();
+        for (Investment.InvestmentType type : Investment.InvestmentType.values()) {
+            int count = portfolio.getTypeCount(type);
+            if (count == 0) continue;
+            BigDecimal value = portfolio.getTypeCurrentValue(type);
+            allocation.add(InvestmentChartsResponse.PieChartDataPoint.builder()
+                .label(type.getDisplayName())
+                .value(value)
+                .percentage(portfolio.shareOfCurrentValue(value))
+                .count(count)
+                .build());
+        }
+        return allocation;
     }
 
-    private List<InvestmentChartsResponse.BarChartDataPoint> buildPerformanceComparison(List<Investment> investments) {
+    private List<InvestmentChartsResponse.BarChartDataPoint> buildPerformanceComparison(PortfolioAggregate portfolio) {
         return new ArrayList<>(); // Mock implementation
     }
 
-    private List<InvestmentChartsResponse.TimeSeriesDataPoint> buildMonthlyTrends(List<Investment> investments) {
+    private List<InvestmentChartsResponse.TimeSeriesDataPoint> buildMonthlyTrends(PortfolioAggregate portfolio) {
         return new ArrayList<>(); // Mock implementation
     }
 
-    private List<InvestmentChartsResponse.PieChartDataPoint> buildAssetBreakdown(List<Investment> investments) {
+    private List<InvestmentChartsResponse.PieChartDataPoint> buildAssetBreakdown(PortfolioAggregate portfolio) {
         return new ArrayList<>(); // Mock implementation
     }
 
-    private List<InvestmentChartsResponse.PieChartDataPoint> buildRiskPieChart(List<Investment> investments) {
-        return new ArrayList<>(); // Mock implementation
+    private List<InvestmentChartsResponse.PieChartDataPoint> buildRiskPieChart(PortfolioAggregate portfolio) {
+        List<InvestmentChartsResponse.PieChartDataPoint> riskChart = new ArrayList<>();
+        for (Investment.RiskRating risk : Investment.RiskRating.values()) {
+            int count = portfolio.getRiskCount(risk);
+            if (count == 0) continue;
+            BigDecimal amount = portfolio.getRiskInvested(risk);
+            riskChart.add(InvestmentChartsResponse.PieChartDataPoint.builder()
+                .label(risk.getDisplayName())
+                .value(amount)
+                .percentage(portfolio.shareOfInvested(amount))
+                .count(count)
+                .build());
+        }
+        return riskChart;
     }
 
-    private InvestmentChartsResponse.ChartMetrics buildChartMetrics(List<Investment> investments) {
-        return InvestmentChartsResponse.ChartMetrics.builder().build(); // Mock implementation
+    private InvestmentChartsResponse.ChartMetrics buildChartMetrics(PortfolioAggregate portfolio) {
+        return InvestmentChartsResponse.ChartMetrics.builder()
+            .totalValue(portfolio.getTotalCurrentValue())
+            .totalReturns(portfolio.getTotalReturns())
+            .dataEndDate(portfolio.getAsOf())
+            .build();
     }
 
-    private BigDecimal calculatePortfolioVolatility(List<Investment> investments) {
+    private BigDecimal calculatePortfolioVolatility(PortfolioAggregate portfolio) {
         return BigDecimal.ZERO; // Mock implementation
     }
 
-    private BigDecimal calculateSharpeRatio(List<Investment> investments) {
+    private BigDecimal calculateSharpeRatio(PortfolioAggregate portfolio) {
         return BigDecimal.ZERO; // Mock implementation
     }
 
@@ -395,11 +442,11 @@ public class ClientInvestmentService {
         return "Poor";
     }
 
-    private List<InvestmentPerformanceResponse.AssetPerformanceRanking> getTopPerformers(List<Investment> investments) {
+    private List<InvestmentPerformanceResponse.AssetPerformanceRanking> getTopPerformers(PortfolioAggregate portfolio) {
         return new ArrayList<>(); // Mock implementation
     }
 
-    private List<InvestmentPerformanceResponse.AssetPerformanceRanking> getBottomPerformers(List<Investment> investments) {
+    private List<InvestmentPerformanceResponse.AssetPerformanceRanking> getBottomPerformers(PortfolioAggregate portfolio) {
         return new ArrayList<>(); // Mock implementation
     }
 
@@ -411,7 +458,7 @@ public class ClientInvestmentService {
         return FilteredInvestmentsResponse.builder().build(); // Mock implementation
     }
 
-    private AllInvestmentsResponse.InvestmentCategorization buildCategorization(List<Investment> investments) {
+    private AllInvestmentsResponse.InvestmentCategorization buildCategorization(PortfolioAggregate portfolio) {
         return AllInvestmentsResponse.InvestmentCategorization.builder().build(); // Mock implementation
     }
 
@@ -447,9 +494,9 @@ public class ClientInvestmentService {
     public InvestmentAnalyticsResponse getInvestmentAnalytics(Long clientId) {
         log.info("Getting investment analytics for client: {}", clientId);
         
-        List<Investment> investments = investmentRepository.findByClientId(clientId);
+        PortfolioAggregate portfolio = loadPortfolioSnapshot(clientId).aggregate();
         
-        return buildInvestmentAnalytics(investments);
+        return buildInvestmentAnalytics(portfolio);
     }
 
     public FilteredInvestmentsResponse advancedFilterInvestments(Long clientId, EnhancedInvestmentFilterRequest filterRequest) {
@@ -486,25 +533,25 @@ public class ClientInvestmentService {
     public List<InvestmentAnalyticsResponse.InvestmentInsight> getInvestmentInsights(Long clientId) {
         log.info("Getting investment insights for client: {}", clientId);
         
-        List<Investment> investments = investmentRepository.findByClientId(clientId);
+        PortfolioAggregate portfolio = loadPortfolioSnapshot(clientId).aggregate();
         
-        return generateInvestmentInsights(investments);
+        return generateInvestmentInsights(portfolio);
     }
 
     public List<InvestmentAnalyticsResponse.InvestmentRecommendation> getInvestmentRecommendations(Long clientId) {
         log.info("Getting investment recommendations for client: {}", clientId);
         
-        List<Investment> investments = investmentRepository.findByClientId(clientId);
+        PortfolioAggregate portfolio = loadPortfolioSnapshot(clientId).aggregate();
         
-        return generateInvestmentRecommendations(investments);
+        return generateInvestmentRecommendations(portfolio);
     }
 
     public InvestmentAnalyticsResponse getPortfolioOptimization(Long clientId) {
         log.info("Getting portfolio optimization for client: {}", clientId);
         
-        List<Investment> investments = investmentRepository.findByClientId(clientId);
+        PortfolioAggregate portfolio = loadPortfolioSnapshot(clientId).aggregate();
         
-        return buildPortfolioOptimization(investments);
+        return buildPortfolioOptimization(portfolio);
     }
 
     public InvestmentDetailResponse getInvestmentTracking(Long clientId, Long investmentId, int months) {
@@ -523,9 +570,9 @@ public class ClientInvestmentService {
     public List<InvestmentAlert> getInvestmentAlerts(Long clientId) {
         log.info("Getting investment alerts for client: {}", clientId);
         
-        List<Investment> investments = investmentRepository.findByClientId(clientId);
+        PortfolioAggregate portfolio = loadPortfolioSnapshot(clientId).aggregate();
         
-        return generateInvestmentAlerts(investments, clientId);
+        return generateInvestmentAlerts(portfolio, clientId);
     }
 
     // Enhanced helper methods for Sprint 3.2
@@ -542,14 +589,14 @@ public class ClientInvestmentService {
             .build();
     }
 
-    private InvestmentAnalyticsResponse buildInvestmentAnalytics(List<Investment> investments) {
+    private InvestmentAnalyticsResponse buildInvestmentAnalytics(PortfolioAggregate portfolio) {
         return InvestmentAnalyticsResponse.builder()
-            .performance(buildPerformanceAnalytics(investments))
-            .risk(buildRiskAnalytics(investments))
-            .trends(buildTrendAnalytics(investments))
-            .diversification(buildDiversificationAnalytics(investments))
-            .insights(generateInvestmentInsights(investments))
-            .recommendations(generateInvestmentRecommendations(investments))
+            .performance(buildPerformanceAnalytics(portfolio))
+            .risk(buildRiskAnalytics(portfolio))
+            .trends(buildTrendAnalytics(portfolio))
+            .diversification(buildDiversificationAnalytics(portfolio))
+            .insights(generateInvestmentInsights(portfolio))
+            .recommendations(generateInvestmentRecommendations(portfolio))
             .build();
     }
 
@@ -617,31 +664,31 @@ public class ClientInvestmentService {
         return InvestmentComparisonResponse.ComparisonInsights.builder().build();
     }
 
-    private InvestmentAnalyticsResponse.PerformanceAnalytics buildPerformanceAnalytics(List<Investment> investments) {
+    private InvestmentAnalyticsResponse.PerformanceAnalytics buildPerformanceAnalytics(PortfolioAggregate portfolio) {
         return InvestmentAnalyticsResponse.PerformanceAnalytics.builder().build();
     }
 
-    private InvestmentAnalyticsResponse.RiskAnalytics buildRiskAnalytics(List<Investment> investments) {
+    private InvestmentAnalyticsResponse.RiskAnalytics buildRiskAnalytics(PortfolioAggregate portfolio) {
         return InvestmentAnalyticsResponse.RiskAnalytics.builder().build();
     }
 
-    private InvestmentAnalyticsResponse.TrendAnalytics buildTrendAnalytics(List<Investment> investments) {
+    private InvestmentAnalyticsResponse.TrendAnalytics buildTrendAnalytics(PortfolioAggregate portfolio) {
         return InvestmentAnalyticsResponse.TrendAnalytics.builder().build();
     }
 
-    private InvestmentAnalyticsResponse.DiversificationAnalytics buildDiversificationAnalytics(List<Investment> investments) {
+    private InvestmentAnalyticsResponse.DiversificationAnalytics buildDiversificationAnalytics(PortfolioAggregate portfolio) {
         return InvestmentAnalyticsResponse.DiversificationAnalytics.builder().build();
     }
 
-    private List<InvestmentAnalyticsResponse.InvestmentInsight> generateInvestmentInsights(List<Investment> investments) {
+    private List<InvestmentAnalyticsResponse.InvestmentInsight> generateInvestmentInsights(PortfolioAggregate portfolio) {
         return new ArrayList<>();
     }
 
-    private List<InvestmentAnalyticsResponse.InvestmentRecommendation> generateInvestmentRecommendations(List<Investment> investments) {
+    private List<InvestmentAnalyticsResponse.InvestmentRecommendation> generateInvestmentRecommendations(PortfolioAggregate portfolio) {
         return new ArrayList<>();
     }
 
-    private InvestmentAnalyticsResponse buildPortfolioOptimization(List<Investment> investments) {
+    private InvestmentAnalyticsResponse buildPortfolioOptimization(PortfolioAggregate portfolio) {
         return InvestmentAnalyticsResponse.builder().build();
     }
 
@@ -656,10 +703,10 @@ public class ClientInvestmentService {
         return response;
     }
 
-    private List<InvestmentAlert> generateInvestmentAlerts(List<Investment> investments, Long clientId) {
+    private List<InvestmentAlert> generateInvestmentAlerts(PortfolioAggregate portfolio, Long clientId) {
         List<InvestmentAlert> alerts = new ArrayList<>();
-        alerts.addAll(checkMaturityAlerts(investments));
-        alerts.addAll(checkPerformanceAlerts(investments));
+        alerts.addAll(checkMaturityAlerts(portfolio));
+        alerts.addAll(checkPerformanceAlerts(portfolio));
         return alerts;
     }
 
@@ -680,6 +727,6 @@ public class ClientInvestmentService {
     private List<InvestmentDetailResponse.PerformanceDataPoint> generatePerformanceHistory(Investment investment, int months) { return new ArrayList<>(); }
     private InvestmentDetailResponse.PerformanceMetrics calculatePerformanceMetrics(Investment investment) { return InvestmentDetailResponse.PerformanceMetrics.builder().build(); }
     
-    private List<InvestmentAlert> checkMaturityAlerts(List<Investment> investments) { return new ArrayList<>(); }
-    private List<InvestmentAlert> checkPerformanceAlerts(List<Investment> investments) { return new ArrayList<>(); }
+    private List<InvestmentAlert> checkMaturityAlerts(PortfolioAggregate portfolio) { return new ArrayList<>(); }
+    private List<InvestmentAlert> checkPerformanceAlerts(PortfolioAggregate portfolio) { return new ArrayList<>(); }
 } 
\ No newline at end of file
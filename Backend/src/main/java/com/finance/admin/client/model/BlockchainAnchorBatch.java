@@ -0,0 +1,37 @@
+package com.finance.admin.client.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A Merkle root anchored in one blockchain transaction. Written by BlockchainAnchorBatcher with
+ * plain SQL; the mapping keeps the table in the schema Hibernate creates and validates.
+ */
+@Entity
+@Table(name = "blockchain_anchor_batches")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlockchainAnchorBatch {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "merkle_root", nullable = false, length = 64)
+    private String merkleRoot;
+
+    @Column(name = "transaction_hash", nullable = false, length = 66)
+    private String transactionHash;
+
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    @Column(name = "anchored_at", nullable = false)
+    private LocalDateTime anchoredAt;
+}
@@ -0,0 +1,72 @@
+package com.finance.admin.client.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An audit log entry or identity anchor queued for batched anchoring. Written by
+ * BlockchainAnchorBatcher with plain SQL; the mapping keeps the table in the schema Hibernate
+ * creates and validates.
+ */
+@Entity
+@Table(name = "blockchain_anchor_items", indexes = {
+    @Index(name = "idx_blockchain_anchor_items_pending", columnList = "status, created_at"),
+    @Index(name = "idx_blockchain_anchor_items_client", columnList = "client_id, item_type, leaf_hash")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlockchainAnchorItem {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "item_type", nullable = false, length = 30)
+    private String itemType;
+
+    @Column(name = "operation", length = 100)
+    private String operation;
+
+    @Column(name = "client_id")
+    private Long clientId;
+
+    // The exact string the leaf was hashed from
+    @Column(name = "leaf_data", nullable = false, columnDefinition = "TEXT")
+    private String leafData;
+
+    @Column(name = "leaf_hash", nullable = false, length = 64)
+    private String leafHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "batch_id")
+    private BlockchainAnchorBatch batch;
+
+    @Column(name = "leaf_index")
+    private Integer leafIndex;
+
+    @Column(name = "inclusion_proof", columnDefinition = "TEXT")
+    private String inclusionProof;
+
+    // Set while a node is anchoring the item; after this another node may claim it
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum Status {
+        PENDING,
+        ANCHORING,
+        ANCHORED
+    }
+}
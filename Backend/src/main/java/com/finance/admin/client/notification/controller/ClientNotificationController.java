@@ -12,9 +12,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -207,6 +209,23 @@ public class ClientNotificationController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Stream notifications",
+               description = "Server-Sent Events stream of new notifications and unread count changes for the authenticated client")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream opened successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('CLIENT')")
+    public SseEmitter streamNotifications(HttpServletRequest request) {
+
+        log.info("Notification stream request received");
+
+        Long clientId = jwtUtils.getClientIdFromRequest(request);
+        return notificationService.openStream(clientId);
+    }
+
     @Operation(summary = "Get notification statistics", 
                description = "Get detailed notification statistics for the authenticated client")
     @ApiResponses(value = {
@@ -50,6 +50,15 @@ public interface ClientNotificationRepository extends JpaRepository<ClientNotifi
     @Query("SELECT n FROM ClientNotification n WHERE n.scheduledAt <= :now AND n.deliveryStatus = 'PENDING'")
     List<ClientNotification> findScheduledNotifications(@Param("now") LocalDateTime now);
 
+    /**
+     * Stamp a dispatch claim on notifications
+     */
+    @Modifying
+    @Query("UPDATE ClientNotification n SET n.claimedBy = :claimedBy, n.claimExpiresAt = :claimExpiresAt WHERE n.id IN :notificationIds")
+    int claim(@Param("notificationIds") List<UUID> notificationIds,
+              @Param("claimedBy") String claimedBy,
+              @Param("claimExpiresAt") LocalDateTime claimExpiresAt);
+
     /**
      * Find expired notifications
      */
@@ -81,12 +90,21 @@ public interface ClientNotificationRepository extends JpaRepository<ClientNotifi
     int markAllAsRead(@Param("clientId") Long clientId, @Param("readAt") LocalDateTime readAt);
 
     /**
-     * Mark notifications as delivered
+     * Mark notifications as delivered, unless they have moved on from PENDING in the meantime
      */
     @Modifying
-    @Query("UPDATE ClientNotification n SET n.deliveryStatus = 'DELIVERED', n.deliveredAt = :deliveredAt WHERE n.id IN :notificationIds")
+    @Query("UPDATE ClientNotification n SET n.deliveryStatus = 'DELIVERED', n.deliveredAt = :deliveredAt " +
+           "WHERE n.id IN :notificationIds AND n.deliveryStatus = 'PENDING'")
     int markAsDelivered(@Param("notificationIds") List<UUID> notificationIds, @Param("deliveredAt") LocalDateTime deliveredAt);
 
+    /**
+     * Mark notifications as failed
+     */
+    @Modifying
+    @Query("UPDATE ClientNotification n SET n.deliveryStatus = 'FAILED' " +
+           "WHERE n.id IN :notificationIds AND n.deliveryStatus = 'PENDING'")
+    int markAsFailed(@Param("notificationIds") List<UUID> notificationIds);
+
     /**
      * Mark expired notifications
      */
@@ -7,10 +7,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -22,6 +23,9 @@ import java.util.*;
 public class ClientNotificationService {
 
     private final ClientNotificationRepository notificationRepository;
+    private final NotificationDeliveryEngine deliveryEngine;
+    private final ScheduledNotificationDispatcher scheduledDispatcher;
+    private final ClientNotificationStreamService streamService;
 
     /**
      * Create and send a notification
@@ -52,10 +56,17 @@ public class ClientNotificationService {
                 .metadata(metadata)
                 .build();
 
+        // If not scheduled, send immediately; scheduled ones are pushed by the dispatcher when due
+        boolean sendNow = scheduledAt == null || scheduledAt.isBefore(LocalDateTime.now().plusMinutes(1));
+        if (sendNow) {
+            // Saved already claimed, so no dispatcher picks up a near-future one while it is being sent
+            scheduledDispatcher.claimForImmediateDelivery(notification);
+        }
+
         notification = notificationRepository.save(notification);
 
-        // If not scheduled, send immediately
-        if (scheduledAt == null || scheduledAt.isBefore(LocalDateTime.now().plusMinutes(1))) {
+        if (sendNow) {
+            streamService.notificationCreated(notification);
             sendNotification(notification);
         }
 
@@ -84,6 +95,44 @@ public class ClientNotificationService {
         );
     }
 
+    /**
+     * Create the same notification for many clients and queue them for delivery together
+     */
+    public int createBroadcastNotification(List<Long> clientIds,
+                                           ClientNotification.NotificationType type,
+                                           ClientNotification.NotificationCategory category,
+                                           String title,
+                                           String message,
+                                           ClientNotification.DeliveryMethod deliveryMethod,
+                                           ClientNotification.PriorityLevel priority,
+                                           LocalDateTime expiresAt,
+                                           Map<String, Object> metadata) {
+
+        log.debug("Creating broadcast notification for {} clients, type: {}, category: {}", clientIds.size(), type, category);
+
+        List<ClientNotification> notifications = new ArrayList<>(clientIds.size());
+        for (Long clientId : clientIds) {
+            notifications.add(ClientNotification.builder()
+                    .clientId(clientId)
+                    .notificationType(type)
+                    .category(category)
+                    .title(title)
+                    .message(message)
+                    .deliveryMethod(deliveryMethod)
+                    .priorityLevel(priority)
+                    .expiresAt(expiresAt)
+                    .metadata(metadata)
+                    .build());
+        }
+
+        List<ClientNotification> saved = notificationRepository.saveAll(notifications);
+        saved.forEach(streamService::notificationCreated);
+        deliveryEngine.submitAll(saved);
+
+        log.info("Broadcast notification created for {} clients", saved.size());
+        return saved.size();
+    }
+
     /**
      * Get notifications for a client with pagination
      */
@@ -141,6 +190,7 @@ public class ClientNotificationService {
         int updated = notificationRepository.markAsRead(notificationId, clientId, LocalDateTime.now());
         
         if (updated > 0) {
+            streamService.notificationRead(clientId);
             log.info("Notification {} marked as read for client {}", notificationId, clientId);
             return true;
         } else {
@@ -156,6 +206,9 @@ public class ClientNotificationService {
         log.debug("Marking all notifications as read for client {}", clientId);
         
         int updated = notificationRepository.markAllAsRead(clientId, LocalDateTime.now());
+        if (updated > 0) {
+            streamService.allNotificationsRead(clientId, updated);
+        }
         
         log.info("Marked {} notifications as read for client {}", updated, clientId);
         return updated;
@@ -166,7 +219,16 @@ public class ClientNotificationService {
      */
     @Transactional(readOnly = true)
     public long getUnreadCount(Long clientId) {
-        return notificationRepository.countByClientIdAndIsReadFalse(clientId);
+        return streamService.getUnreadCount(clientId);
+    }
+
+    /**
+     * Open a Server-Sent Events stream of new notifications and unread-count changes
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter openStream(Long clientId) {
+        log.debug("Opening notification stream for client ID: {}", clientId);
+        return streamService.subscribe(clientId);
     }
 
     /**
@@ -205,69 +267,29 @@ public class ClientNotificationService {
     }
 
     /**
-     * Send notification (placeholder for actual delivery implementation)
+     * Queue a notification on the delivery engine
      */
-    @Async
     public void sendNotification(ClientNotification notification) {
         log.debug("Sending notification {} via {}", notification.getId(), notification.getDeliveryMethod());
-        
-        try {
-            // Simulate delivery based on method
-            switch (notification.getDeliveryMethod()) {
-                case IN_APP -> {
-                    // In-app notifications are already stored in database
-                    notification.markAsDelivered();
-                    log.debug("In-app notification delivered: {}", notification.getId());
-                }
-                case EMAIL -> {
-                    // TODO: Integrate with email service
-                    simulateEmailDelivery(notification);
-                    notification.markAsDelivered();
-                    log.debug("Email notification delivered: {}", notification.getId());
-                }
-                case SMS -> {
-                    // TODO: Integrate with SMS service
-                    simulateSmsDelivery(notification);
-                    notification.markAsDelivered();
-                    log.debug("SMS notification delivered: {}", notification.getId());
-                }
-                case PUSH -> {
-                    // TODO: Integrate with push notification service
-                    simulatePushDelivery(notification);
-                    notification.markAsDelivered();
-                    log.debug("Push notification delivered: {}", notification.getId());
-                }
-                default -> {
-                    log.warn("Unsupported delivery method: {}", notification.getDeliveryMethod());
-                    notification.setDeliveryStatus(ClientNotification.DeliveryStatus.FAILED);
-                }
-            }
-            
-            notificationRepository.save(notification);
-            
-        } catch (Exception e) {
-            log.error("Failed to send notification {}: {}", notification.getId(), e.getMessage());
-            notification.setDeliveryStatus(ClientNotification.DeliveryStatus.FAILED);
-            notificationRepository.save(notification);
-        }
+        deliveryEngine.submit(notification);
     }
 
     /**
-     * Process scheduled notifications
+     * Process scheduled notifications. Due rows are claimed in pages so that every node can run
+     * this schedule without sending the same notification twice.
      */
     @Scheduled(fixedRate = 60000) // Run every minute
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void processScheduledNotifications() {
         log.debug("Processing scheduled notifications");
-        
-        List<ClientNotification> scheduledNotifications = 
-                notificationRepository.findScheduledNotifications(LocalDateTime.now());
-        
-        for (ClientNotification notification : scheduledNotifications) {
-            sendNotification(notification);
-        }
-        
-        if (!scheduledNotifications.isEmpty()) {
-            log.info("Processed {} scheduled notifications", scheduledNotifications.size());
+
+        try {
+            int dispatched = scheduledDispatcher.dispatchDue();
+            if (dispatched > 0) {
+                log.info("Processed {} scheduled notifications", dispatched);
+            }
+        } catch (Exception e) {
+            log.error("Failed to process scheduled notifications: {}", e.getMessage());
         }
     }
 
@@ -300,38 +322,6 @@ public class ClientNotificationService {
         }
     }
 
-    // Helper methods for delivery simulation
-    private void simulateEmailDelivery(ClientNotification notification) {
-        // TODO: Implement actual email delivery
-        log.debug("Simulating email delivery for notification: {}", notification.getId());
-        // Add delay to simulate email sending
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    private void simulateSmsDelivery(ClientNotification notification) {
-        // TODO: Implement actual SMS delivery
-        log.debug("Simulating SMS delivery for notification: {}", notification.getId());
-        try {
-            Thread.sleep(50);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    private void simulatePushDelivery(ClientNotification notification) {
-        // TODO: Implement actual push notification delivery
-        log.debug("Simulating push delivery for notification: {}", notification.getId());
-        try {
-            Thread.sleep(25);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
     private ClientNotification.NotificationCategory getDefaultCategory(ClientNotification.NotificationType type) {
         return switch (type) {
             case GENERAL -> ClientNotification.NotificationCategory.ANNOUNCEMENT;
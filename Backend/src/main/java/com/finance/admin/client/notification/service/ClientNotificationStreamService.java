@@ -0,0 +1,236 @@
+package com.finance.admin.client.notification.service;
+
+import com.finance.admin.client.notification.model.ClientNotification;
+import com.finance.admin.client.notification.repository.ClientNotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes new notifications and unread-count changes to connected clients over Server-Sent Events.
+ * Unread counts are kept in memory per client and adjusted as notifications are created and read,
+ * so connected and polling clients are answered without a count query. Counters are reloaded from
+ * the database once they are older than the reconcile interval, which also corrects changes made
+ * on other nodes.
+ */
+@Service
+@Slf4j
+public class ClientNotificationStreamService {
+
+    private final ClientNotificationRepository notificationRepository;
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, UnreadCounter> unreadCounts = new ConcurrentHashMap<>();
+
+    @Value("${app.notification.stream.timeout-ms:1800000}")
+    private long timeoutMs = 1800000;
+
+    @Value("${app.notification.stream.reconcile-interval-ms:300000}")
+    private long reconcileIntervalMs = 300000;
+
+    @Value("${app.notification.stream.max-cached-counts:100000}")
+    private int maxCachedCounts = 100000;
+
+    public ClientNotificationStreamService(ClientNotificationRepository notificationRepository) {
+        this.notificationRepository = notificationRepository;
+    }
+
+    /**
+     * Open an event stream for a client. The current unread count is sent straight away.
+     */
+    public SseEmitter subscribe(Long clientId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitters.computeIfAbsent(clientId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> removeEmitter(clientId, emitter));
+        emitter.onTimeout(() -> removeEmitter(clientId, emitter));
+        emitter.onError(e -> removeEmitter(clientId, emitter));
+
+        send(clientId, emitter, SseEmitter.event().name("unread-count").data(unreadCountEvent(getUnreadCount(clientId), 0)));
+        log.debug("Opened notification stream for client {}", clientId);
+        return emitter;
+    }
+
+    /**
+     * Get the unread count for a client, from memory while the counter is fresh
+     */
+    public long getUnreadCount(Long clientId) {
+        UnreadCounter counter = unreadCounts.get(clientId);
+        if (counter != null && !counter.isStale(reconcileIntervalMs)) {
+            return counter.count.get();
+        }
+        return reload(clientId);
+    }
+
+    /**
+     * Push a newly created notification. Inside a transaction this happens after commit.
+     */
+    public void notificationCreated(ClientNotification notification) {
+        afterCommit(() -> {
+            Long clientId = notification.getClientId();
+            long unreadCount = adjust(clientId, 1);
+            List<SseEmitter> clientEmitters = emitters.get(clientId);
+            if (clientEmitters == null) {
+                return;
+            }
+            for (SseEmitter emitter : clientEmitters) {
+                send(clientId, emitter, SseEmitter.event().name("notification").data(notification));
+                send(clientId, emitter, SseEmitter.event().name("unread-count").data(unreadCountEvent(unreadCount, 1)));
+            }
+        });
+    }
+
+    /**
+     * Push a scheduled notification once it is dispatched. It was stored unread when it was created,
+     * so it is already part of the unread count and the counter is left alone.
+     */
+    public void notificationDispatched(ClientNotification notification) {
+        Long clientId = notification.getClientId();
+        List<SseEmitter> clientEmitters = emitters.get(clientId);
+        if (clientEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : clientEmitters) {
+            send(clientId, emitter, SseEmitter.event().name("notification").data(notification));
+        }
+    }
+
+    /**
+     * Reload the unread count after a single notification was marked as read
+     */
+    public void notificationRead(Long clientId) {
+        afterCommit(() -> {
+            UnreadCounter previous = unreadCounts.remove(clientId);
+            if (emitters.containsKey(clientId)) {
+                long unreadCount = reload(clientId);
+                long delta = previous != null ? unreadCount - previous.count.get() : 0;
+                broadcast(clientId, unreadCount, delta);
+            }
+        });
+    }
+
+    /**
+     * Record that all of a client's notifications were marked as read
+     */
+    public void allNotificationsRead(Long clientId, int updated) {
+        afterCommit(() -> {
+            long unreadCount = adjust(clientId, -updated);
+            broadcast(clientId, unreadCount, -updated);
+        });
+    }
+
+    /**
+     * Keep connections alive through proxies, reconcile counters of connected clients and drop
+     * counters nobody is reading
+     */
+    @Scheduled(fixedDelayString = "${app.notification.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        emitters.forEach((clientId, clientEmitters) -> {
+            UnreadCounter counter = unreadCounts.get(clientId);
+            if (counter == null || counter.isStale(reconcileIntervalMs)) {
+                long previous = counter != null ? counter.count.get() : -1;
+                long unreadCount = reload(clientId);
+                if (previous >= 0 && previous != unreadCount) {
+                    broadcast(clientId, unreadCount, unreadCount - previous);
+                    return;
+                }
+            }
+            for (SseEmitter emitter : clientEmitters) {
+                send(clientId, emitter, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+        unreadCounts.entrySet().removeIf(entry ->
+                !emitters.containsKey(entry.getKey()) && entry.getValue().isStale(reconcileIntervalMs));
+    }
+
+    public int getConnectionCount() {
+        return emitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    // Helper methods
+
+    private long reload(Long clientId) {
+        long count = notificationRepository.countByClientIdAndIsReadFalse(clientId);
+        if (unreadCounts.size() < maxCachedCounts || unreadCounts.containsKey(clientId)) {
+            unreadCounts.put(clientId, new UnreadCounter(count));
+        }
+        return count;
+    }
+
+    private long adjust(Long clientId, long delta) {
+        UnreadCounter counter = unreadCounts.get(clientId);
+        if (counter == null) {
+            return emitters.containsKey(clientId) ? reload(clientId) : 0;
+        }
+        return counter.count.updateAndGet(count -> Math.max(0, count + delta));
+    }
+
+    private void broadcast(Long clientId, long unreadCount, long delta) {
+        List<SseEmitter> clientEmitters = emitters.get(clientId);
+        if (clientEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : clientEmitters) {
+            send(clientId, emitter, SseEmitter.event().name("unread-count").data(unreadCountEvent(unreadCount, delta)));
+        }
+    }
+
+    private void send(Long clientId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping notification stream for client {}: {}", clientId, e.getMessage());
+            removeEmitter(clientId, emitter);
+        }
+    }
+
+    private void removeEmitter(Long clientId, SseEmitter emitter) {
+        emitters.computeIfPresent(clientId, (id, clientEmitters) -> {
+            clientEmitters.remove(emitter);
+            return clientEmitters.isEmpty() ? null : clientEmitters;
+        });
+    }
+
+    private Map<String, Object> unreadCountEvent(long unreadCount, long delta) {
+        Map<String, Object> event = new HashMap<>();
+        event.put("unreadCount", unreadCount);
+        event.put("delta", delta);
+        return event;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static class UnreadCounter {
+        private final AtomicLong count;
+        private final long loadedAt = System.currentTimeMillis();
+
+        private UnreadCounter(long count) {
+            this.count = new AtomicLong(count);
+        }
+
+        private boolean isStale(long maxAgeMs) {
+            return System.currentTimeMillis() - loadedAt >= maxAgeMs;
+        }
+    }
+}
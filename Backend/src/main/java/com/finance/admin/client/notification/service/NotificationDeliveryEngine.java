@@ -0,0 +1,345 @@
+package com.finance.admin.client.notification.service;
+
+import com.finance.admin.client.notification.model.ClientNotification;
+import com.finance.admin.client.notification.model.ClientNotification.DeliveryMethod;
+import com.finance.admin.client.notification.repository.ClientNotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Delivers client notifications on dedicated per-channel executors.
+ * Each external channel (EMAIL, SMS, PUSH) has its own bounded pool whose queue is ordered by
+ * {@link ClientNotification.PriorityLevel}, so urgent notifications overtake a large broadcast and
+ * a slow channel cannot starve the others. Failed sends are retried with exponential backoff.
+ * Delivery outcomes are not saved one by one; they are collected and written with bulk status
+ * updates on a short interval. A notification counts as in flight until its outcome is saved, so
+ * the scheduled dispatch path cannot send it again in between.
+ */
+@Component
+@Slf4j
+public class NotificationDeliveryEngine {
+
+    private static final List<DeliveryMethod> CHANNELS = List.of(DeliveryMethod.EMAIL, DeliveryMethod.SMS, DeliveryMethod.PUSH);
+
+    private final ClientNotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+
+    private final Map<DeliveryMethod, ThreadPoolExecutor> lanes = new EnumMap<>(DeliveryMethod.class);
+    private final Map<UUID, Delivery> inFlight = new ConcurrentHashMap<>();
+    private final Queue<UUID> delivered = new ConcurrentLinkedQueue<>();
+    private final Queue<UUID> failed = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private ScheduledExecutorService retryScheduler;
+
+    @Value("${app.notification.delivery.email-concurrency:16}")
+    private int emailConcurrency = 16;
+
+    @Value("${app.notification.delivery.sms-concurrency:8}")
+    private int smsConcurrency = 8;
+
+    @Value("${app.notification.delivery.push-concurrency:16}")
+    private int pushConcurrency = 16;
+
+    @Value("${app.notification.delivery.queue-capacity:50000}")
+    private int queueCapacity = 50000;
+
+    @Value("${app.notification.delivery.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${app.notification.delivery.retry-backoff-ms:1000}")
+    private long retryBackoffMs = 1000;
+
+    @Value("${app.notification.delivery.status-batch-size:1000}")
+    private int statusBatchSize = 1000;
+
+    public NotificationDeliveryEngine(ClientNotificationRepository notificationRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deliveredCounter = meterRegistry.counter("client.notifications.delivered");
+        this.failedCounter = meterRegistry.counter("client.notifications.failed");
+        this.retriedCounter = meterRegistry.counter("client.notifications.retried");
+    }
+
+    @PostConstruct
+    public void start() {
+        lanes.put(DeliveryMethod.EMAIL, newLane("email", emailConcurrency));
+        lanes.put(DeliveryMethod.SMS, newLane("sms", smsConcurrency));
+        lanes.put(DeliveryMethod.PUSH, newLane("push", pushConcurrency));
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notify-retry-"));
+    }
+
+    /**
+     * Queue a notification for delivery. Inside a transaction the notification is queued once the
+     * transaction commits, so status updates never race the insert. Notifications already being
+     * delivered are ignored.
+     */
+    public void submit(ClientNotification notification) {
+        submitAll(List.of(notification));
+    }
+
+    /**
+     * Queue several notifications for delivery
+     */
+    public void submitAll(Collection<ClientNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<ClientNotification> batch = new ArrayList<>(notifications);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(batch);
+                }
+            });
+        } else {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Write collected delivery outcomes with bulk status updates
+     */
+    @Scheduled(fixedDelayString = "${app.notification.delivery.flush-interval-ms:500}")
+    public void flush() {
+        flushStatus(delivered, ids -> notificationRepository.markAsDelivered(ids, LocalDateTime.now()));
+        flushStatus(failed, notificationRepository::markAsFailed);
+    }
+
+    /**
+     * Check whether a notification is queued, being delivered or waiting for its status update
+     */
+    public boolean isInFlight(UUID notificationId) {
+        return inFlight.containsKey(notificationId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor lane : lanes.values()) {
+            try {
+                lane.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (retryScheduler != null) {
+            retryScheduler.shutdownNow();
+        }
+        flush();
+    }
+
+    /**
+     * Send a notification over a single external channel
+     */
+    protected void send(DeliveryMethod channel, ClientNotification notification) throws Exception {
+        log.debug("Simulating {} delivery for notification: {}", channel, notification.getId());
+        switch (channel) {
+            case EMAIL -> Thread.sleep(100);
+            case SMS -> Thread.sleep(50);
+            case PUSH -> Thread.sleep(25);
+            default -> throw new IllegalArgumentException("Unsupported delivery channel: " + channel);
+        }
+    }
+
+    // Helper methods
+
+    private void dispatch(List<ClientNotification> notifications) {
+        for (ClientNotification notification : notifications) {
+            if (notification.getId() == null) {
+                continue;
+            }
+            List<DeliveryMethod> channels = channelsFor(notification.getDeliveryMethod());
+            Delivery delivery = new Delivery(channels.size());
+            if (inFlight.putIfAbsent(notification.getId(), delivery) != null) {
+                continue;
+            }
+            if (channels.isEmpty()) {
+                // In-app notifications are already stored in the database
+                complete(notification.getId(), delivery);
+                continue;
+            }
+            for (DeliveryMethod channel : channels) {
+                enqueue(new DeliveryTask(notification, channel, 1, sequence.incrementAndGet()));
+            }
+        }
+    }
+
+    private void enqueue(DeliveryTask task) {
+        ThreadPoolExecutor lane = lanes.get(task.channel);
+        if (lane.getQueue().size() >= queueCapacity) {
+            // The lane is saturated, so the caller delivers this one itself
+            task.run();
+            return;
+        }
+        try {
+            lane.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private void onSent(DeliveryTask task) {
+        Delivery delivery = inFlight.get(task.notification.getId());
+        if (delivery != null && delivery.remaining.decrementAndGet() == 0) {
+            complete(task.notification.getId(), delivery);
+        }
+    }
+
+    private void onFailed(DeliveryTask task, Exception e) {
+        if (task.attempt < maxAttempts && !retryScheduler.isShutdown()) {
+            long delay = retryBackoffMs << (task.attempt - 1);
+            log.warn("Delivery of notification {} via {} failed (attempt {}), retrying in {} ms: {}",
+                    task.notification.getId(), task.channel, task.attempt, delay, e.getMessage());
+            retriedCounter.increment();
+            retryScheduler.schedule(() -> enqueue(task.nextAttempt()), delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        log.error("Failed to send notification {} via {}: {}", task.notification.getId(), task.channel, e.getMessage());
+        Delivery delivery = inFlight.get(task.notification.getId());
+        if (delivery != null) {
+            delivery.failed = true;
+            if (delivery.remaining.decrementAndGet() == 0) {
+                complete(task.notification.getId(), delivery);
+            }
+        }
+    }
+
+    private void complete(UUID notificationId, Delivery delivery) {
+        if (delivery.failed) {
+            failed.add(notificationId);
+            failedCounter.increment();
+        } else {
+            delivered.add(notificationId);
+            deliveredCounter.increment();
+        }
+        // Stays in flight until the status flush has saved the outcome
+    }
+
+    private void flushStatus(Queue<UUID> pending, Consumer<List<UUID>> update) {
+        while (!pending.isEmpty()) {
+            List<UUID> ids = new ArrayList<>(statusBatchSize);
+            UUID id;
+            while (ids.size() < statusBatchSize && (id = pending.poll()) != null) {
+                ids.add(id);
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> update.accept(ids));
+                ids.forEach(inFlight::remove);
+            } catch (Exception e) {
+                log.error("Failed to update delivery status of {} notifications: {}", ids.size(), e.getMessage());
+                for (UUID failedId : ids) {
+                    Delivery delivery = inFlight.get(failedId);
+                    if (delivery != null && ++delivery.statusAttempts < maxAttempts) {
+                        pending.add(failedId);
+                    } else {
+                        // Left PENDING in the database, so the scheduled dispatch path picks it up again
+                        inFlight.remove(failedId);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    private List<DeliveryMethod> channelsFor(DeliveryMethod method) {
+        if (method == null) {
+            return List.of();
+        }
+        return switch (method) {
+            case IN_APP -> List.of();
+            case EMAIL -> List.of(DeliveryMethod.EMAIL);
+            case SMS -> List.of(DeliveryMethod.SMS);
+            case PUSH -> List.of(DeliveryMethod.PUSH);
+            case EMAIL_AND_PUSH, PUSH_AND_EMAIL -> List.of(DeliveryMethod.EMAIL, DeliveryMethod.PUSH);
+            case EMAIL_AND_SMS -> List.of(DeliveryMethod.EMAIL, DeliveryMethod.SMS);
+            case ALL -> CHANNELS;
+        };
+    }
+
+    private ThreadPoolExecutor newLane(String name, int concurrency) {
+        ThreadPoolExecutor lane = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), new CustomizableThreadFactory("notify-" + name + "-"));
+        lane.allowCoreThreadTimeOut(true);
+        return lane;
+    }
+
+    private static class Delivery {
+        private final AtomicInteger remaining;
+        private volatile boolean failed;
+        // Only touched by the status flush, which runs on one thread at a time
+        private int statusAttempts;
+
+        private Delivery(int channels) {
+            this.remaining = new AtomicInteger(channels);
+        }
+    }
+
+    private class DeliveryTask implements Runnable, Comparable<DeliveryTask> {
+        private final ClientNotification notification;
+        private final DeliveryMethod channel;
+        private final int attempt;
+        private final long order;
+
+        private DeliveryTask(ClientNotification notification, DeliveryMethod channel, int attempt, long order) {
+            this.notification = notification;
+            this.channel = channel;
+            this.attempt = attempt;
+            this.order = order;
+        }
+
+        private DeliveryTask nextAttempt() {
+            return new DeliveryTask(notification, channel, attempt + 1, order);
+        }
+
+        private int priority() {
+            return notification.getPriorityLevel() != null
+                    ? notification.getPriorityLevel().ordinal()
+                    : ClientNotification.PriorityLevel.NORMAL.ordinal();
+        }
+
+        @Override
+        public void run() {
+            try {
+                send(channel, notification);
+                log.debug("{} notification delivered: {}", channel, notification.getId());
+                onSent(this);
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                onFailed(this, e);
+            }
+        }
+
+        @Override
+        public int compareTo(DeliveryTask other) {
+            int byPriority = Integer.compare(other.priority(), priority());
+            return byPriority != 0 ? byPriority : Long.compare(order, other.order);
+        }
+    }
+}
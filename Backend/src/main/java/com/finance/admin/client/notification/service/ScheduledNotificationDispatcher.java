@@ -0,0 +1,122 @@
+package com.finance.admin.client.notification.service;
+
+import com.finance.admin.client.notification.model.ClientNotification;
+import com.finance.admin.client.notification.repository.ClientNotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dispatches due scheduled notifications in claimed pages so several backend nodes can share the work.
+ * Each page is selected with FOR UPDATE SKIP LOCKED and stamped with this node's id and a lease
+ * expiry before the transaction commits, so concurrent nodes skip rows another node is claiming and
+ * ignore rows under a live lease. If a node dies before delivery completes, its lease expires and
+ * the rows become claimable again. Dispatched notifications are pushed to connected clients at this
+ * point rather than when they were created.
+ */
+@Component
+@Slf4j
+public class ScheduledNotificationDispatcher {
+
+    private static final String SELECT_DUE_SQL =
+            "SELECT id FROM client_notifications " +
+            "WHERE delivery_status = 'PENDING' AND scheduled_at <= ? " +
+            "AND (claim_expires_at IS NULL OR claim_expires_at < ?) " +
+            "ORDER BY scheduled_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final ClientNotificationRepository notificationRepository;
+    private final NotificationDeliveryEngine deliveryEngine;
+    private final ClientNotificationStreamService streamService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    @Value("${app.notification.dispatch.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${app.notification.dispatch.max-batches-per-run:20}")
+    private int maxBatchesPerRun = 20;
+
+    @Value("${app.notification.dispatch.lease-seconds:300}")
+    private long leaseSeconds = 300;
+
+    public ScheduledNotificationDispatcher(ClientNotificationRepository notificationRepository,
+                                           NotificationDeliveryEngine deliveryEngine,
+                                           ClientNotificationStreamService streamService,
+                                           JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager) {
+        this.notificationRepository = notificationRepository;
+        this.deliveryEngine = deliveryEngine;
+        this.streamService = streamService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Claim and dispatch due notifications page by page
+     *
+     * @return Number of notifications dispatched
+     */
+    public int dispatchDue() {
+        int dispatched = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<UUID> claimed = claimBatch(LocalDateTime.now());
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            List<ClientNotification> notifications = notificationRepository.findAllById(claimed);
+            deliveryEngine.submitAll(notifications);
+            notifications.forEach(streamService::notificationDispatched);
+            dispatched += notifications.size();
+
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (dispatched > 0) {
+            log.debug("Node {} dispatched {} scheduled notifications", nodeId, dispatched);
+        }
+        return dispatched;
+    }
+
+    /**
+     * Stamp this node's lease on a notification that is being sent straight away, so other nodes
+     * leave it alone while the lease is live
+     */
+    public void claimForImmediateDelivery(ClientNotification notification) {
+        notification.setClaimedBy(nodeId);
+        notification.setClaimExpiresAt(LocalDateTime.now().plusSeconds(leaseSeconds));
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // Helper methods
+
+    private List<UUID> claimBatch(LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        LocalDateTime leaseExpiry = now.plusSeconds(leaseSeconds);
+        return transactionTemplate.execute(status -> {
+            List<UUID> ids = jdbcTemplate.queryForList(SELECT_DUE_SQL, UUID.class, timestamp, timestamp, batchSize);
+            if (!ids.isEmpty()) {
+                notificationRepository.claim(ids, nodeId, leaseExpiry);
+            }
+            return ids;
+        });
+    }
+}
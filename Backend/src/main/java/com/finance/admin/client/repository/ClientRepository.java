@@ -78,6 +78,13 @@ public interface ClientRepository extends JpaRepository<Client, Long>, JpaSpecif
     @Query("SELECT COUNT(c) FROM Client c WHERE c.createdAt >= :startDate")
     long countByCreatedAtAfter(@Param("startDate") LocalDateTime startDate);
 
+    @Query("SELECT c.status, COUNT(c) FROM Client c GROUP BY c.status")
+    List<Object[]> getClientStatusStatistics();
+
+    @Query("SELECT CAST(c.createdAt AS LocalDate), COUNT(c) FROM Client c " +
+           "WHERE c.createdAt >= :startDate AND c.createdAt < :endDate GROUP BY CAST(c.createdAt AS LocalDate)")
+    List<Object[]> countClientsCreatedPerDay(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
     // Blockchain related queries
     List<Client> findByBlockchainIdentityHashIsNull();
     List<Client> findByBlockchainIdentityHashIsNotNull();
@@ -0,0 +1,278 @@
+package com.finance.admin.client.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * Durable queue of items waiting to be anchored on the blockchain. Items are written as leaf
+ * hashes, together with the data each leaf was hashed from, each in its own transaction;
+ * {@link #flush} takes a batch of pending items, builds a {@link MerkleTree} over them, has the
+ * root anchored and stores each item's inclusion proof next to the batch. Items are claimed under
+ * a lease in one short transaction and the root is submitted outside any transaction, so no rows
+ * stay locked during the remote call. A failed anchor returns the items to pending; items whose
+ * node stopped mid-flush become claimable again once their lease expires.
+ */
+@Component
+@Slf4j
+public class BlockchainAnchorBatcher {
+
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO blockchain_anchor_items (id, item_type, operation, client_id, leaf_data, leaf_hash, status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 'PENDING', ?)";
+
+    private static final String CLAIMABLE =
+            "(status = 'PENDING' OR (status = 'ANCHORING' AND claim_expires_at < ?))";
+
+    private static final String PENDING_SUMMARY_SQL =
+            "SELECT COUNT(*) AS pending, MIN(created_at) AS oldest FROM blockchain_anchor_items WHERE " + CLAIMABLE;
+
+    private static final String SELECT_CLAIMABLE_SQL =
+            "SELECT id, leaf_hash FROM blockchain_anchor_items WHERE " + CLAIMABLE + " " +
+            "ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM_SQL =
+            "UPDATE blockchain_anchor_items SET status = 'ANCHORING', claim_expires_at = ? WHERE id = ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE blockchain_anchor_items SET status = 'PENDING', claim_expires_at = NULL " +
+            "WHERE id = ? AND status = 'ANCHORING'";
+
+    private static final String INSERT_BATCH_SQL =
+            "INSERT INTO blockchain_anchor_batches (id, merkle_root, transaction_hash, item_count, anchored_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String ANCHOR_ITEM_SQL =
+            "UPDATE blockchain_anchor_items SET status = 'ANCHORED', batch_id = ?, leaf_index = ?, inclusion_proof = ?, " +
+            "claim_expires_at = NULL WHERE id = ?";
+
+    private static final String FIND_PROOF_SQL =
+            "SELECT i.status, i.inclusion_proof, b.merkle_root, b.transaction_hash " +
+            "FROM blockchain_anchor_items i LEFT JOIN blockchain_anchor_batches b ON b.id = i.batch_id " +
+            "WHERE i.client_id = ? AND i.item_type = ? AND i.leaf_hash = ? " +
+            "ORDER BY CASE WHEN i.status = 'ANCHORED' THEN 0 ELSE 1 END, i.created_at DESC LIMIT 1";
+
+    private static final String FIND_ITEM_PROOF_SQL =
+            "SELECT i.leaf_data, i.status, i.inclusion_proof, b.merkle_root, b.transaction_hash " +
+            "FROM blockchain_anchor_items i LEFT JOIN blockchain_anchor_batches b ON b.id = i.batch_id " +
+            "WHERE i.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.blockchain.batching.claim-lease-seconds:300}")
+    private long claimLeaseSeconds = 300;
+
+    public BlockchainAnchorBatcher(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Queue an item for anchoring. The leaf data is stored with its hash so the leaf can be
+     * recomputed when the item is verified. Runs in its own transaction: callers treat anchoring as
+     * best effort, and a failed insert must not abort the caller's transaction.
+     *
+     * @return ID of the queued item
+     */
+    public UUID enqueue(String itemType, String operation, Long clientId, String leafData) {
+        UUID id = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_ITEM_SQL, id, itemType,
+                operation, clientId, leafData, MerkleTree.leafHash(leafData), Timestamp.valueOf(LocalDateTime.now())));
+        return id;
+    }
+
+    /**
+     * Whether a batch should be anchored now: enough items are pending to fill a batch, or the
+     * oldest pending item has waited for the maximum delay
+     */
+    public boolean isBatchDue(int batchSize, Duration maxWait) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.query(PENDING_SUMMARY_SQL, rs -> {
+            if (!rs.next() || rs.getLong("pending") == 0) {
+                return false;
+            }
+            Timestamp oldest = rs.getTimestamp("oldest");
+            return rs.getLong("pending") >= batchSize
+                    || !oldest.toLocalDateTime().plus(maxWait).isAfter(now);
+        }, Timestamp.valueOf(now));
+    }
+
+    /**
+     * Anchor up to {@code batchSize} pending items under one Merkle root
+     *
+     * @param rootAnchor Submits the Merkle root and returns the transaction hash
+     * @return The anchored batch, or empty when no items were pending
+     */
+    public Optional<AnchoredBatch> flush(int batchSize, UnaryOperator<String> rootAnchor) {
+        List<UUID> ids = new ArrayList<>();
+        List<String> leaves = new ArrayList<>();
+        claim(batchSize, ids, leaves);
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+
+        MerkleTree tree = new MerkleTree(leaves);
+        String transactionHash;
+        try {
+            transactionHash = rootAnchor.apply(tree.getRoot());
+        } catch (RuntimeException e) {
+            release(ids);
+            throw e;
+        }
+
+        UUID batchId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_BATCH_SQL, batchId, tree.getRoot(), transactionHash, ids.size(),
+                    Timestamp.valueOf(LocalDateTime.now()));
+            jdbcTemplate.batchUpdate(ANCHOR_ITEM_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int index) throws SQLException {
+                    ps.setObject(1, batchId);
+                    ps.setInt(2, index);
+                    ps.setString(3, tree.proof(index));
+                    ps.setObject(4, ids.get(index));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return ids.size();
+                }
+            });
+        });
+        return Optional.of(new AnchoredBatch(batchId, tree.getRoot(), transactionHash, ids.size()));
+    }
+
+    /**
+     * Find the most recent item queued for a client with the given leaf hash
+     */
+    public Optional<InclusionProof> findProof(String itemType, Long clientId, String leafHash) {
+        List<InclusionProof> proofs = jdbcTemplate.query(FIND_PROOF_SQL, (rs, rowNum) -> new InclusionProof(
+                leafHash,
+                "ANCHORED".equals(rs.getString("status")),
+                rs.getString("inclusion_proof"),
+                rs.getString("merkle_root"),
+                rs.getString("transaction_hash")), clientId, itemType, leafHash);
+        return proofs.stream().findFirst();
+    }
+
+    /**
+     * Find a queued item by ID, with its leaf hash recomputed from the stored leaf data
+     */
+    public Optional<InclusionProof> findProof(UUID itemId) {
+        List<InclusionProof> proofs = jdbcTemplate.query(FIND_ITEM_PROOF_SQL, (rs, rowNum) -> new InclusionProof(
+                MerkleTree.leafHash(rs.getString("leaf_data")),
+                "ANCHORED".equals(rs.getString("status")),
+                rs.getString("inclusion_proof"),
+                rs.getString("merkle_root"),
+                rs.getString("transaction_hash")), itemId);
+        return proofs.stream().findFirst();
+    }
+
+    // Helper methods
+
+    private void claim(int batchSize, List<UUID> ids, List<String> leaves) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp leaseExpiry = Timestamp.valueOf(now.plusSeconds(claimLeaseSeconds));
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.query(SELECT_CLAIMABLE_SQL, rs -> {
+                ids.add(rs.getObject("id", UUID.class));
+                leaves.add(rs.getString("leaf_hash"));
+            }, Timestamp.valueOf(now), batchSize);
+            if (!ids.isEmpty()) {
+                jdbcTemplate.batchUpdate(CLAIM_SQL, ids, ids.size(), (ps, id) -> {
+                    ps.setTimestamp(1, leaseExpiry);
+                    ps.setObject(2, id);
+                });
+            }
+        });
+    }
+
+    private void release(List<UUID> ids) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(RELEASE_SQL, ids, ids.size(), (ps, id) -> ps.setObject(1, id)));
+        } catch (Exception e) {
+            // The claim lease expires and the items are picked up again
+            log.error("Failed to release {} blockchain anchor items: {}", ids.size(), e.getMessage());
+        }
+    }
+
+    public static class AnchoredBatch {
+        private final UUID batchId;
+        private final String merkleRoot;
+        private final String transactionHash;
+        private final int itemCount;
+
+        AnchoredBatch(UUID batchId, String merkleRoot, String transactionHash, int itemCount) {
+            this.batchId = batchId;
+            this.merkleRoot = merkleRoot;
+            this.transactionHash = transactionHash;
+            this.itemCount = itemCount;
+        }
+
+        public UUID getBatchId() {
+            return batchId;
+        }
+
+        public String getMerkleRoot() {
+            return merkleRoot;
+        }
+
+        public String getTransactionHash() {
+            return transactionHash;
+        }
+
+        public int getItemCount() {
+            return itemCount;
+        }
+    }
+
+    public static class InclusionProof {
+        private final String leafHash;
+        private final boolean anchored;
+        private final String proof;
+        private final String merkleRoot;
+        private final String transactionHash;
+
+        InclusionProof(String leafHash, boolean anchored, String proof, String merkleRoot, String transactionHash) {
+            this.leafHash = leafHash;
+            this.anchored = anchored;
+            this.proof = proof;
+            this.merkleRoot = merkleRoot;
+            this.transactionHash = transactionHash;
+        }
+
+        public boolean isAnchored() {
+            return anchored;
+        }
+
+        public String getTransactionHash() {
+            return transactionHash;
+        }
+
+        /**
+         * Check the proof against the anchored root without querying the chain
+         */
+        public boolean verify() {
+            return anchored && merkleRoot != null && MerkleTree.verify(leafHash, proof, merkleRoot);
+        }
+    }
+}
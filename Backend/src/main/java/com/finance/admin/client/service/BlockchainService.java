@@ -3,11 +3,14 @@ package com.finance.admin.client.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -15,6 +18,11 @@ import java.util.UUID;
 @Slf4j
 public class BlockchainService {
 
+    private static final String ITEM_AUDIT_LOG = "AUDIT_LOG";
+    private static final String ITEM_IDENTITY_ANCHOR = "IDENTITY_ANCHOR";
+
+    private final BlockchainAnchorBatcher anchorBatcher;
+
     @Value("${app.blockchain.enabled:true}")
     private boolean blockchainEnabled;
 
@@ -24,16 +32,32 @@ public class BlockchainService {
     @Value("${app.blockchain.contract.address:}")
     private String contractAddress;
 
+    @Value("${app.blockchain.batching.enabled:true}")
+    private boolean batchingEnabled = true;
+
+    @Value("${app.blockchain.batching.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${app.blockchain.batching.max-wait-ms:30000}")
+    private long maxWaitMs = 30000;
+
     /**
      * Anchor client identity hash on blockchain
      * 
      * @param clientId The client ID
      * @param identityHash The SHA-256 hash of client identity data
-     * @return Transaction hash from blockchain
+     * @return Transaction hash from blockchain, or the ID of the queued anchor item when batching
      */
     public String anchorIdentity(Long clientId, String identityHash) {
         log.info("Anchoring identity for client {} with hash {} on blockchain", clientId, identityHash);
 
+        if (batchingEnabled) {
+            UUID itemId = anchorBatcher.enqueue(ITEM_IDENTITY_ANCHOR, ITEM_IDENTITY_ANCHOR, clientId,
+                    identityLeafData(clientId, identityHash));
+            log.info("Queued identity anchor {} for client {}", itemId, clientId);
+            return itemId.toString();
+        }
+
         if (!blockchainEnabled) {
             log.warn("Blockchain is disabled, simulating identity anchoring");
             return simulateBlockchainTransaction("IDENTITY_ANCHOR", clientId, identityHash);
@@ -70,11 +94,19 @@ public class BlockchainService {
      * @param operation The operation type (CREATE, UPDATE, DELETE, etc.)
      * @param clientId The client ID
      * @param operationData Data related to the operation
-     * @return Transaction hash from blockchain
+     * @return Transaction hash from blockchain, or the ID of the queued anchor item when batching
      */
     public String createAuditLog(String operation, Long clientId, String operationData) {
         log.info("Creating blockchain audit log for operation {} on client {}", operation, clientId);
 
+        if (batchingEnabled) {
+            // The leaf data carries its timestamp and is stored with the item, so the leaf can be recomputed
+            UUID itemId = anchorBatcher.enqueue(ITEM_AUDIT_LOG, operation, clientId,
+                    prepareAuditLogTransaction(operation, clientId, operationData));
+            log.debug("Queued audit log {} for client {}", itemId, clientId);
+            return itemId.toString();
+        }
+
         if (!blockchainEnabled) {
             log.warn("Blockchain is disabled, simulating audit logging");
             return simulateBlockchainTransaction("AUDIT_LOG", clientId, operationData);
@@ -107,6 +139,19 @@ public class BlockchainService {
     public boolean verifyIdentityHash(Long clientId, String identityHash) {
         log.info("Verifying identity hash for client {} on blockchain", clientId);
 
+        if (batchingEnabled) {
+            Optional<BlockchainAnchorBatcher.InclusionProof> proof = anchorBatcher.findProof(
+                    ITEM_IDENTITY_ANCHOR, clientId, MerkleTree.leafHash(identityLeafData(clientId, identityHash)));
+            if (proof.isPresent()) {
+                if (!proof.get().isAnchored()) {
+                    log.info("Identity hash for client {} is queued but not yet anchored", clientId);
+                    return false;
+                }
+                return proof.get().verify();
+            }
+            // Identities anchored before batching have no proof and are checked on chain
+        }
+
         if (!blockchainEnabled) {
             log.warn("Blockchain is disabled, simulating identity verification");
             return true; // Simulate successful verification
@@ -123,6 +168,21 @@ public class BlockchainService {
         }
     }
 
+    /**
+     * Verify a batched audit log entry against its anchored Merkle root
+     * 
+     * @param itemId The ID returned by createAuditLog when batching
+     * @return true if the entry is anchored and its recomputed leaf matches the proof
+     */
+    public boolean verifyAuditLog(UUID itemId) {
+        Optional<BlockchainAnchorBatcher.InclusionProof> proof = anchorBatcher.findProof(itemId);
+        if (proof.isEmpty()) {
+            log.warn("No queued audit log found with ID {}", itemId);
+            return false;
+        }
+        return proof.get().verify();
+    }
+
     /**
      * Get blockchain transaction status
      * 
@@ -146,8 +206,49 @@ public class BlockchainService {
         }
     }
 
+    /**
+     * Anchor pending audit logs and identity anchors, one Merkle root per batch, once a batch is
+     * full or its oldest item has waited for the maximum delay
+     */
+    @Scheduled(fixedDelayString = "${app.blockchain.batching.poll-interval-ms:1000}")
+    public void flushAnchorBatches() {
+        if (!batchingEnabled) {
+            return;
+        }
+        Duration maxWait = Duration.ofMillis(maxWaitMs);
+        try {
+            while (anchorBatcher.isBatchDue(batchSize, maxWait)) {
+                Optional<BlockchainAnchorBatcher.AnchoredBatch> batch = anchorBatcher.flush(batchSize, this::anchorMerkleRoot);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                log.info("Anchored {} items under Merkle root {} with transaction hash: {}",
+                        batch.get().getItemCount(), batch.get().getMerkleRoot(), batch.get().getTransactionHash());
+            }
+        } catch (Exception e) {
+            log.error("Failed to anchor blockchain batch, items stay queued: {}", e.getMessage(), e);
+        }
+    }
+
     // Private helper methods
 
+    private String anchorMerkleRoot(String merkleRoot) {
+        if (!blockchainEnabled) {
+            log.warn("Blockchain is disabled, simulating Merkle root anchoring");
+            return simulateBlockchainTransaction("MERKLE_ROOT", 0L, merkleRoot);
+        }
+
+        String transactionData = String.format("ANCHOR_MERKLE_ROOT|%s|%s", merkleRoot, LocalDateTime.now());
+        String transactionHash = submitToBlockchain(signTransaction(transactionData));
+        logBlockchainAuditTrail("MERKLE_ROOT", 0L, merkleRoot, transactionHash);
+        return transactionHash;
+    }
+
+    private String identityLeafData(Long clientId, String identityHash) {
+        // No timestamp, so the leaf can be recomputed from the client's identity hash when verifying
+        return String.format("ANCHOR_IDENTITY|%d|%s", clientId, identityHash);
+    }
+
     private String simulateBlockchainTransaction(String operation, Long clientId, String data) {
         // Generate a simulated transaction hash
         try {
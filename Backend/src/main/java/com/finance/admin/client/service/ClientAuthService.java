@@ -29,10 +29,16 @@ public class ClientAuthService {
     private final JwtTokenService jwtTokenService;
     private final BlockchainService blockchainService;
     private final ClientSessionService sessionService;
+    private final LoginFailureCounter loginFailureCounter;
+    private final ClientLoginHistoryRecorder loginHistoryRecorder;
+    private final ClientLoginEventPipeline loginEventPipeline;
 
     @Value("${app.security.max-failed-attempts:5}")
     private int maxFailedAttempts;
 
+    @Value("${app.security.login-failures.max-per-ip:20}")
+    private int maxFailedAttemptsPerIp;
+
     @Value("${app.security.lockout-duration-minutes:30}")
     private int lockoutDurationMinutes;
 
@@ -45,8 +51,8 @@ public class ClientAuthService {
         // Find client by email or phone
         Client client = findClientByEmailOrPhone(request.getEmailOrPhone());
 
-        // Check if account is locked
-        if (isAccountLocked(client)) {
+        // Check if account or address is locked
+        if (isAccountLocked(client, request.getIpAddress())) {
             recordFailedLogin(client, request, "Account locked due to too many failed attempts");
             throw new RuntimeException("Account is temporarily locked. Please try again later.");
         }
@@ -69,24 +75,21 @@ public class ClientAuthService {
             throw new RuntimeException("Account is not active");
         }
 
-        // Record successful login
-        ClientLoginHistory loginHistory = recordSuccessfulLogin(client, request);
+        loginFailureCounter.reset(client.getId());
+        LocalDateTime loginAt = LocalDateTime.now();
 
         // Generate JWT tokens
         String accessToken = jwtTokenService.generateAccessToken(client);
         String refreshToken = jwtTokenService.generateRefreshToken(client);
 
         // Create session with remember me if requested
-        ClientSession session = sessionService.createSession(client, accessToken, request.isRememberMe(), 
+        ClientSession session = sessionService.openSession(client, accessToken, request.isRememberMe(), 
             request.getIpAddress(), request.getUserAgent());
 
-        // Create blockchain audit log
-        try {
-            blockchainService.createAuditLog("CLIENT_LOGIN", client.getId(), 
-                "Client login from IP: " + request.getIpAddress());
-        } catch (Exception e) {
-            log.warn("Failed to create blockchain audit log for client login: {}", e.getMessage());
-        }
+        // Login history, session limit and blockchain audit log are recorded after commit
+        loginEventPipeline.publish(client.getId(), "CLIENT_LOGIN",
+            "Client login from IP: " + request.getIpAddress(),
+            request.getIpAddress(), request.getUserAgent(), loginAt);
 
         // Prepare response
         Map<String, Object> response = new HashMap<>();
@@ -97,7 +100,7 @@ public class ClientAuthService {
         response.put("tokenType", "Bearer");
         response.put("expiresIn", jwtTokenService.getAccessTokenExpirationSeconds());
         response.put("client", createClientSummary(client));
-        response.put("loginHistory", createLoginHistorySummary(loginHistory));
+        response.put("loginHistory", createLoginHistorySummary(loginAt, request.getIpAddress(), request.getUserAgent()));
         
         // Include remember me token if enabled
         if (request.isRememberMe() && session.getRememberMeToken() != null) {
@@ -339,39 +342,20 @@ public class ClientAuthService {
         return true; // Simulate successful password verification
     }
 
-    private boolean isAccountLocked(Client client) {
-        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(lockoutDurationMinutes);
-        
-        List<ClientLoginHistory> recentFailures = loginHistoryRepository
-            .findFailedLoginAttemptsSince(client.getId(), cutoffTime);
-
-        return recentFailures.size() >= maxFailedAttempts;
+    private boolean isAccountLocked(Client client, String ipAddress) {
+        return loginFailureCounter.clientFailures(client.getId()) >= maxFailedAttempts
+            || loginFailureCounter.ipFailures(ipAddress) >= maxFailedAttemptsPerIp;
     }
 
     private void checkAndLockAccount(Client client) {
-        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(lockoutDurationMinutes);
-        
-        List<ClientLoginHistory> recentFailures = loginHistoryRepository
-            .findFailedLoginAttemptsSince(client.getId(), cutoffTime);
-
-        if (recentFailures.size() >= maxFailedAttempts - 1) {
+        if (loginFailureCounter.clientFailures(client.getId()) >= maxFailedAttempts - 1) {
             log.warn("Account for client {} will be locked after this failed attempt", client.getId());
         }
     }
 
-    private ClientLoginHistory recordSuccessfulLogin(Client client, ClientLoginRequest request) {
-        ClientLoginHistory loginHistory = ClientLoginHistory.builder()
-            .clientId(client.getId())
-            .ipAddress(request.getIpAddress())
-            .userAgent(request.getUserAgent())
-            .loginSuccessful(true)
-            .build();
-
-        return loginHistoryRepository.save(loginHistory);
-    }
-
     private void recordFailedLogin(Client client, ClientLoginRequest request, String reason) {
         ClientLoginHistory loginHistory = ClientLoginHistory.builder()
+            .client(client)
             .clientId(client.getId())
             .ipAddress(request.getIpAddress())
             .userAgent(request.getUserAgent())
@@ -379,7 +363,8 @@ public class ClientAuthService {
             .failureReason(reason)
             .build();
 
-        loginHistoryRepository.save(loginHistory);
+        loginFailureCounter.recordFailure(client.getId(), request.getIpAddress());
+        loginHistoryRecorder.recordFailedLogin(loginHistory);
     }
 
     private Map<String, Object> createClientSummary(Client client) {
@@ -393,11 +378,11 @@ public class ClientAuthService {
         return summary;
     }
 
-    private Map<String, Object> createLoginHistorySummary(ClientLoginHistory loginHistory) {
+    private Map<String, Object> createLoginHistorySummary(LocalDateTime loginTime, String ipAddress, String userAgent) {
         Map<String, Object> summary = new HashMap<>();
-        summary.put("loginTime", loginHistory.getLoginTimestamp());
-        summary.put("ipAddress", loginHistory.getIpAddress());
-        summary.put("userAgent", loginHistory.getUserAgent());
+        summary.put("loginTime", loginTime);
+        summary.put("ipAddress", ipAddress);
+        summary.put("userAgent", userAgent);
         return summary;
     }
 
@@ -491,24 +476,11 @@ public class ClientAuthService {
             String refreshToken = jwtTokenService.generateRefreshToken(client);
 
             // Create new session (this will also extend remember me)
-            ClientSession newSession = sessionService.createSession(client, accessToken, true, ipAddress, userAgent);
-
-            // Record successful login
-            ClientLoginHistory loginHistory = ClientLoginHistory.builder()
-                .clientId(client.getId())
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .loginSuccessful(true)
-                .build();
-            loginHistoryRepository.save(loginHistory);
+            ClientSession newSession = sessionService.openSession(client, accessToken, true, ipAddress, userAgent);
 
-            // Create blockchain audit log
-            try {
-                blockchainService.createAuditLog("REMEMBER_ME_LOGIN", client.getId(), 
-                    "Remember me login from IP: " + ipAddress);
-            } catch (Exception e) {
-                log.warn("Failed to create blockchain audit log: {}", e.getMessage());
-            }
+            // Login history, session limit and blockchain audit log are recorded after commit
+            loginEventPipeline.publish(client.getId(), "REMEMBER_ME_LOGIN",
+                "Remember me login from IP: " + ipAddress, ipAddress, userAgent, LocalDateTime.now());
 
             // Prepare response
             Map<String, Object> response = new HashMap<>();
@@ -0,0 +1,317 @@
+package com.finance.admin.client.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the side effects of a client login after the login has returned: the login history entry,
+ * trimming the client's sessions to the concurrent-session limit, and the blockchain audit log.
+ * Publishing writes an event row in the login's transaction, so nothing is lost if the node stops;
+ * after commit the event is handed to one of several single-threaded lanes chosen by client id,
+ * which keeps each client's events in order. Progress is recorded per step, failed events are
+ * retried with backoff, and events a node did not finish are claimed by the poller on any node once
+ * their lease expires. Each step renews the lease in its own transaction and is skipped if another
+ * node has taken the event over in the meantime.
+ */
+@Component
+@Slf4j
+public class ClientLoginEventPipeline {
+
+    static final int STEP_LOGIN_HISTORY = 1;
+    static final int STEP_SESSION_LIMIT = 2;
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO client_login_events (id, client_id, operation, audit_message, ip_address, user_agent, " +
+            "login_at, status, completed_steps, attempts, next_attempt_at, claimed_by, claim_expires_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING', 0, 0, ?, ?, ?, ?)";
+
+    private static final String SELECT_DUE_SQL =
+            "SELECT id, client_id, operation, audit_message, ip_address, user_agent, login_at, completed_steps, attempts " +
+            "FROM client_login_events " +
+            "WHERE status = 'PENDING' AND next_attempt_at <= ? " +
+            "AND (claim_expires_at IS NULL OR claim_expires_at < ?) " +
+            "ORDER BY login_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM_SQL =
+            "UPDATE client_login_events SET claimed_by = ?, claim_expires_at = ? WHERE id = ?";
+
+    private static final String RENEW_CLAIM_SQL =
+            "UPDATE client_login_events SET claim_expires_at = ? " +
+            "WHERE id = ? AND claimed_by = ? AND status = 'PENDING'";
+
+    private static final String INSERT_LOGIN_HISTORY_SQL =
+            "INSERT INTO client_login_history (client_id, login_timestamp, ip_address, user_agent, login_successful) " +
+            "VALUES (?, ?, ?, ?, TRUE)";
+
+    private static final String ADVANCE_SQL =
+            "UPDATE client_login_events SET completed_steps = ? WHERE id = ?";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM client_login_events WHERE id = ?";
+
+    private static final String RETRY_SQL =
+            "UPDATE client_login_events SET attempts = ?, completed_steps = ?, next_attempt_at = ?, " +
+            "claimed_by = NULL, claim_expires_at = NULL, last_error = ? WHERE id = ? AND claimed_by = ?";
+
+    private static final String GIVE_UP_SQL =
+            "UPDATE client_login_events SET status = 'FAILED', attempts = ?, completed_steps = ?, " +
+            "claimed_by = NULL, claim_expires_at = NULL, last_error = ? WHERE id = ? AND claimed_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClientSessionService sessionService;
+    private final BlockchainService blockchainService;
+    private final String nodeId;
+
+    private ThreadPoolExecutor[] lanes;
+
+    @Value("${app.client-login-events.lanes:4}")
+    private int laneCount = 4;
+
+    @Value("${app.client-login-events.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${app.client-login-events.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${app.client-login-events.retry-backoff-ms:2000}")
+    private long retryBackoffMs = 2000;
+
+    @Value("${app.client-login-events.lease-seconds:120}")
+    private long leaseSeconds = 120;
+
+    @Value("${app.client-login-events.batch-size:200}")
+    private int batchSize = 200;
+
+    public ClientLoginEventPipeline(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    ClientSessionService sessionService,
+                                    BlockchainService blockchainService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.sessionService = sessionService;
+        this.blockchainService = blockchainService;
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PostConstruct
+    public void start() {
+        lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    new CustomizableThreadFactory("client-login-events-" + i + "-"),
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Record a successful login. The event row joins the caller's transaction; processing starts
+     * once that transaction commits.
+     */
+    public void publish(Long clientId, String operation, String auditMessage,
+                        String ipAddress, String userAgent, LocalDateTime loginAt) {
+        LoginEvent event = new LoginEvent(UUID.randomUUID(), clientId, operation, auditMessage,
+                ipAddress, userAgent, loginAt, 0, 0);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(INSERT_EVENT_SQL, event.id, clientId, operation, auditMessage, ipAddress, userAgent,
+                Timestamp.valueOf(loginAt), Timestamp.valueOf(now), nodeId, Timestamp.valueOf(now.plusSeconds(leaseSeconds)),
+                Timestamp.valueOf(now));
+        afterCommit(() -> submit(event));
+    }
+
+    /**
+     * Claim events that are due for a retry or were left unfinished by a node
+     *
+     * @return Number of events claimed
+     */
+    @Scheduled(fixedDelayString = "${app.client-login-events.poll-interval-ms:10000}")
+    public int pollPending() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        Timestamp leaseExpiry = Timestamp.valueOf(now.plusSeconds(leaseSeconds));
+        List<LoginEvent> claimed = transactionTemplate.execute(status -> {
+            List<LoginEvent> events = jdbcTemplate.query(SELECT_DUE_SQL, EVENT_MAPPER, timestamp, timestamp, batchSize);
+            for (LoginEvent event : events) {
+                jdbcTemplate.update(CLAIM_SQL, nodeId, leaseExpiry, event.id);
+            }
+            return events;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        claimed.forEach(this::submit);
+        log.debug("Node {} claimed {} pending client login events", nodeId, claimed.size());
+        return claimed.size();
+    }
+
+    // Helper methods
+
+    private void submit(LoginEvent event) {
+        ThreadPoolExecutor lane = lanes[Math.floorMod(event.clientId.hashCode(), lanes.length)];
+        try {
+            lane.execute(() -> process(event));
+        } catch (RejectedExecutionException e) {
+            // The row stays pending; the poller picks it up once the lease expires
+            log.warn("Client login event lane is full, deferring event {} for client {}", event.id, event.clientId);
+        }
+    }
+
+    void process(LoginEvent event) {
+        int step = event.completedSteps;
+        try {
+            if (step < STEP_LOGIN_HISTORY) {
+                if (!runClaimed(event, () -> {
+                    jdbcTemplate.update(INSERT_LOGIN_HISTORY_SQL, event.clientId, Timestamp.valueOf(event.loginAt),
+                            event.ipAddress, event.userAgent);
+                    jdbcTemplate.update(ADVANCE_SQL, STEP_LOGIN_HISTORY, event.id);
+                })) {
+                    return;
+                }
+                step = STEP_LOGIN_HISTORY;
+            }
+            if (step < STEP_SESSION_LIMIT) {
+                if (!runClaimed(event, () -> {
+                    sessionService.enforceSessionLimit(event.clientId);
+                    jdbcTemplate.update(ADVANCE_SQL, STEP_SESSION_LIMIT, event.id);
+                })) {
+                    return;
+                }
+                step = STEP_SESSION_LIMIT;
+            }
+            // The audit log is queued in its own transaction; if removing the event then fails, the retry
+            // queues it again, which is preferred to losing it
+            runClaimed(event, () -> {
+                blockchainService.createAuditLog(event.operation, event.clientId, event.auditMessage);
+                jdbcTemplate.update(DELETE_SQL, event.id);
+            });
+        } catch (Exception e) {
+            fail(event, step, e);
+        }
+    }
+
+    /**
+     * Run a step in its own transaction after renewing this node's lease on the event. The renewal
+     * locks the row until the step commits, so another node cannot claim it part way through.
+     *
+     * @return false if the event is no longer claimed by this node and the step was skipped
+     */
+    private boolean runClaimed(LoginEvent event, Runnable step) {
+        Timestamp leaseExpiry = Timestamp.valueOf(LocalDateTime.now().plusSeconds(leaseSeconds));
+        Boolean ran = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(RENEW_CLAIM_SQL, leaseExpiry, event.id, nodeId) == 0) {
+                return false;
+            }
+            step.run();
+            return true;
+        });
+        if (!Boolean.TRUE.equals(ran)) {
+            log.debug("Client login event {} is no longer claimed by node {}, leaving it to its new owner", event.id, nodeId);
+            return false;
+        }
+        return true;
+    }
+
+    private void fail(LoginEvent event, int step, Exception error) {
+        int attempts = event.attempts + 1;
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        try {
+            if (attempts >= maxAttempts) {
+                log.error("Giving up on client login event {} for client {} after {} attempts: {}",
+                        event.id, event.clientId, attempts, message);
+                jdbcTemplate.update(GIVE_UP_SQL, attempts, step, message, event.id, nodeId);
+            } else {
+                long delayMs = retryBackoffMs * (1L << (attempts - 1));
+                log.warn("Client login event {} for client {} failed at step {}, retrying in {} ms: {}",
+                        event.id, event.clientId, step + 1, delayMs, message);
+                jdbcTemplate.update(RETRY_SQL, attempts, step,
+                        Timestamp.valueOf(LocalDateTime.now().plusNanos(delayMs * 1_000_000)), message, event.id, nodeId);
+            }
+        } catch (Exception e) {
+            // The lease expires and the poller retries the event from its last recorded step
+            log.error("Failed to record failure of client login event {}: {}", event.id, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final RowMapper<LoginEvent> EVENT_MAPPER = (rs, rowNum) -> new LoginEvent(
+            rs.getObject("id", UUID.class),
+            rs.getLong("client_id"),
+            rs.getString("operation"),
+            rs.getString("audit_message"),
+            rs.getString("ip_address"),
+            rs.getString("user_agent"),
+            rs.getTimestamp("login_at").toLocalDateTime(),
+            rs.getInt("completed_steps"),
+            rs.getInt("attempts"));
+
+    static class LoginEvent {
+        private final UUID id;
+        private final Long clientId;
+        private final String operation;
+        private final String auditMessage;
+        private final String ipAddress;
+        private final String userAgent;
+        private final LocalDateTime loginAt;
+        private final int completedSteps;
+        private final int attempts;
+
+        LoginEvent(UUID id, Long clientId, String operation, String auditMessage, String ipAddress,
+                   String userAgent, LocalDateTime loginAt, int completedSteps, int attempts) {
+            this.id = id;
+            this.clientId = clientId;
+            this.operation = operation;
+            this.auditMessage = auditMessage;
+            this.ipAddress = ipAddress;
+            this.userAgent = userAgent;
+            this.loginAt = loginAt;
+            this.completedSteps = completedSteps;
+            this.attempts = attempts;
+        }
+    }
+}
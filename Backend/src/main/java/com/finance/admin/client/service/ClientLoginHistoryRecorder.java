@@ -0,0 +1,32 @@
+package com.finance.admin.client.service;
+
+import com.finance.admin.client.model.ClientLoginHistory;
+import com.finance.admin.client.repository.ClientLoginHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Persists failed login attempts for audit off the login path. Each entry is written in its own
+ * transaction, so it is kept even though the login that produced it fails and rolls back.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClientLoginHistoryRecorder {
+
+    private final ClientLoginHistoryRepository loginHistoryRepository;
+
+    @Async
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailedLogin(ClientLoginHistory loginHistory) {
+        try {
+            loginHistoryRepository.save(loginHistory);
+        } catch (Exception e) {
+            log.error("Failed to record failed login for client {}: {}", loginHistory.getClientId(), e.getMessage());
+        }
+    }
+}
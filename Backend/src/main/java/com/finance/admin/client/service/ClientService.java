@@ -9,6 +9,7 @@ import com.finance.admin.client.repository.ClientLoginHistoryRepository;
 import com.finance.admin.common.exception.ResourceNotFoundException;
 import com.finance.admin.common.exception.DuplicateResourceException;
 import com.finance.admin.common.exception.ValidationException;
+import com.finance.admin.dashboard.service.DashboardMetricsStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -39,6 +40,7 @@ public class ClientService {
     private final BlockchainService blockchainService;
     private final MembershipNumberGenerator membershipNumberGenerator;
     private final ClientMapper clientMapper;
+    private final DashboardMetricsStore dashboardMetricsStore;
 
     /**
      * Create a new client profile
@@ -96,6 +98,7 @@ public class ClientService {
 
         // Save client
         client = clientRepository.save(client);
+        dashboardMetricsStore.recordClientCreated(client.getStatus());
 
         // Generate blockchain identity hash asynchronously
         generateBlockchainIdentityHashAsync(client);
@@ -179,8 +182,10 @@ public class ClientService {
         log.info("Deactivating client with ID: {}", id);
 
         Client client = findClientById(id);
+        Client.ClientStatus previousStatus = client.getStatus();
         client.setStatus(Client.ClientStatus.INACTIVE);
         clientRepository.save(client);
+        dashboardMetricsStore.recordClientStatusChanged(previousStatus, Client.ClientStatus.INACTIVE);
 
         log.info("Deactivated client with ID: {}", id);
     }
@@ -245,7 +250,7 @@ public class ClientService {
             client.setBlockchainIdentityHash(identityHash);
             clientRepository.save(client);
             
-            log.info("Successfully anchored identity for client {} with transaction hash: {}", clientId, transactionHash);
+            log.info("Successfully anchored identity for client {} with reference: {}", clientId, transactionHash);
         } catch (Exception e) {
             log.error("Failed to anchor identity for client {}: {}", clientId, e.getMessage(), e);
             throw new RuntimeException("Failed to anchor identity on blockchain", e);
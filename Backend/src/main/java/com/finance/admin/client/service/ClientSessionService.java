@@ -38,11 +38,21 @@ public class ClientSessionService {
     public ClientSession createSession(Client client, String sessionToken, boolean rememberMe, 
                                      String ipAddress, String userAgent) {
         
-        log.info("Creating session for client: {}, rememberMe: {}", client.getId(), rememberMe);
-
         // Check and cleanup old sessions if needed
         cleanupOldSessionsForClient(client.getId());
 
+        return openSession(client, sessionToken, rememberMe, ipAddress, userAgent);
+    }
+
+    /**
+     * Create a new session for client without enforcing the concurrent session limit. Used on the
+     * login path, where the limit is enforced afterwards by the login event pipeline.
+     */
+    public ClientSession openSession(Client client, String sessionToken, boolean rememberMe,
+                                     String ipAddress, String userAgent) {
+
+        log.info("Creating session for client: {}, rememberMe: {}", client.getId(), rememberMe);
+
         ClientSession session = ClientSession.builder()
                 .clientId(client.getId())
                 .sessionToken(sessionToken)
@@ -175,18 +185,30 @@ public class ClientSessionService {
         }
     }
 
+    /**
+     * Invalidate the least recently used sessions of a client beyond the concurrent session limit
+     */
+    public void enforceSessionLimit(Long clientId) {
+        invalidateSessionsBeyond(clientId, maxConcurrentSessions);
+    }
+
     /**
      * Cleanup old sessions for a client (keep only most recent ones)
      */
     private void cleanupOldSessionsForClient(Long clientId) {
+        // Leave room for the session about to be created
+        invalidateSessionsBeyond(clientId, maxConcurrentSessions - 1);
+    }
+
+    private void invalidateSessionsBeyond(Long clientId, int keep) {
         List<ClientSession> activeSessions = sessionRepository.findByClientIdAndIsActiveTrue(clientId);
         
-        if (activeSessions.size() >= maxConcurrentSessions) {
+        if (activeSessions.size() > keep) {
             // Sort by last accessed time and keep only the most recent ones
             activeSessions.sort((s1, s2) -> s2.getLastAccessed().compareTo(s1.getLastAccessed()));
             
             // Invalidate older sessions
-            for (int i = maxConcurrentSessions - 1; i < activeSessions.size(); i++) {
+            for (int i = Math.max(keep, 0); i < activeSessions.size(); i++) {
                 activeSessions.get(i).invalidate();
                 sessionRepository.save(activeSessions.get(i));
                 log.info("Invalidated old session for client: {}", clientId);
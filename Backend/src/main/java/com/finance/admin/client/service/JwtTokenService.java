@@ -1,8 +1,10 @@
 package com.finance.admin.client.service;
 
+import com.finance.admin.auth.security.TokenRevocationStore;
 import com.finance.admin.client.model.Client;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -13,9 +15,12 @@ import java.time.ZoneId;
 import java.util.*;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenService {
 
+    private final TokenRevocationStore revocationStore;
+
     @Value("${app.jwt.secret:defaultSecretKeyForJWTTokenGenerationMustBe256BitsLong}")
     private String jwtSecret;
 
@@ -28,8 +33,6 @@ public class JwtTokenService {
     @Value("${app.jwt.reset-token-expiration-seconds:1800}")
     private int resetTokenExpirationSeconds;
 
-    private final Set<String> blacklistedTokens = new HashSet<>();
-
     /**
      * Generate JWT access token for client
      */
@@ -91,7 +94,7 @@ public class JwtTokenService {
      */
     public boolean validateToken(String token) {
         try {
-            if (blacklistedTokens.contains(token)) {
+            if (revocationStore.isRevoked(token)) {
                 log.warn("Token is blacklisted");
                 return false;
             }
@@ -158,7 +161,7 @@ public class JwtTokenService {
      */
     public Long validateRefreshToken(String refreshToken) {
         try {
-            if (blacklistedTokens.contains(refreshToken)) {
+            if (revocationStore.isRevoked(refreshToken)) {
                 throw new RuntimeException("Token is blacklisted");
             }
 
@@ -193,7 +196,7 @@ public class JwtTokenService {
      */
     public Long validatePasswordResetToken(String resetToken) {
         try {
-            if (blacklistedTokens.contains(resetToken)) {
+            if (revocationStore.isRevoked(resetToken)) {
                 throw new RuntimeException("Token is blacklisted");
             }
 
@@ -224,11 +227,16 @@ public class JwtTokenService {
     }
 
     /**
-     * Invalidate token by adding to blacklist
+     * Invalidate token on all nodes until it expires
      */
     public void invalidateToken(String token) {
         try {
-            blacklistedTokens.add(token);
+            Date expiration = getTokenExpiration(token);
+            if (expiration == null) {
+                // Unparseable tokens are rejected by validation anyway
+                return;
+            }
+            revocationStore.revoke(token, expiration.toInstant());
             log.info("Token has been invalidated");
         } catch (Exception e) {
             log.error("Failed to invalidate token: {}", e.getMessage());
@@ -239,7 +247,7 @@ public class JwtTokenService {
      * Check if token is blacklisted
      */
     public boolean isTokenBlacklisted(String token) {
-        return blacklistedTokens.contains(token);
+        return revocationStore.isRevoked(token);
     }
 
     /**
@@ -313,23 +321,11 @@ public class JwtTokenService {
     }
 
     /**
-     * Cleanup expired blacklisted tokens
+     * Cleanup expired blacklisted tokens.
+     * Revocations expire with their tokens, so this only purges the local copies early.
      */
     public void cleanupExpiredTokens() {
-        Iterator<String> iterator = blacklistedTokens.iterator();
-        while (iterator.hasNext()) {
-            String token = iterator.next();
-            try {
-                Date expiration = getTokenExpiration(token);
-                if (expiration != null && expiration.before(new Date())) {
-                    iterator.remove();
-                }
-            } catch (Exception e) {
-                // If we can't parse the token, it's probably expired or invalid, so remove it
-                iterator.remove();
-            }
-        }
-        log.debug("Cleaned up {} expired blacklisted tokens", blacklistedTokens.size());
+        revocationStore.purgeExpired();
     }
 
     private SecretKey getSigningKey() {
@@ -0,0 +1,158 @@
+package com.finance.admin.client.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sliding-window counts of failed client logins, per client and per IP address, used for lockout
+ * decisions instead of querying login history on every attempt. By default the windows are kept in
+ * memory on each node. In shared mode each window is a Redis sorted set of failure timestamps, so
+ * all nodes see the same counts; if Redis cannot be reached the node falls back to its own windows.
+ */
+@Component
+@Slf4j
+public class LoginFailureCounter {
+
+    private static final String KEY_PREFIX = "login_failures:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<String, FailureWindow> windows = new ConcurrentHashMap<>();
+
+    @Value("${app.security.login-failures.shared:false}")
+    private boolean shared;
+
+    @Value("${app.security.lockout-duration-minutes:30}")
+    private int windowMinutes = 30;
+
+    @Value("${app.security.login-failures.max-tracked-per-key:100}")
+    private int maxTrackedPerKey = 100;
+
+    public LoginFailureCounter(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Record a failed login for a client and, when known, the address it came from
+     */
+    public void recordFailure(Long clientId, String ipAddress) {
+        record(clientKey(clientId));
+        if (ipAddress != null) {
+            record(ipKey(ipAddress));
+        }
+    }
+
+    /**
+     * Failed logins for a client within the window
+     */
+    public int clientFailures(Long clientId) {
+        return count(clientKey(clientId));
+    }
+
+    /**
+     * Failed logins from an IP address within the window, across all clients
+     */
+    public int ipFailures(String ipAddress) {
+        return ipAddress != null ? count(ipKey(ipAddress)) : 0;
+    }
+
+    /**
+     * Clear a client's failures after a successful login
+     */
+    public void reset(Long clientId) {
+        String key = clientKey(clientId);
+        windows.remove(key);
+        if (shared) {
+            try {
+                redisTemplate.delete(KEY_PREFIX + key);
+            } catch (Exception e) {
+                log.error("Failed to clear shared login failures: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drop local windows with no failures left inside them
+     */
+    @Scheduled(fixedDelayString = "${app.security.login-failures.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long cutoff = cutoff(System.currentTimeMillis());
+        windows.values().removeIf(window -> window.count(cutoff) == 0);
+    }
+
+    // Helper methods
+
+    private void record(String key) {
+        long now = System.currentTimeMillis();
+        if (shared) {
+            try {
+                String redisKey = KEY_PREFIX + key;
+                redisTemplate.opsForZSet().add(redisKey, now + ":" + UUID.randomUUID(), now);
+                redisTemplate.opsForZSet().removeRangeByScore(redisKey, 0, cutoff(now));
+                redisTemplate.expire(redisKey, windowMinutes, TimeUnit.MINUTES);
+                return;
+            } catch (Exception e) {
+                log.error("Failed to record shared login failure, counting locally: {}", e.getMessage());
+            }
+        }
+        windows.computeIfAbsent(key, k -> new FailureWindow()).add(now, maxTrackedPerKey);
+    }
+
+    private int count(String key) {
+        long cutoff = cutoff(System.currentTimeMillis());
+        if (shared) {
+            try {
+                Long count = redisTemplate.opsForZSet().count(KEY_PREFIX + key, cutoff, Double.POSITIVE_INFINITY);
+                if (count != null) {
+                    return count.intValue();
+                }
+            } catch (Exception e) {
+                log.error("Failed to read shared login failures, using local count: {}", e.getMessage());
+            }
+        }
+        FailureWindow window = windows.get(key);
+        return window != null ? window.count(cutoff) : 0;
+    }
+
+    private long cutoff(long now) {
+        return now - TimeUnit.MINUTES.toMillis(windowMinutes);
+    }
+
+    private String clientKey(Long clientId) {
+        return "client:" + clientId;
+    }
+
+    private String ipKey(String ipAddress) {
+        return "ip:" + ipAddress;
+    }
+
+    /**
+     * Timestamps of the most recent failures for one key, oldest first
+     */
+    private static class FailureWindow {
+        private final Deque<Long> timestamps = new ArrayDeque<>();
+
+        private synchronized void add(long timestamp, int maxTracked) {
+            timestamps.addLast(timestamp);
+            while (timestamps.size() > maxTracked) {
+                timestamps.removeFirst();
+            }
+        }
+
+        private synchronized int count(long cutoff) {
+            while (!timestamps.isEmpty() && timestamps.peekFirst() < cutoff) {
+                timestamps.removeFirst();
+            }
+            return timestamps.size();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.finance.admin.client.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * SHA-256 Merkle tree over a batch of leaf hashes. Leaves and inner nodes are hashed with distinct
+ * prefixes so a leaf can never be passed off as an inner node, and an unpaired node is carried up
+ * to the next level unchanged rather than paired with itself.
+ */
+public final class MerkleTree {
+
+    private static final byte LEAF_PREFIX = 0x00;
+    private static final byte NODE_PREFIX = 0x01;
+    private static final HexFormat HEX = HexFormat.of();
+
+    // levels.get(0) are the leaves, the last level holds the root
+    private final List<List<byte[]>> levels = new ArrayList<>();
+
+    public MerkleTree(List<String> leafHashes) {
+        if (leafHashes.isEmpty()) {
+            throw new IllegalArgumentException("A Merkle tree needs at least one leaf");
+        }
+        List<byte[]> level = new ArrayList<>(leafHashes.size());
+        for (String leafHash : leafHashes) {
+            level.add(HEX.parseHex(leafHash));
+        }
+        levels.add(level);
+        while (level.size() > 1) {
+            List<byte[]> parents = new ArrayList<>((level.size() + 1) / 2);
+            for (int i = 0; i < level.size(); i += 2) {
+                parents.add(i + 1 < level.size() ? hashNode(level.get(i), level.get(i + 1)) : level.get(i));
+            }
+            levels.add(parents);
+            level = parents;
+        }
+    }
+
+    /**
+     * Hash the data of one anchored item into a leaf
+     */
+    public static String leafHash(String data) {
+        MessageDigest digest = sha256();
+        digest.update(LEAF_PREFIX);
+        return HEX.formatHex(digest.digest(data.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public String getRoot() {
+        return HEX.formatHex(levels.get(levels.size() - 1).get(0));
+    }
+
+    public int size() {
+        return levels.get(0).size();
+    }
+
+    /**
+     * Inclusion proof for the leaf at the given index, as sibling hashes from the leaf up, each
+     * prefixed with the side it sits on ("L:" or "R:") and separated by commas. A single-leaf tree
+     * has an empty proof.
+     */
+    public String proof(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("No leaf at index " + index);
+        }
+        StringBuilder proof = new StringBuilder();
+        for (int depth = 0; depth < levels.size() - 1; depth++) {
+            List<byte[]> level = levels.get(depth);
+            int sibling = index % 2 == 0 ? index + 1 : index - 1;
+            if (sibling < level.size()) {
+                if (proof.length() > 0) {
+                    proof.append(',');
+                }
+                proof.append(sibling < index ? "L:" : "R:").append(HEX.formatHex(level.get(sibling)));
+            }
+            index /= 2;
+        }
+        return proof.toString();
+    }
+
+    /**
+     * Check that a leaf hash with the given proof hashes up to the expected root
+     */
+    public static boolean verify(String leafHash, String proof, String expectedRoot) {
+        try {
+            byte[] current = HEX.parseHex(leafHash);
+            if (proof != null && !proof.isEmpty()) {
+                for (String step : proof.split(",")) {
+                    byte[] sibling = HEX.parseHex(step.substring(2));
+                    if (step.startsWith("L:")) {
+                        current = hashNode(sibling, current);
+                    } else if (step.startsWith("R:")) {
+                        current = hashNode(current, sibling);
+                    } else {
+                        return false;
+                    }
+                }
+            }
+            return HEX.formatHex(current).equalsIgnoreCase(expectedRoot);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    // Helper methods
+
+    private static byte[] hashNode(byte[] left, byte[] right) {
+        MessageDigest digest = sha256();
+        digest.update(NODE_PREFIX);
+        digest.update(left);
+        return digest.digest(right);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.finance.admin.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Named sequence for business identifiers such as enquiry and certificate numbers. Rows are
+ * advanced by IdentifierAllocationService with plain SQL; the mapping keeps the table in the
+ * schema Hibernate creates and validates.
+ */
+@Entity
+@Table(name = "identifier_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdentifierSequence {
+
+    // Prefix plus period, e.g. ENQ20250115 or SHR-202501-
+    @Id
+    @Column(name = "sequence_key", length = 100)
+    private String sequenceKey;
+
+    // First number not yet handed out
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,115 @@
+package com.finance.admin.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out sequential numbers for business identifiers such as enquiry and certificate numbers.
+ * Each sequence key (a prefix plus period) has a row in identifier_sequences. A node reserves a
+ * block of numbers by advancing that row once, in its own short transaction, then numbers from
+ * memory until the block is used up, so most allocations run no query at all and nodes never
+ * hand out the same number. Numbers left in a block when a node stops are skipped, not reused.
+ */
+@Service
+@Slf4j
+public class IdentifierAllocationService {
+
+    private static final String ADVANCE_SQL =
+            "UPDATE identifier_sequences SET next_value = next_value + ?, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE sequence_key = ?";
+
+    private static final String SELECT_SQL =
+            "SELECT next_value FROM identifier_sequences WHERE sequence_key = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO identifier_sequences (sequence_key, next_value, updated_at) VALUES (?, ?, CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    @Value("${app.identifier.block-size:50}")
+    private int blockSize = 50;
+
+    @Value("${app.identifier.max-cached-sequences:1000}")
+    private int maxCachedSequences = 1000;
+
+    public IdentifierAllocationService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Get the next number in a sequence
+     *
+     * @param sequenceKey  Sequence name, usually identifier prefix plus period
+     * @param highestInUse Highest number already used under this key, only called when the
+     *                     sequence row does not exist yet (e.g. numbers issued before sequences)
+     */
+    public long next(String sequenceKey, LongSupplier highestInUse) {
+        if (blocks.size() >= maxCachedSequences && !blocks.containsKey(sequenceKey)) {
+            // Old periods are never asked for again; dropping their blocks only leaves gaps
+            blocks.clear();
+        }
+        Block block = blocks.computeIfAbsent(sequenceKey, key -> new Block());
+        synchronized (block) {
+            if (block.next >= block.limit) {
+                long limit = reserve(sequenceKey, highestInUse);
+                block.next = limit - blockSize;
+                block.limit = limit;
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * Advance the sequence row by one block and return the new upper bound (exclusive)
+     */
+    private long reserve(String sequenceKey, LongSupplier highestInUse) {
+        Long limit = advance(sequenceKey);
+        if (limit == null) {
+            long start = highestInUse.getAsLong() + 1;
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.update(INSERT_SQL, sequenceKey, start + blockSize));
+                limit = start + blockSize;
+            } catch (DuplicateKeyException e) {
+                // Another node created the row first; take the next block after theirs
+                limit = advance(sequenceKey);
+            }
+        }
+        if (limit == null) {
+            throw new IllegalStateException("Failed to reserve identifiers for sequence " + sequenceKey);
+        }
+        log.debug("Reserved identifiers {} to {} for sequence {}", limit - blockSize, limit - 1, sequenceKey);
+        return limit;
+    }
+
+    /**
+     * Advance an existing sequence row by one block. Returns null if the row does not exist.
+     */
+    private Long advance(String sequenceKey) {
+        return transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(ADVANCE_SQL, blockSize, sequenceKey) == 0) {
+                return null;
+            }
+            return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, sequenceKey);
+        });
+    }
+
+    private static class Block {
+        private long next;
+        private long limit;
+    }
+}
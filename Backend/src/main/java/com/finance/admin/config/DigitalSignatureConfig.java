@@ -53,6 +53,10 @@ public class DigitalSignatureConfig {
         return keyStore;
     }
 
+    public String getKeystorePath() {
+        return keystorePath;
+    }
+
     public String getKeystorePassword() {
         return keystorePassword;
     }
@@ -1,6 +1,7 @@
 package com.finance.admin.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.admin.client.investment.portfolio.PortfolioSnapshotLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +17,7 @@ import org.springframework.data.redis.connection.lettuce.LettuceClientConfigurat
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -112,8 +114,16 @@ public class RedisConfiguration {
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
 
+        // Portfolio snapshots are compact primitive arrays, kept as Java-serialized values
+        // and evicted explicitly by investment writes
+        RedisCacheConfiguration portfolioSnapshotConfig = cacheConfig
+                .entryTtl(Duration.ofHours(1))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new JdkSerializationRedisSerializer(getClass().getClassLoader())));
+
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfig)
+                .withCacheConfiguration(PortfolioSnapshotLoader.CACHE_NAME, portfolioSnapshotConfig)
                 .build();
     }
 }
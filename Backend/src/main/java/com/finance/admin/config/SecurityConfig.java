@@ -1,5 +1,7 @@
 package com.finance.admin.config;
 
+import com.finance.admin.auth.security.RateLimitFilter;
+import com.finance.admin.auth.security.RateLimiter;
 import com.finance.admin.auth.service.AdminUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -13,6 +15,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -27,6 +30,9 @@ public class SecurityConfig {
     @Autowired
     private AdminUserDetailsService adminUserDetailsService;
 
+    @Autowired
+    private RateLimiter rateLimiter;
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig) throws Exception {
         return authConfig.getAuthenticationManager();
@@ -55,6 +61,10 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
             );
 
+        // No authentication filter is registered in this chain, so callers are limited per remote address;
+        // an authentication filter added later must run before this one for per-admin or per-client limits
+        http.addFilterBefore(new RateLimitFilter(rateLimiter), AuthorizationFilter.class);
+
         // Allow H2 console frame
         http.headers(headers -> headers.frameOptions(frame -> frame.disable()));
 
@@ -80,7 +90,8 @@ public class SecurityConfig {
         
         configuration.setExposedHeaders(Arrays.asList(
             "Access-Control-Allow-Origin", 
-            "Access-Control-Allow-Credentials"
+            "Access-Control-Allow-Credentials",
+            "X-RateLimit-Limit", "X-RateLimit-Remaining", "Retry-After"
         ));
         
         configuration.setAllowCredentials(true);
@@ -0,0 +1,50 @@
+package com.finance.admin.dashboard.batch;
+
+import com.finance.admin.dashboard.service.DashboardRollupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+/**
+ * Spring Batch job that writes the daily dashboard rollups
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.dashboard.rollup.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class DashboardRollupJobConfig {
+
+    public static final String JOB_NAME = "dashboardDailyRollupJob";
+    public static final String ROLLUP_DATE_PARAMETER = "rollupDate";
+
+    @Bean
+    public Job dashboardDailyRollupJob(JobRepository jobRepository, Step dashboardDailyRollupStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+            .start(dashboardDailyRollupStep)
+            .build();
+    }
+
+    @Bean
+    public Step dashboardDailyRollupStep(JobRepository jobRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         DashboardRollupService rollupService) {
+        return new StepBuilder("dashboardDailyRollupStep", jobRepository)
+            .tasklet((contribution, chunkContext) -> {
+                LocalDate rollupDate = contribution.getStepExecution().getJobParameters()
+                    .getLocalDate(ROLLUP_DATE_PARAMETER);
+                int written = rollupService.rollUpThrough(rollupDate);
+                contribution.incrementWriteCount(written);
+                return RepeatStatus.FINISHED;
+            }, transactionManager)
+            .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.finance.admin.dashboard.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Launches the dashboard rollup job every night for the day that just ended
+ */
+@Component
+@ConditionalOnProperty(name = "app.dashboard.rollup.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardRollupScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job dashboardDailyRollupJob;
+
+    @Scheduled(cron = "${app.dashboard.rollup.cron:0 15 0 * * *}")
+    public void runNightlyRollup() {
+        LocalDate rollupDate = LocalDate.now().minusDays(1);
+        JobParameters parameters = new JobParametersBuilder()
+            .addLocalDate(DashboardRollupJobConfig.ROLLUP_DATE_PARAMETER, rollupDate)
+            .toJobParameters();
+        try {
+            jobLauncher.run(dashboardDailyRollupJob, parameters);
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.debug("Dashboard rollup for {} already completed", rollupDate);
+        } catch (Exception e) {
+            log.error("Dashboard rollup for {} failed: {}", rollupDate, e.getMessage(), e);
+        }
+    }
+}
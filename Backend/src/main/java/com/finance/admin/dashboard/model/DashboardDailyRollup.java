@@ -0,0 +1,78 @@
+package com.finance.admin.dashboard.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * End-of-day client, investment and enquiry figures written by the nightly rollup job.
+ * Dashboard trend series and growth rates are range reads over this table.
+ */
+@Entity
+@Table(name = "dashboard_daily_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class DashboardDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rollup_date", nullable = false, unique = true)
+    private LocalDate rollupDate;
+
+    // Clients
+    @Column(name = "total_clients", nullable = false)
+    private Long totalClients;
+
+    @Column(name = "new_clients", nullable = false)
+    private Long newClients;
+
+    // Only known for the day the job runs; backfilled days leave this empty
+    @Column(name = "active_clients")
+    private Long activeClients;
+
+    // Investments
+    @Column(name = "total_investments", nullable = false)
+    private Long totalInvestments;
+
+    @Column(name = "new_investments", nullable = false)
+    private Long newInvestments;
+
+    @Column(name = "active_investments")
+    private Long activeInvestments;
+
+    @Column(name = "total_invested_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalInvestedAmount;
+
+    @Column(name = "new_invested_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal newInvestedAmount;
+
+    @Column(name = "investing_clients")
+    private Long investingClients;
+
+    // Enquiries
+    @Column(name = "total_enquiries", nullable = false)
+    private Long totalEnquiries;
+
+    @Column(name = "new_enquiries", nullable = false)
+    private Long newEnquiries;
+
+    @Column(name = "resolved_enquiries", nullable = false)
+    private Long resolvedEnquiries;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
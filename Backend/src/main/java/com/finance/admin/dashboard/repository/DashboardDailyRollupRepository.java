@@ -0,0 +1,19 @@
+package com.finance.admin.dashboard.repository;
+
+import com.finance.admin.dashboard.model.DashboardDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DashboardDailyRollupRepository extends JpaRepository<DashboardDailyRollup, Long> {
+
+    Optional<DashboardDailyRollup> findTopByOrderByRollupDateDesc();
+
+    Optional<DashboardDailyRollup> findTopByRollupDateLessThanEqualOrderByRollupDateDesc(LocalDate date);
+
+    List<DashboardDailyRollup> findByRollupDateBetweenOrderByRollupDateAsc(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,377 @@
+package com.finance.admin.dashboard.service;
+
+import com.finance.admin.client.model.Client;
+import com.finance.admin.client.repository.ClientRepository;
+import com.finance.admin.enquiry.model.Enquiry;
+import com.finance.admin.enquiry.repository.EnquiryRepository;
+import com.finance.admin.investment.model.Investment;
+import com.finance.admin.investment.repository.InvestmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally maintained dashboard metrics.
+ * Client, investment and enquiry write paths report their changes here after commit,
+ * so dashboard reads are O(1) lookups instead of a round of count/sum queries.
+ * The counters are rebuilt from the database on a schedule (and whenever the calendar
+ * month rolls over) to correct drift from writes on other nodes or racing a rebuild.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardMetricsStore {
+
+    private static final int AMOUNT_SCALE = 2;
+
+    private final ClientRepository clientRepository;
+    private final InvestmentRepository investmentRepository;
+    private final EnquiryRepository enquiryRepository;
+
+    private volatile Counters counters;
+
+    /**
+     * Rebuild all counters from the database
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.metrics.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        long started = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        Counters fresh = new Counters(today);
+
+        for (Object[] row : clientRepository.getClientStatusStatistics()) {
+            if (row[0] != null) {
+                fresh.clientsByStatus.set(((Client.ClientStatus) row[0]).ordinal(), ((Number) row[1]).longValue());
+            }
+        }
+        fresh.newClientsThisMonth.set(clientRepository.countByCreatedAtAfter(fresh.monthStart.atStartOfDay()));
+        fresh.newClientsThisQuarter.set(clientRepository.countByCreatedAtAfter(fresh.quarterStart.atStartOfDay()));
+        fresh.newClientsThisYear.set(clientRepository.countByCreatedAtAfter(fresh.yearStart.atStartOfDay()));
+
+        for (Object[] row : investmentRepository.getInvestmentStatusStatistics()) {
+            if (row[0] != null) {
+                fresh.investmentsByStatus.set(((Investment.InvestmentStatus) row[0]).ordinal(), ((Number) row[1]).longValue());
+            }
+            fresh.investmentAmountCents.addAndGet(toCents((BigDecimal) row[2]));
+        }
+        for (Object[] row : investmentRepository.countInvestmentsGroupedByClient()) {
+            fresh.investmentsPerClient.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        fresh.investingClients.set(fresh.investmentsPerClient.size());
+
+        for (Object[] row : enquiryRepository.getEnquiryStatusStatistics()) {
+            if (row[0] != null) {
+                fresh.enquiriesByStatus.set(((Enquiry.EnquiryStatus) row[0]).ordinal(), ((Number) row[1]).longValue());
+            }
+        }
+        for (Object[] row : enquiryRepository.getResponseAndResolutionMinuteTotals()) {
+            fresh.responseTimes.set(toLong(row[1]), toLong(row[0]));
+            fresh.resolutionTimes.set(toLong(row[3]), toLong(row[2]));
+        }
+        LocalDateTime last30Days = LocalDateTime.now().minusDays(30);
+        fresh.newEnquiriesLast30Days.set(enquiryRepository.countByCreatedAtAfter(last30Days));
+        Double resolutionRate = enquiryRepository.getResolutionRatePercentage(last30Days);
+        fresh.enquiryResolutionRate = resolutionRate != null ? resolutionRate : 0.0;
+        fresh.overdueEnquiries = enquiryRepository.countOverdueEnquiries();
+        fresh.unassignedEnquiries = enquiryRepository.countUnassignedEnquiries();
+
+        counters = fresh;
+        log.debug("Dashboard metrics reconciled in {} ms", System.currentTimeMillis() - started);
+    }
+
+    // Read side
+
+    public long getTotalClients() {
+        return sum(current().clientsByStatus);
+    }
+
+    public long getClientCount(Client.ClientStatus status) {
+        return current().clientsByStatus.get(status.ordinal());
+    }
+
+    public long getNewClientsThisMonth() {
+        return current().newClientsThisMonth.get();
+    }
+
+    public long getNewClientsThisQuarter() {
+        return current().newClientsThisQuarter.get();
+    }
+
+    public long getNewClientsThisYear() {
+        return current().newClientsThisYear.get();
+    }
+
+    public long getTotalInvestments() {
+        return sum(current().investmentsByStatus);
+    }
+
+    public long getInvestmentCount(Investment.InvestmentStatus status) {
+        return current().investmentsByStatus.get(status.ordinal());
+    }
+
+    public BigDecimal getTotalInvestmentValue() {
+        return BigDecimal.valueOf(current().investmentAmountCents.get(), AMOUNT_SCALE);
+    }
+
+    public long getInvestingClients() {
+        return current().investingClients.get();
+    }
+
+    public long getEnquiryCount(Enquiry.EnquiryStatus status) {
+        return current().enquiriesByStatus.get(status.ordinal());
+    }
+
+    /**
+     * Enquiry statistics with the same keys as {@code EnquiryService.getEnquiryStats()}
+     */
+    public Map<String, Object> getEnquiryStats() {
+        Counters c = current();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalEnquiries", sum(c.enquiriesByStatus));
+        stats.put("openEnquiries", c.enquiriesByStatus.get(Enquiry.EnquiryStatus.OPEN.ordinal()));
+        stats.put("inProgressEnquiries", c.enquiriesByStatus.get(Enquiry.EnquiryStatus.IN_PROGRESS.ordinal()));
+        stats.put("pendingEnquiries", c.enquiriesByStatus.get(Enquiry.EnquiryStatus.PENDING_CLIENT.ordinal()));
+        stats.put("resolvedEnquiries", c.enquiriesByStatus.get(Enquiry.EnquiryStatus.RESOLVED.ordinal()));
+        stats.put("closedEnquiries", c.enquiriesByStatus.get(Enquiry.EnquiryStatus.CLOSED.ordinal()));
+        stats.put("averageResponseTime", c.responseTimes.averageHours());
+        stats.put("averageResolutionTime", c.resolutionTimes.averageHours());
+        stats.put("newEnquiriesLast30Days", c.newEnquiriesLast30Days.get());
+        stats.put("resolutionRate", c.enquiryResolutionRate);
+        stats.put("overdueEnquiries", c.overdueEnquiries);
+        stats.put("unassignedEnquiries", c.unassignedEnquiries);
+        return stats;
+    }
+
+    // Write side - called from the owning services, applied after commit
+
+    public void recordClientCreated(Client.ClientStatus status) {
+        afterCommit(c -> {
+            increment(c.clientsByStatus, status, 1);
+            c.newClientsThisMonth.incrementAndGet();
+            c.newClientsThisQuarter.incrementAndGet();
+            c.newClientsThisYear.incrementAndGet();
+        });
+    }
+
+    public void recordClientStatusChanged(Client.ClientStatus oldStatus, Client.ClientStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        afterCommit(c -> {
+            increment(c.clientsByStatus, oldStatus, -1);
+            increment(c.clientsByStatus, newStatus, 1);
+        });
+    }
+
+    public void recordInvestmentCreated(Long clientId, Investment.InvestmentStatus status, BigDecimal amount) {
+        afterCommit(c -> {
+            increment(c.investmentsByStatus, status, 1);
+            c.investmentAmountCents.addAndGet(toCents(amount));
+            if (c.investmentsPerClient.merge(clientId, 1L, Long::sum) == 1L) {
+                c.investingClients.incrementAndGet();
+            }
+        });
+    }
+
+    public void recordInvestmentUpdated(Investment.InvestmentStatus oldStatus, BigDecimal oldAmount,
+                                        Investment.InvestmentStatus newStatus, BigDecimal newAmount) {
+        afterCommit(c -> {
+            if (oldStatus != newStatus) {
+                increment(c.investmentsByStatus, oldStatus, -1);
+                increment(c.investmentsByStatus, newStatus, 1);
+            }
+            c.investmentAmountCents.addAndGet(toCents(newAmount) - toCents(oldAmount));
+        });
+    }
+
+    public void recordInvestmentDeleted(Long clientId, Investment.InvestmentStatus status, BigDecimal amount) {
+        afterCommit(c -> {
+            increment(c.investmentsByStatus, status, -1);
+            c.investmentAmountCents.addAndGet(-toCents(amount));
+            Long remaining = c.investmentsPerClient.computeIfPresent(clientId, (id, count) -> count > 1 ? count - 1 : null);
+            if (remaining == null) {
+                c.investingClients.decrementAndGet();
+            }
+        });
+    }
+
+    public void recordEnquiryCreated(Enquiry.EnquiryStatus status) {
+        afterCommit(c -> {
+            increment(c.enquiriesByStatus, status, 1);
+            c.newEnquiriesLast30Days.incrementAndGet();
+        });
+    }
+
+    public void recordEnquiryStatusChanged(Enquiry.EnquiryStatus oldStatus, Enquiry.EnquiryStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        afterCommit(c -> {
+            increment(c.enquiriesByStatus, oldStatus, -1);
+            increment(c.enquiriesByStatus, newStatus, 1);
+        });
+    }
+
+    public void recordEnquiryDeleted(Enquiry.EnquiryStatus status) {
+        afterCommit(c -> increment(c.enquiriesByStatus, status, -1));
+    }
+
+    /**
+     * Adjust the response and resolution time averages when an enquiry's response or resolved
+     * date is set, changed or removed. A deleted enquiry passes null as its new dates.
+     */
+    public void recordEnquiryDatesChanged(LocalDateTime createdAt,
+                                          LocalDateTime oldResponseDate, LocalDateTime newResponseDate,
+                                          LocalDateTime oldResolvedDate, LocalDateTime newResolvedDate) {
+        boolean responseChanged = !Objects.equals(oldResponseDate, newResponseDate);
+        boolean resolvedChanged = !Objects.equals(oldResolvedDate, newResolvedDate);
+        if (!responseChanged && !resolvedChanged) {
+            return;
+        }
+        afterCommit(c -> {
+            if (responseChanged) {
+                c.responseTimes.add(createdAt, oldResponseDate, -1);
+                c.responseTimes.add(createdAt, newResponseDate, 1);
+            }
+            if (resolvedChanged) {
+                c.resolutionTimes.add(createdAt, oldResolvedDate, -1);
+                c.resolutionTimes.add(createdAt, newResolvedDate, 1);
+            }
+        });
+    }
+
+    // Helper methods
+
+    private Counters current() {
+        Counters c = counters;
+        if (c == null || !c.monthStart.equals(LocalDate.now().withDayOfMonth(1))) {
+            synchronized (this) {
+                c = counters;
+                if (c == null || !c.monthStart.equals(LocalDate.now().withDayOfMonth(1))) {
+                    reconcile();
+                    c = counters;
+                }
+            }
+        }
+        return c;
+    }
+
+    private void afterCommit(Consumer<Counters> delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(delta);
+                }
+            });
+        } else {
+            apply(delta);
+        }
+    }
+
+    private void apply(Consumer<Counters> delta) {
+        // Nothing to adjust until the first reconcile has loaded a baseline
+        Counters c = counters;
+        if (c != null) {
+            delta.accept(c);
+        }
+    }
+
+    private static void increment(AtomicLongArray byStatus, Enum<?> status, long delta) {
+        if (status != null) {
+            byStatus.addAndGet(status.ordinal(), delta);
+        }
+    }
+
+    private static long sum(AtomicLongArray values) {
+        long total = 0;
+        for (int i = 0; i < values.length(); i++) {
+            total += values.get(i);
+        }
+        return total;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Running sum and count of the time from enquiry creation to a later date
+     */
+    private static final class DurationAverage {
+        private final AtomicLong totalMinutes = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+
+        private void add(LocalDateTime from, LocalDateTime to, int sign) {
+            if (from == null || to == null) {
+                return;
+            }
+            totalMinutes.addAndGet(sign * Duration.between(from, to).toMinutes());
+            count.addAndGet(sign);
+        }
+
+        private void set(long minutes, long n) {
+            totalMinutes.set(minutes);
+            count.set(n);
+        }
+
+        private double averageHours() {
+            long n = count.get();
+            return n > 0 ? totalMinutes.get() / 60.0 / n : 0.0;
+        }
+    }
+
+    private static final class Counters {
+        private final LocalDate monthStart;
+        private final LocalDate quarterStart;
+        private final LocalDate yearStart;
+
+        private final AtomicLongArray clientsByStatus = new AtomicLongArray(Client.ClientStatus.values().length);
+        private final AtomicLong newClientsThisMonth = new AtomicLong();
+        private final AtomicLong newClientsThisQuarter = new AtomicLong();
+        private final AtomicLong newClientsThisYear = new AtomicLong();
+
+        private final AtomicLongArray investmentsByStatus = new AtomicLongArray(Investment.InvestmentStatus.values().length);
+        private final AtomicLong investmentAmountCents = new AtomicLong();
+        private final Map<Long, Long> investmentsPerClient = new ConcurrentHashMap<>();
+        private final AtomicLong investingClients = new AtomicLong();
+
+        private final AtomicLongArray enquiriesByStatus = new AtomicLongArray(Enquiry.EnquiryStatus.values().length);
+        private final AtomicLong newEnquiriesLast30Days = new AtomicLong();
+        private final DurationAverage responseTimes = new DurationAverage();
+        private final DurationAverage resolutionTimes = new DurationAverage();
+        private volatile double enquiryResolutionRate;
+        private volatile long overdueEnquiries;
+        private volatile long unassignedEnquiries;
+
+        private Counters(LocalDate today) {
+            this.monthStart = today.withDayOfMonth(1);
+            this.quarterStart = today.withMonth((today.getMonthValue() - 1) / 3 * 3 + 1).withDayOfMonth(1);
+            this.yearStart = today.withDayOfYear(1);
+        }
+    }
+}
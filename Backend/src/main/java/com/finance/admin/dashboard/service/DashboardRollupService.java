@@ -0,0 +1,127 @@
+package com.finance.admin.dashboard.service;
+
+import com.finance.admin.client.model.Client;
+import com.finance.admin.client.repository.ClientRepository;
+import com.finance.admin.dashboard.model.DashboardDailyRollup;
+import com.finance.admin.dashboard.repository.DashboardDailyRollupRepository;
+import com.finance.admin.enquiry.repository.EnquiryRepository;
+import com.finance.admin.investment.model.Investment;
+import com.finance.admin.investment.repository.InvestmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes daily dashboard rollups.
+ * Each run fills every day after the latest stored rollup up to the requested day, so a missed
+ * night is caught up on the next run and the first run backfills history. Per-day figures come
+ * from one GROUP BY query per table over the whole range; running totals are derived backwards
+ * from the current table counts.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardRollupService {
+
+    private final DashboardDailyRollupRepository rollupRepository;
+    private final ClientRepository clientRepository;
+    private final InvestmentRepository investmentRepository;
+    private final EnquiryRepository enquiryRepository;
+
+    @Value("${app.dashboard.rollup.backfill-days:730}")
+    private int backfillDays = 730;
+
+    /**
+     * Write rollups for all days not yet rolled up, up to and including the given day
+     *
+     * @param lastDay Last day to roll up, normally yesterday
+     * @return Number of rollup rows written
+     */
+    @Transactional
+    public int rollUpThrough(LocalDate lastDay) {
+        LocalDate firstDay = rollupRepository.findTopByOrderByRollupDateDesc()
+            .map(latest -> latest.getRollupDate().plusDays(1))
+            .orElse(lastDay.minusDays(backfillDays - 1L));
+        if (firstDay.isAfter(lastDay)) {
+            log.debug("Dashboard rollups already up to date through {}", lastDay);
+            return 0;
+        }
+
+        LocalDateTime rangeStart = firstDay.atStartOfDay();
+        LocalDateTime rangeEnd = lastDay.plusDays(1).atStartOfDay();
+
+        Map<LocalDate, Long> newClients = toDailyCounts(clientRepository.countClientsCreatedPerDay(rangeStart, rangeEnd));
+        Map<LocalDate, Long> newEnquiries = toDailyCounts(enquiryRepository.countEnquiriesCreatedPerDay(rangeStart, rangeEnd));
+        Map<LocalDate, Long> resolvedEnquiries = toDailyCounts(enquiryRepository.countEnquiriesResolvedPerDay(rangeStart, rangeEnd));
+        Map<LocalDate, Long> newInvestments = new HashMap<>();
+        Map<LocalDate, BigDecimal> newInvestedAmounts = new HashMap<>();
+        for (Object[] row : investmentRepository.getInvestmentsCreatedPerDay(rangeStart, rangeEnd)) {
+            LocalDate day = (LocalDate) row[0];
+            newInvestments.put(day, ((Number) row[1]).longValue());
+            newInvestedAmounts.put(day, row[2] != null ? (BigDecimal) row[2] : BigDecimal.ZERO);
+        }
+
+        // Closing totals for the last day: everything that exists now, minus what was created after it
+        long totalClients = clientRepository.count() - clientRepository.countByCreatedAtAfter(rangeEnd);
+        long totalInvestments = investmentRepository.count() - investmentRepository.countByCreatedAtAfter(rangeEnd);
+        BigDecimal totalInvested = investmentRepository.sumInvestmentAmount().orElse(BigDecimal.ZERO)
+            .subtract(investmentRepository.sumInvestmentAmountCreatedAfter(rangeEnd).orElse(BigDecimal.ZERO));
+        long totalEnquiries = enquiryRepository.count() - enquiryRepository.countByCreatedAtAfter(rangeEnd);
+
+        List<DashboardDailyRollup> rollups = new ArrayList<>();
+        for (LocalDate day = lastDay; !day.isBefore(firstDay); day = day.minusDays(1)) {
+            long dayClients = newClients.getOrDefault(day, 0L);
+            long dayInvestments = newInvestments.getOrDefault(day, 0L);
+            BigDecimal dayInvested = newInvestedAmounts.getOrDefault(day, BigDecimal.ZERO);
+            long dayEnquiries = newEnquiries.getOrDefault(day, 0L);
+
+            rollups.add(DashboardDailyRollup.builder()
+                .rollupDate(day)
+                .totalClients(totalClients)
+                .newClients(dayClients)
+                .totalInvestments(totalInvestments)
+                .newInvestments(dayInvestments)
+                .totalInvestedAmount(totalInvested)
+                .newInvestedAmount(dayInvested)
+                .totalEnquiries(totalEnquiries)
+                .newEnquiries(dayEnquiries)
+                .resolvedEnquiries(resolvedEnquiries.getOrDefault(day, 0L))
+                .build());
+
+            totalClients -= dayClients;
+            totalInvestments -= dayInvestments;
+            totalInvested = totalInvested.subtract(dayInvested);
+            totalEnquiries -= dayEnquiries;
+        }
+
+        // Status breakdowns have no history, so they are only recorded for the day being closed
+        DashboardDailyRollup latest = rollups.get(0);
+        latest.setActiveClients(clientRepository.countByStatus(Client.ClientStatus.ACTIVE));
+        latest.setActiveInvestments(investmentRepository.countByStatus(Investment.InvestmentStatus.ACTIVE));
+        latest.setInvestingClients(investmentRepository.countDistinctClients());
+
+        rollupRepository.saveAll(rollups);
+        log.info("Wrote {} dashboard rollups from {} to {}", rollups.size(), firstDay, lastDay);
+        return rollups.size();
+    }
+
+    // Helper methods
+
+    private Map<LocalDate, Long> toDailyCounts(List<Object[]> rows) {
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((LocalDate) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
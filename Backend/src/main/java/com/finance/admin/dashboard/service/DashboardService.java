@@ -6,6 +6,8 @@ import com.finance.admin.dashboard.dto.ClientStatsResponse;
 import com.finance.admin.dashboard.dto.DashboardSummaryResponse;
 import com.finance.admin.dashboard.dto.InvestmentStatsResponse;
 import com.finance.admin.dashboard.dto.UpcomingBirthdaysResponse;
+import com.finance.admin.dashboard.model.DashboardDailyRollup;
+import com.finance.admin.dashboard.repository.DashboardDailyRollupRepository;
 import com.finance.admin.email.service.EmailService;
 import com.finance.admin.enquiry.service.EnquiryService;
 import com.finance.admin.investment.model.Investment;
@@ -20,8 +22,10 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +42,8 @@ public class DashboardService {
     private final InvestmentRepository investmentRepository;
     private final EnquiryService enquiryService;
     private final EmailService emailService;
+    private final DashboardMetricsStore metricsStore;
+    private final DashboardDailyRollupRepository rollupRepository;
 
     /**
      * Get comprehensive dashboard summary
@@ -46,31 +52,31 @@ public class DashboardService {
         log.info("Generating dashboard summary");
 
         // Get basic counts
-        long totalClients = clientRepository.count();
-        long activeClients = clientRepository.countByStatus(Client.ClientStatus.ACTIVE);
+        long totalClients = metricsStore.getTotalClients();
+        long activeClients = metricsStore.getClientCount(Client.ClientStatus.ACTIVE);
         long inactiveClients = totalClients - activeClients;
 
         // Get time-based client counts
-        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
-        LocalDate thisQuarter = getQuarterStart(LocalDate.now());
-        
-        long newClientsThisMonth = clientRepository.countByCreatedAtAfter(thisMonth.atStartOfDay());
-        long newClientsThisQuarter = clientRepository.countByCreatedAtAfter(thisQuarter.atStartOfDay());
+        long newClientsThisMonth = metricsStore.getNewClientsThisMonth();
+        long newClientsThisQuarter = metricsStore.getNewClientsThisQuarter();
 
         // Calculate growth rate (mock calculation)
         double clientGrowthRate = totalClients > 0 ? (double) newClientsThisMonth / totalClients * 100 : 0.0;
 
         // Get investment statistics
-        long totalInvestments = investmentRepository.count();
-        BigDecimal totalInvestmentValue = investmentRepository.sumInvestmentAmount().orElse(BigDecimal.ZERO);
-        
-        long totalInvestingClients = investmentRepository.countDistinctClients();
+        BigDecimal totalInvestmentValue = metricsStore.getTotalInvestmentValue();
+        long newInvestmentsThisMonth = rollupRepository
+            .findByRollupDateBetweenOrderByRollupDateAsc(LocalDate.now().withDayOfMonth(1), LocalDate.now())
+            .stream()
+            .mapToLong(DashboardDailyRollup::getNewInvestments)
+            .sum();
+        long totalInvestingClients = metricsStore.getInvestingClients();
         BigDecimal averageInvestmentPerClient = totalInvestingClients > 0 ? 
             totalInvestmentValue.divide(BigDecimal.valueOf(totalInvestingClients), 2, RoundingMode.HALF_UP) : 
             BigDecimal.ZERO;
 
         // Get real enquiry statistics
-        Map<String, Object> enquiryStats = enquiryService.getEnquiryStats();
+        Map<String, Object> enquiryStats = metricsStore.getEnquiryStats();
         long totalEnquiries = (Long) enquiryStats.get("totalEnquiries");
         long pendingEnquiries = (Long) enquiryStats.get("pendingEnquiries");
         long resolvedEnquiries = (Long) enquiryStats.get("resolvedEnquiries");
@@ -94,7 +100,7 @@ public class DashboardService {
             .averageInvestmentPerClient(averageInvestmentPerClient)
             .totalReturns(BigDecimal.ZERO) // Will be calculated when return data is available
             .averageReturnRate(0.0)
-            .newInvestmentsThisPeriod(0L)
+            .newInvestmentsThisPeriod(newInvestmentsThisMonth)
             .totalEnquiries(totalEnquiries)
             .pendingEnquiries(pendingEnquiries)
             .resolvedEnquiries(resolvedEnquiries)
@@ -118,19 +124,17 @@ public class DashboardService {
         if (endDate == null) endDate = LocalDate.now();
         if (startDate == null) startDate = endDate.minusYears(1);
 
-        long totalClients = clientRepository.count();
-        long activeClients = clientRepository.countByStatus(Client.ClientStatus.ACTIVE);
-        long inactiveClients = clientRepository.countByStatus(Client.ClientStatus.INACTIVE);
-        long pendingClients = clientRepository.countByStatus(Client.ClientStatus.PENDING);
+        long totalClients = metricsStore.getTotalClients();
+        long activeClients = metricsStore.getClientCount(Client.ClientStatus.ACTIVE);
+        long inactiveClients = metricsStore.getClientCount(Client.ClientStatus.INACTIVE);
+        long pendingClients = metricsStore.getClientCount(Client.ClientStatus.PENDING);
 
         // Time-based metrics
-        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
-        LocalDate thisQuarter = getQuarterStart(LocalDate.now());
-        LocalDate thisYear = LocalDate.now().withDayOfYear(1);
+        long newClientsThisMonth = metricsStore.getNewClientsThisMonth();
+        long newClientsThisQuarter = metricsStore.getNewClientsThisQuarter();
+        long newClientsThisYear = metricsStore.getNewClientsThisYear();
 
-        long newClientsThisMonth = clientRepository.countByCreatedAtAfter(thisMonth.atStartOfDay());
-        long newClientsThisQuarter = clientRepository.countByCreatedAtAfter(thisQuarter.atStartOfDay());
-        long newClientsThisYear = clientRepository.countByCreatedAtAfter(thisYear.atStartOfDay());
+        List<DashboardDailyRollup> rollups = rollupRepository.findByRollupDateBetweenOrderByRollupDateAsc(startDate, endDate);
 
         // Calculate growth rates
         double monthlyGrowthRate = totalClients > 0 ? (double) newClientsThisMonth / totalClients * 100 : 0.0;
@@ -168,8 +172,8 @@ public class DashboardService {
             .activeClientsLast90Days(activeClients) // Mock data
             .averageLoginFrequency(2.5) // Mock: 2.5 logins per week
             .lastClientRegistration(LocalDate.now().minusDays(1))
-            .monthlyTrends(new ArrayList<>()) // Will be implemented with historical data
-            .quarterlyTrends(new ArrayList<>()) // Will be implemented with historical data
+            .monthlyTrends(buildClientTrends(rollups, this::monthPeriod))
+            .quarterlyTrends(buildClientTrends(rollups, this::quarterPeriod))
             .periodStart(startDate)
             .periodEnd(endDate)
             .build();
@@ -185,16 +189,26 @@ public class DashboardService {
         if (endDate == null) endDate = LocalDate.now();
         if (startDate == null) startDate = endDate.minusYears(1);
 
-        BigDecimal totalInvestmentValue = investmentRepository.sumInvestmentAmount().orElse(BigDecimal.ZERO);
+        BigDecimal totalInvestmentValue = metricsStore.getTotalInvestmentValue();
         
-        long totalInvestingClients = investmentRepository.countDistinctClients();
-        long totalInvestments = investmentRepository.count();
-        long activeInvestments = investmentRepository.countByStatus(Investment.InvestmentStatus.ACTIVE);
+        long totalInvestingClients = metricsStore.getInvestingClients();
+        long totalInvestments = metricsStore.getTotalInvestments();
+        long activeInvestments = metricsStore.getInvestmentCount(Investment.InvestmentStatus.ACTIVE);
 
         BigDecimal averageInvestmentPerClient = totalInvestingClients > 0 ? 
             totalInvestmentValue.divide(BigDecimal.valueOf(totalInvestingClients), 2, RoundingMode.HALF_UP) : 
             BigDecimal.ZERO;
 
+        // Growth against the closing value a month and a year ago, from the daily rollups
+        LocalDate today = LocalDate.now();
+        BigDecimal valueLastMonth = getRolledUpInvestmentValue(today.minusMonths(1), totalInvestmentValue);
+        BigDecimal valueLastYear = getRolledUpInvestmentValue(today.minusYears(1), totalInvestmentValue);
+
+        List<DashboardDailyRollup> rollups = rollupRepository.findByRollupDateBetweenOrderByRollupDateAsc(startDate, endDate);
+        long newInvestmentsThisPeriod = rollups.stream()
+            .mapToLong(DashboardDailyRollup::getNewInvestments)
+            .sum();
+
         // Mock investment breakdown by type
         Map<String, Long> investmentsByType = Map.of(
             "PROPERTY", totalInvestments * 40 / 100,
@@ -211,11 +225,11 @@ public class DashboardService {
 
         return InvestmentStatsResponse.builder()
             .totalInvestmentValue(totalInvestmentValue)
-            .totalInvestmentValueLastMonth(totalInvestmentValue.multiply(BigDecimal.valueOf(0.95))) // Mock 5% growth
-            .monthOverMonthGrowth(totalInvestmentValue.multiply(BigDecimal.valueOf(0.05)))
-            .monthOverMonthGrowthPercentage(5.0)
-            .yearOverYearGrowth(totalInvestmentValue.multiply(BigDecimal.valueOf(0.15)))
-            .yearOverYearGrowthPercentage(15.0)
+            .totalInvestmentValueLastMonth(valueLastMonth)
+            .monthOverMonthGrowth(totalInvestmentValue.subtract(valueLastMonth))
+            .monthOverMonthGrowthPercentage(growthPercentage(totalInvestmentValue, valueLastMonth))
+            .yearOverYearGrowth(totalInvestmentValue.subtract(valueLastYear))
+            .yearOverYearGrowthPercentage(growthPercentage(totalInvestmentValue, valueLastYear))
             .investmentValueByAssetClass(new HashMap<>()) // Will be implemented with asset class data
             .investmentValueByClientSegment(new HashMap<>()) // Will be implemented with client segmentation
             .totalInvestingClients(totalInvestingClients)
@@ -225,7 +239,7 @@ public class DashboardService {
             .totalInvestments(totalInvestments)
             .activeInvestments(activeInvestments)
             .maturedInvestments(0L)
-            .newInvestmentsThisPeriod(10L) // Mock data
+            .newInvestmentsThisPeriod(newInvestmentsThisPeriod)
             .investmentsByStatus(investmentsByStatus)
             .investmentsByType(investmentsByType)
             .totalReturnsGenerated(BigDecimal.ZERO) // Will be calculated when return data is available
@@ -237,8 +251,8 @@ public class DashboardService {
             .sharpeRatio(0.0) // Will be calculated with return data
             .volatility(0.0)
             .valueAtRisk(BigDecimal.ZERO)
-            .monthlyTrends(new ArrayList<>()) // Will be implemented with historical data
-            .quarterlyTrends(new ArrayList<>()) // Will be implemented with historical data
+            .monthlyTrends(buildInvestmentTrends(rollups, this::monthPeriod))
+            .quarterlyTrends(buildInvestmentTrends(rollups, this::quarterPeriod))
             .periodStart(startDate)
             .periodEnd(endDate)
             .build();
@@ -351,7 +365,7 @@ public class DashboardService {
     public Map<String, Object> getEnquiryStats() {
         log.info("Getting enquiry statistics");
         
-        return enquiryService.getEnquiryStats();
+        return metricsStore.getEnquiryStats();
     }
 
     /**
@@ -423,9 +437,79 @@ public class DashboardService {
 
     // Helper methods
 
-    private LocalDate getQuarterStart(LocalDate date) {
-        int quarter = (date.getMonthValue() - 1) / 3;
-        return date.withMonth(quarter * 3 + 1).withDayOfMonth(1);
+    private List<ClientStatsResponse.ClientTrendData> buildClientTrends(List<DashboardDailyRollup> rollups,
+                                                                        Function<LocalDate, String> period) {
+        List<ClientStatsResponse.ClientTrendData> trends = new ArrayList<>();
+        for (Map.Entry<String, List<DashboardDailyRollup>> entry : groupByPeriod(rollups, period).entrySet()) {
+            List<DashboardDailyRollup> days = entry.getValue();
+            DashboardDailyRollup first = days.get(0);
+            DashboardDailyRollup last = days.get(days.size() - 1);
+            long newClients = days.stream().mapToLong(DashboardDailyRollup::getNewClients).sum();
+            long openingClients = first.getTotalClients() - first.getNewClients();
+
+            trends.add(ClientStatsResponse.ClientTrendData.builder()
+                .period(entry.getKey())
+                .newClients(newClients)
+                .totalClients(last.getTotalClients())
+                .activeClients(last.getActiveClients())
+                .growthRate(openingClients > 0 ? (double) newClients / openingClients * 100 : 0.0)
+                .build());
+        }
+        return trends;
+    }
+
+    private List<InvestmentStatsResponse.InvestmentTrendData> buildInvestmentTrends(List<DashboardDailyRollup> rollups,
+                                                                                    Function<LocalDate, String> period) {
+        List<InvestmentStatsResponse.InvestmentTrendData> trends = new ArrayList<>();
+        for (Map.Entry<String, List<DashboardDailyRollup>> entry : groupByPeriod(rollups, period).entrySet()) {
+            List<DashboardDailyRollup> days = entry.getValue();
+            DashboardDailyRollup last = days.get(days.size() - 1);
+            BigDecimal newInvested = days.stream()
+                .map(DashboardDailyRollup::getNewInvestedAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            trends.add(InvestmentStatsResponse.InvestmentTrendData.builder()
+                .period(entry.getKey())
+                .totalValue(last.getTotalInvestedAmount())
+                .totalInvestments(last.getTotalInvestments())
+                .newInvestments(newInvested)
+                .returns(BigDecimal.ZERO) // Will be calculated when return data is available
+                .averageReturn(0.0)
+                .build());
+        }
+        return trends;
+    }
+
+    private Map<String, List<DashboardDailyRollup>> groupByPeriod(List<DashboardDailyRollup> rollups,
+                                                                  Function<LocalDate, String> period) {
+        return rollups.stream()
+            .collect(Collectors.groupingBy(rollup -> period.apply(rollup.getRollupDate()),
+                LinkedHashMap::new, Collectors.toList()));
+    }
+
+    private String monthPeriod(LocalDate date) {
+        return YearMonth.from(date).toString();
+    }
+
+    private String quarterPeriod(LocalDate date) {
+        return "Q" + ((date.getMonthValue() - 1) / 3 + 1) + "-" + date.getYear();
+    }
+
+    private BigDecimal getRolledUpInvestmentValue(LocalDate date, BigDecimal fallback) {
+        // Without a rollup that far back there is no baseline, which reads as zero growth
+        return rollupRepository.findTopByRollupDateLessThanEqualOrderByRollupDateDesc(date)
+            .map(DashboardDailyRollup::getTotalInvestedAmount)
+            .orElse(fallback);
+    }
+
+    private double growthPercentage(BigDecimal current, BigDecimal previous) {
+        if (previous.signum() <= 0) {
+            return 0.0;
+        }
+        return current.subtract(previous)
+            .divide(previous, 4, RoundingMode.HALF_UP)
+            .multiply(BigDecimal.valueOf(100))
+            .doubleValue();
     }
 
     private List<DashboardSummaryResponse.UpcomingBirthdayClient> getUpcomingBirthdayClients(int days) {
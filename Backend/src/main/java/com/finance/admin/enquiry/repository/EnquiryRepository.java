@@ -98,6 +98,17 @@ public interface EnquiryRepository extends JpaRepository<Enquiry, Long> {
     @Query("SELECT COUNT(e) FROM Enquiry e WHERE e.status = :status")
     long countByStatus(@Param("status") Enquiry.EnquiryStatus status);
 
+    @Query("SELECT e.status, COUNT(e) FROM Enquiry e GROUP BY e.status")
+    List<Object[]> getEnquiryStatusStatistics();
+
+    @Query("SELECT CAST(e.createdAt AS LocalDate), COUNT(e) FROM Enquiry e " +
+           "WHERE e.createdAt >= :startDate AND e.createdAt < :endDate GROUP BY CAST(e.createdAt AS LocalDate)")
+    List<Object[]> countEnquiriesCreatedPerDay(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT CAST(e.resolvedDate AS LocalDate), COUNT(e) FROM Enquiry e " +
+           "WHERE e.resolvedDate >= :startDate AND e.resolvedDate < :endDate GROUP BY CAST(e.resolvedDate AS LocalDate)")
+    List<Object[]> countEnquiriesResolvedPerDay(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
     @Query("SELECT COUNT(e) FROM Enquiry e WHERE e.enquiryType = :enquiryType")
     long countByEnquiryType(@Param("enquiryType") Enquiry.EnquiryType enquiryType);
 
@@ -117,6 +128,11 @@ public interface EnquiryRepository extends JpaRepository<Enquiry, Long> {
     @Query("SELECT COUNT(e) FROM Enquiry e WHERE e.resolvedDate IS NOT NULL")
     Long countWithResolutionTime();
 
+    // Count and total minutes from creation to response, then to resolution, aggregated in the database
+    @Query("SELECT COUNT(e.responseDate), SUM((e.responseDate - e.createdAt) by minute), " +
+           "COUNT(e.resolvedDate), SUM((e.resolvedDate - e.createdAt) by minute) FROM Enquiry e")
+    List<Object[]> getResponseAndResolutionMinuteTotals();
+
     // Note: H2 doesn't support EXTRACT with Duration calculations
     // These would need to be calculated in the service layer
     default Double getAverageResponseTimeHours() {
@@ -149,6 +165,11 @@ public interface EnquiryRepository extends JpaRepository<Enquiry, Long> {
     boolean existsByEnquiryNumber(String enquiryNumber);
     boolean existsByEnquiryNumberAndIdNot(String enquiryNumber, Long id);
 
+    // Highest sequence number issued under a prefix, compared numerically, used to seed a new number sequence
+    @Query("SELECT MAX(CAST(SUBSTRING(e.enquiryNumber, LENGTH(:prefix) + 1) AS Long)) FROM Enquiry e " +
+           "WHERE e.enquiryNumber LIKE CONCAT(:prefix, '%')")
+    Optional<Long> findMaxEnquirySequenceByPrefix(@Param("prefix") String prefix);
+
     // Cleanup queries
     @Query("SELECT e FROM Enquiry e WHERE e.status IN ('RESOLVED', 'CLOSED') AND e.updatedAt < :cutoffDate")
     List<Enquiry> findOldResolvedEnquiries(@Param("cutoffDate") LocalDateTime cutoffDate);
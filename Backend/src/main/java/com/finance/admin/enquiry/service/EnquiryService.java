@@ -2,6 +2,8 @@ package com.finance.admin.enquiry.service;
 
 import com.finance.admin.client.model.Client;
 import com.finance.admin.client.repository.ClientRepository;
+import com.finance.admin.common.service.IdentifierAllocationService;
+import com.finance.admin.dashboard.service.DashboardMetricsStore;
 import com.finance.admin.enquiry.dto.CreateEnquiryRequest;
 import com.finance.admin.enquiry.dto.EnquiryResponse;
 import com.finance.admin.enquiry.dto.UpdateEnquiryRequest;
@@ -32,6 +34,8 @@ public class EnquiryService {
     private final EnquiryRepository enquiryRepository;
     private final ClientRepository clientRepository;
     private final UserRepository userRepository;
+    private final DashboardMetricsStore dashboardMetricsStore;
+    private final IdentifierAllocationService identifierAllocationService;
 
     /**
      * Create a new enquiry
@@ -70,6 +74,7 @@ public class EnquiryService {
             .build();
 
         Enquiry savedEnquiry = enquiryRepository.save(enquiry);
+        dashboardMetricsStore.recordEnquiryCreated(savedEnquiry.getStatus());
         log.info("Enquiry created successfully with ID: {} and number: {}", savedEnquiry.getId(), enquiryNumber);
 
         return mapToResponse(savedEnquiry);
@@ -103,6 +108,9 @@ public class EnquiryService {
 
         Enquiry enquiry = enquiryRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Enquiry not found with ID: " + id));
+        Enquiry.EnquiryStatus previousStatus = enquiry.getStatus();
+        LocalDateTime previousResponseDate = enquiry.getResponseDate();
+        LocalDateTime previousResolvedDate = enquiry.getResolvedDate();
 
         // Update fields if provided
         if (request.getSubject() != null) {
@@ -170,6 +178,10 @@ public class EnquiryService {
         }
 
         Enquiry updatedEnquiry = enquiryRepository.save(enquiry);
+        dashboardMetricsStore.recordEnquiryStatusChanged(previousStatus, updatedEnquiry.getStatus());
+        dashboardMetricsStore.recordEnquiryDatesChanged(updatedEnquiry.getCreatedAt(),
+            previousResponseDate, updatedEnquiry.getResponseDate(),
+            previousResolvedDate, updatedEnquiry.getResolvedDate());
         log.info("Enquiry updated successfully with ID: {}", id);
 
         return mapToResponse(updatedEnquiry);
@@ -185,6 +197,9 @@ public class EnquiryService {
             .orElseThrow(() -> new RuntimeException("Enquiry not found with ID: " + id));
 
         enquiryRepository.delete(enquiry);
+        dashboardMetricsStore.recordEnquiryDeleted(enquiry.getStatus());
+        dashboardMetricsStore.recordEnquiryDatesChanged(enquiry.getCreatedAt(),
+            enquiry.getResponseDate(), null, enquiry.getResolvedDate(), null);
         log.info("Enquiry deleted successfully with ID: {}", id);
     }
 
@@ -314,6 +329,8 @@ public class EnquiryService {
         // In production, this would need proper user ID mapping or schema alignment
 
         enquiry.setAssignedTo(userId);
+        Enquiry.EnquiryStatus previousStatus = enquiry.getStatus();
+        LocalDateTime previousResponseDate = enquiry.getResponseDate();
         
         // Update status to IN_PROGRESS if currently OPEN
         if (enquiry.getStatus() == Enquiry.EnquiryStatus.OPEN) {
@@ -322,6 +339,10 @@ public class EnquiryService {
         }
 
         Enquiry updatedEnquiry = enquiryRepository.save(enquiry);
+        dashboardMetricsStore.recordEnquiryStatusChanged(previousStatus, updatedEnquiry.getStatus());
+        dashboardMetricsStore.recordEnquiryDatesChanged(updatedEnquiry.getCreatedAt(),
+            previousResponseDate, updatedEnquiry.getResponseDate(),
+            updatedEnquiry.getResolvedDate(), updatedEnquiry.getResolvedDate());
         log.info("Enquiry {} assigned successfully to user {}", enquiryId, userId);
 
         return mapToResponse(updatedEnquiry);
@@ -331,20 +352,14 @@ public class EnquiryService {
      * Generate unique enquiry number
      */
     private String generateEnquiryNumber() {
-        String prefix = "ENQ";
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        
-        // Find the next sequence number for today
-        String pattern = prefix + timestamp + "%";
-        long count = enquiryRepository.count(); // Simple approach, could be improved
-        
-        String enquiryNumber;
-        do {
-            count++;
-            enquiryNumber = String.format("%s%s%04d", prefix, timestamp, count);
-        } while (enquiryRepository.existsByEnquiryNumber(enquiryNumber));
-        
-        return enquiryNumber;
+        String prefix = "ENQ" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+        // Daily sequence; only seeded from existing enquiries the first time the day's sequence is used
+        long sequence = identifierAllocationService.next(prefix, () -> enquiryRepository
+            .findMaxEnquirySequenceByPrefix(prefix)
+            .orElse(0L));
+
+        return String.format("%s%04d", prefix, sequence);
     }
 
     /**
@@ -14,6 +14,7 @@ import java.util.Optional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -132,4 +133,20 @@ public interface InvestmentRepository extends JpaRepository<Investment, Long> {
 
     @Query("SELECT COUNT(DISTINCT i.client.id) FROM Investment i WHERE i.purchaseDate BETWEEN :startDate AND :endDate")
     Long countDistinctClientsByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT i.status, COUNT(i), SUM(i.initialAmount) FROM Investment i GROUP BY i.status")
+    List<Object[]> getInvestmentStatusStatistics();
+
+    @Query("SELECT i.client.id, COUNT(i) FROM Investment i GROUP BY i.client.id")
+    List<Object[]> countInvestmentsGroupedByClient();
+
+    @Query("SELECT CAST(i.createdAt AS LocalDate), COUNT(i), SUM(i.initialAmount) FROM Investment i " +
+           "WHERE i.createdAt >= :startDate AND i.createdAt < :endDate GROUP BY CAST(i.createdAt AS LocalDate)")
+    List<Object[]> getInvestmentsCreatedPerDay(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT COUNT(i) FROM Investment i WHERE i.createdAt >= :startDate")
+    long countByCreatedAtAfter(@Param("startDate") LocalDateTime startDate);
+
+    @Query("SELECT SUM(i.initialAmount) FROM Investment i WHERE i.createdAt >= :startDate")
+    Optional<BigDecimal> sumInvestmentAmountCreatedAfter(@Param("startDate") LocalDateTime startDate);
 } 
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.finance.admin.investment.service;
 
+import com.finance.admin.client.investment.portfolio.PortfolioSnapshotCache;
 import com.finance.admin.client.model.Client;
 import com.finance.admin.client.repository.ClientRepository;
+import com.finance.admin.dashboard.service.DashboardMetricsStore;
 import com.finance.admin.investment.dto.CreateInvestmentRequest;
 import com.finance.admin.investment.dto.InvestmentResponse;
 import com.finance.admin.investment.dto.UpdateInvestmentRequest;
@@ -31,6 +33,8 @@ public class InvestmentService {
     private final ClientRepository clientRepository;
     private final EntityRepository entityRepository;
     private final UserRepository userRepository;
+    private final PortfolioSnapshotCache portfolioSnapshotCache;
+    private final DashboardMetricsStore dashboardMetricsStore;
 
     /**
      * Create a new investment
@@ -79,6 +83,8 @@ public class InvestmentService {
             .build();
 
         Investment savedInvestment = investmentRepository.save(investment);
+        portfolioSnapshotCache.invalidate(client.getId());
+        dashboardMetricsStore.recordInvestmentCreated(client.getId(), savedInvestment.getStatus(), savedInvestment.getInitialAmount());
         log.info("Investment created successfully with ID: {}", savedInvestment.getId());
 
         return mapToResponse(savedInvestment);
@@ -102,6 +108,8 @@ public class InvestmentService {
 
         Investment investment = investmentRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Investment not found with ID: " + id));
+        Investment.InvestmentStatus previousStatus = investment.getStatus();
+        BigDecimal previousAmount = investment.getInitialAmount();
 
         // Update fields if provided
         if (request.getEntityId() != null) {
@@ -177,6 +185,9 @@ public class InvestmentService {
         }
 
         Investment updatedInvestment = investmentRepository.save(investment);
+        portfolioSnapshotCache.invalidate(investment.getClient().getId());
+        dashboardMetricsStore.recordInvestmentUpdated(previousStatus, previousAmount,
+            updatedInvestment.getStatus(), updatedInvestment.getInitialAmount());
         log.info("Investment updated successfully with ID: {}", updatedInvestment.getId());
 
         return mapToResponse(updatedInvestment);
@@ -192,6 +203,8 @@ public class InvestmentService {
             .orElseThrow(() -> new RuntimeException("Investment not found with ID: " + id));
 
         investmentRepository.delete(investment);
+        portfolioSnapshotCache.invalidate(investment.getClient().getId());
+        dashboardMetricsStore.recordInvestmentDeleted(investment.getClient().getId(), investment.getStatus(), investment.getInitialAmount());
         log.info("Investment deleted successfully with ID: {}", id);
     }
 
@@ -13,6 +13,11 @@ public interface NotificationService {
      */
     void sendWelcomeEmail(User user);
 
+    /**
+     * Send welcome emails to newly imported users in the background
+     */
+    void sendWelcomeEmails(List<User> users);
+
     /**
      * Send email verification
      */
@@ -5,6 +5,7 @@ import com.finance.admin.user.entity.UserStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -50,6 +51,15 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
+    @Override
+    @Async
+    public void sendWelcomeEmails(List<User> users) {
+        logger.info("Sending welcome emails to {} imported users", users.size());
+        for (User user : users) {
+            sendWelcomeEmail(user);
+        }
+    }
+
     @Override
     public void sendEmailVerification(User user, String verificationToken) {
         if (!isEmailNotificationEnabled()) {
@@ -4,6 +4,7 @@ import com.finance.admin.auth.entity.AdminPermission;
 import com.finance.admin.auth.entity.AdminRole;
 import com.finance.admin.auth.entity.AdminUser;
 import com.finance.admin.auth.repository.AdminUserRepository;
+import com.finance.admin.auth.security.AdminPrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +18,9 @@ public class RoleService {
     @Autowired
     private AdminUserRepository adminUserRepository;
 
+    @Autowired
+    private AdminPrincipalCache principalCache;
+
     /**
      * Get all available roles
      */
@@ -68,6 +72,7 @@ public class RoleService {
         user.setRoles(roles);
         
         adminUserRepository.save(user);
+        principalCache.evictUser(userId);
     }
 
     /**
@@ -83,6 +88,7 @@ public class RoleService {
         user.setRoles(roles);
         
         adminUserRepository.save(user);
+        principalCache.evictUser(userId);
     }
 
     /**
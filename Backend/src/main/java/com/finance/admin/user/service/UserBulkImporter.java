@@ -0,0 +1,244 @@
+package com.finance.admin.user.service;
+
+import com.finance.admin.notification.service.NotificationService;
+import com.finance.admin.user.dto.UserCreateRequest;
+import com.finance.admin.user.dto.UserResponse;
+import com.finance.admin.user.entity.User;
+import com.finance.admin.user.entity.UserStatus;
+import com.finance.admin.user.mapper.UserMapper;
+import com.finance.admin.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Bulk user import used by {@link UserServiceImpl#bulkCreateUsers(List)}.
+ * Uniqueness is checked for the whole batch with one query, passwords are hashed in parallel,
+ * rows are inserted with JDBC batches and welcome emails are sent in the background. Each chunk
+ * of rows commits on its own; if a chunk fails its rows are retried one by one so a single bad
+ * row is reported against its index instead of failing the import.
+ */
+@Component
+public class UserBulkImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBulkImporter.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO users (id, username, email, password, first_name, last_name, phone_number, status, " +
+        "email_verified, phone_verified, profile_image_url, date_of_birth, timezone, locale, login_count, " +
+        "failed_login_attempts, created_at, updated_at, created_by, updated_by, version) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final NotificationService notificationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    @Value("${app.user.bulk-import.batch-size:500}")
+    private int batchSize = 500;
+
+    public UserBulkImporter(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder,
+                            NotificationService notificationService, JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager, AuditorAware<String> auditorAware) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.notificationService = notificationService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.auditorAware = auditorAware;
+    }
+
+    /**
+     * Create users in bulk
+     *
+     * @param requests Users to create
+     * @return Result map with successful users, per-index failures and counts
+     */
+    public Map<String, Object> importUsers(List<UserCreateRequest> requests) {
+        logger.info("Bulk creating {} users", requests.size());
+
+        Map<Integer, String> errors = new TreeMap<>();
+        List<Integer> accepted = validate(requests, errors);
+
+        // BCrypt dominates the cost of an import, so hash on all cores
+        String[] hashes = new String[requests.size()];
+        accepted.parallelStream().forEach(i -> hashes[i] = passwordEncoder.encode(requests.get(i).getPassword()));
+
+        String auditor = auditorAware.getCurrentAuditor().orElse("SYSTEM");
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, User> created = new TreeMap<>();
+        for (int start = 0; start < accepted.size(); start += batchSize) {
+            List<Integer> chunk = accepted.subList(start, Math.min(start + batchSize, accepted.size()));
+            Map<Integer, User> users = new LinkedHashMap<>();
+            for (Integer i : chunk) {
+                users.put(i, toUser(requests.get(i), hashes[i], auditor, now));
+            }
+            insertChunk(users, created, errors);
+        }
+
+        List<User> welcome = new ArrayList<>();
+        for (Map.Entry<Integer, User> entry : created.entrySet()) {
+            if (Boolean.TRUE.equals(requests.get(entry.getKey()).getSendWelcomeEmail())) {
+                welcome.add(entry.getValue());
+            }
+        }
+        if (!welcome.isEmpty()) {
+            try {
+                notificationService.sendWelcomeEmails(welcome);
+            } catch (Exception e) {
+                logger.warn("Failed to queue welcome emails for {} users", welcome.size(), e);
+            }
+        }
+
+        List<UserResponse> successful = new ArrayList<>();
+        created.values().forEach(user -> successful.add(userMapper.toResponse(user)));
+        List<Map<String, Object>> failed = new ArrayList<>();
+        errors.forEach((index, message) -> {
+            Map<String, Object> error = new HashMap<>();
+            error.put("index", index);
+            error.put("request", requests.get(index));
+            error.put("error", message);
+            failed.add(error);
+        });
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("successful", successful);
+        result.put("failed", failed);
+        result.put("totalRequested", requests.size());
+        result.put("successCount", successful.size());
+        result.put("failureCount", failed.size());
+
+        logger.info("Bulk user creation completed: {} successful, {} failed", successful.size(), failed.size());
+        return result;
+    }
+
+    // Helper methods
+
+    private List<Integer> validate(List<UserCreateRequest> requests, Map<Integer, String> errors) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (UserCreateRequest request : requests) {
+            if (request != null && request.getUsername() != null && request.getEmail() != null) {
+                usernames.add(request.getUsername());
+                emails.add(request.getEmail());
+            }
+        }
+
+        Set<String> existingUsernames = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        if (!usernames.isEmpty()) {
+            for (Object[] row : userRepository.findExistingUsernamesAndEmails(usernames, emails)) {
+                existingUsernames.add((String) row[0]);
+                existingEmails.add((String) row[1]);
+            }
+        }
+
+        // Within the batch the first occurrence wins, as it did when rows were created one by one
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            UserCreateRequest request = requests.get(i);
+            String error = null;
+            if (request == null || !StringUtils.hasText(request.getUsername())
+                || !StringUtils.hasText(request.getEmail()) || !StringUtils.hasText(request.getPassword())) {
+                error = "Username, email and password are required";
+            } else if (existingUsernames.contains(request.getUsername())) {
+                error = "Username already exists: " + request.getUsername();
+            } else if (existingEmails.contains(request.getEmail())) {
+                error = "Email already exists: " + request.getEmail();
+            }
+
+            if (error != null) {
+                errors.put(i, error);
+                logger.warn("Failed to create user at index {}: {}", i, error);
+            } else {
+                existingUsernames.add(request.getUsername());
+                existingEmails.add(request.getEmail());
+                accepted.add(i);
+            }
+        }
+        return accepted;
+    }
+
+    private void insertChunk(Map<Integer, User> users, Map<Integer, User> created, Map<Integer, String> errors) {
+        List<User> rows = new ArrayList<>(users.values());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), this::bind));
+            created.putAll(users);
+            return;
+        } catch (Exception e) {
+            logger.warn("Batch insert of {} users failed, retrying row by row: {}", rows.size(), e.getMessage());
+        }
+
+        users.forEach((index, user) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, List.of(user), 1, this::bind));
+                created.put(index, user);
+            } catch (DuplicateKeyException e) {
+                errors.put(index, "Username or email already exists: " + user.getUsername());
+                logger.warn("Failed to create user at index {}: duplicate username or email", index);
+            } catch (Exception e) {
+                errors.put(index, e.getMessage());
+                logger.warn("Failed to create user at index {}: {}", index, e.getMessage());
+            }
+        });
+    }
+
+    private User toUser(UserCreateRequest request, String passwordHash, String auditor, LocalDateTime now) {
+        User user = userMapper.toEntity(request);
+        user.setId(UUID.randomUUID());
+        user.setPassword(passwordHash);
+        if (user.getStatus() == null) {
+            user.setStatus(UserStatus.PENDING_VERIFICATION);
+        }
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        user.setCreatedBy(auditor);
+        user.setUpdatedBy(auditor);
+        user.setVersion(0L);
+        return user;
+    }
+
+    private void bind(PreparedStatement ps, User user) throws SQLException {
+        ps.setObject(1, user.getId());
+        ps.setString(2, user.getUsername());
+        ps.setString(3, user.getEmail());
+        ps.setString(4, user.getPassword());
+        ps.setString(5, user.getFirstName());
+        ps.setString(6, user.getLastName());
+        ps.setString(7, user.getPhoneNumber());
+        ps.setString(8, user.getStatus().name());
+        ps.setBoolean(9, Boolean.TRUE.equals(user.getEmailVerified()));
+        ps.setBoolean(10, Boolean.TRUE.equals(user.getPhoneVerified()));
+        ps.setString(11, user.getProfileImageUrl());
+        ps.setTimestamp(12, user.getDateOfBirth() != null ? Timestamp.valueOf(user.getDateOfBirth()) : null);
+        ps.setString(13, user.getTimezone());
+        ps.setString(14, user.getLocale());
+        ps.setLong(15, user.getLoginCount() != null ? user.getLoginCount() : 0L);
+        ps.setInt(16, user.getFailedLoginAttempts() != null ? user.getFailedLoginAttempts() : 0);
+        ps.setTimestamp(17, Timestamp.valueOf(user.getCreatedAt()));
+        ps.setTimestamp(18, Timestamp.valueOf(user.getUpdatedAt()));
+        ps.setString(19, user.getCreatedBy());
+        ps.setString(20, user.getUpdatedBy());
+        ps.setLong(21, user.getVersion());
+    }
+}
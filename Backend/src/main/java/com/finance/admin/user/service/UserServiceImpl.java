@@ -16,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -40,6 +41,9 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private UserBulkImporter userBulkImporter;
+
     // CRUD Operations
     @Override
     public UserResponse createUser(UserCreateRequest request) {
@@ -244,35 +248,10 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> bulkCreateUsers(List<UserCreateRequest> requests) {
-        logger.info("Bulk creating {} users", requests.size());
-
-        Map<String, Object> result = new HashMap<>();
-        List<UserResponse> successful = new ArrayList<>();
-        List<Map<String, Object>> failed = new ArrayList<>();
-
-        for (int i = 0; i < requests.size(); i++) {
-            try {
-                UserResponse created = createUser(requests.get(i));
-                successful.add(created);
-            } catch (Exception e) {
-                Map<String, Object> error = new HashMap<>();
-                error.put("index", i);
-                error.put("request", requests.get(i));
-                error.put("error", e.getMessage());
-                failed.add(error);
-                logger.warn("Failed to create user at index {}: {}", i, e.getMessage());
-            }
-        }
-
-        result.put("successful", successful);
-        result.put("failed", failed);
-        result.put("totalRequested", requests.size());
-        result.put("successCount", successful.size());
-        result.put("failureCount", failed.size());
-
-        logger.info("Bulk user creation completed: {} successful, {} failed", successful.size(), failed.size());
-        return result;
+        // The importer commits chunk by chunk, so no transaction is held across the whole import
+        return userBulkImporter.importUsers(requests);
     }
 
     // Helper method to get current user ID (would be implemented based on security context)
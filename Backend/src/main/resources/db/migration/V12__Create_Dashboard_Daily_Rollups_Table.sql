@@ -0,0 +1,22 @@
+-- Create dashboard_daily_rollups table
+-- One row per day of end-of-day client, investment and enquiry figures, written by the nightly rollup job
+
+CREATE TABLE dashboard_daily_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    rollup_date DATE NOT NULL UNIQUE,
+    total_clients BIGINT NOT NULL,
+    new_clients BIGINT NOT NULL,
+    active_clients BIGINT,
+    total_investments BIGINT NOT NULL,
+    new_investments BIGINT NOT NULL,
+    active_investments BIGINT,
+    total_invested_amount DECIMAL(19,2) NOT NULL,
+    new_invested_amount DECIMAL(19,2) NOT NULL,
+    investing_clients BIGINT,
+    total_enquiries BIGINT NOT NULL,
+    new_enquiries BIGINT NOT NULL,
+    resolved_enquiries BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- rollup_date is already indexed through its unique constraint; trend reads are range scans on it
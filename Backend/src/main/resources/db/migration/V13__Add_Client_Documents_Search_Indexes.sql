@@ -0,0 +1,12 @@
+-- Trigram indexes for client document search
+-- Document search matches LOWER(column) LIKE '%term%' on name, description and tags; pg_trgm GIN
+-- indexes on the same expressions let PostgreSQL answer those predicates without a sequential scan
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_client_documents_name_trgm
+    ON client_documents USING GIN (LOWER(document_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_client_documents_description_trgm
+    ON client_documents USING GIN (LOWER(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_client_documents_tags_trgm
+    ON client_documents USING GIN (LOWER(tags) gin_trgm_ops);
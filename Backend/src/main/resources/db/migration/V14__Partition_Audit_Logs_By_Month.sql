@@ -0,0 +1,75 @@
+-- Monthly range partitioning for audit_logs
+-- Partitions are keyed on start_time so searches bounded by start time only scan the months they
+-- cover, and retention drops whole months instead of deleting rows. The application creates
+-- upcoming monthly partitions ahead of time (AuditPartitionManager); the default partition only
+-- catches rows that arrive before their month's partition exists.
+
+DO $$
+BEGIN
+    IF to_regclass('audit_logs') IS NOT NULL
+       AND (SELECT relkind FROM pg_class WHERE oid = to_regclass('audit_logs')) <> 'p' THEN
+        ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+    END IF;
+END $$;
+
+CREATE TABLE IF NOT EXISTS audit_logs (
+    id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(255),
+    updated_at TIMESTAMP,
+    updated_by VARCHAR(255),
+    version BIGINT,
+    user_id UUID,
+    user_type VARCHAR(10) NOT NULL,
+    action_type VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id UUID,
+    old_values TEXT,
+    new_values TEXT,
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(255),
+    session_id VARCHAR(255),
+    method_name VARCHAR(100),
+    parameters VARCHAR(255),
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    error_message VARCHAR(255),
+    PRIMARY KEY (id, start_time)
+) PARTITION BY RANGE (start_time);
+
+CREATE TABLE IF NOT EXISTS audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Partitions for every month that already has audit data, up to the current month
+DO $$
+DECLARE
+    first_month DATE;
+    month_start DATE;
+BEGIN
+    IF to_regclass('audit_logs_unpartitioned') IS NOT NULL THEN
+        SELECT date_trunc('month', MIN(start_time))::DATE INTO first_month FROM audit_logs_unpartitioned;
+    END IF;
+    month_start := COALESCE(first_month, date_trunc('month', CURRENT_DATE)::DATE);
+
+    WHILE month_start <= date_trunc('month', CURRENT_DATE)::DATE LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       'audit_logs_y' || to_char(month_start, 'YYYY') || 'm' || to_char(month_start, 'MM'),
+                       month_start, (month_start + INTERVAL '1 month')::DATE);
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+
+    IF to_regclass('audit_logs_unpartitioned') IS NOT NULL THEN
+        INSERT INTO audit_logs SELECT id, created_at, created_by, updated_at, updated_by, version, user_id,
+            user_type, action_type, entity_type, entity_id, old_values, new_values, ip_address, user_agent,
+            session_id, method_name, parameters, start_time, end_time, status, error_message
+        FROM audit_logs_unpartitioned;
+        DROP TABLE audit_logs_unpartitioned;
+    END IF;
+END $$;
+
+-- Indexes on the parent are created on every partition, including ones added later
+CREATE INDEX IF NOT EXISTS idx_audit_user_id ON audit_logs (user_id);
+CREATE INDEX IF NOT EXISTS idx_audit_action_type ON audit_logs (action_type);
+CREATE INDEX IF NOT EXISTS idx_audit_entity_type ON audit_logs (entity_type);
+CREATE INDEX IF NOT EXISTS idx_audit_created_at ON audit_logs (created_at);
+CREATE INDEX IF NOT EXISTS idx_audit_start_time ON audit_logs (start_time);
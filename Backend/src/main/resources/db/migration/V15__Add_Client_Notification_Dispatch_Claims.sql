@@ -0,0 +1,12 @@
+-- Dispatch claims for scheduled client notifications
+-- A node claims a page of due notifications by stamping claimed_by and a lease expiry under
+-- FOR UPDATE SKIP LOCKED, so replicas share the backlog instead of each sending every row.
+-- A claim whose lease has expired (the node died mid-delivery) can be taken over by another node.
+
+ALTER TABLE client_notifications ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(100);
+ALTER TABLE client_notifications ADD COLUMN IF NOT EXISTS claim_expires_at TIMESTAMP;
+
+-- Only pending rows are ever polled, so keep the dispatch index to those
+CREATE INDEX IF NOT EXISTS idx_client_notifications_pending_scheduled
+    ON client_notifications(scheduled_at)
+    WHERE delivery_status = 'PENDING';
@@ -0,0 +1,9 @@
+-- Named sequences for business identifiers such as enquiry and certificate numbers
+-- Each key is a prefix plus period (e.g. ENQ20250115, SHR-202501). next_value is the first number
+-- not yet handed out; nodes advance it by a whole block at a time and number from memory.
+
+CREATE TABLE IF NOT EXISTS identifier_sequences (
+    sequence_key VARCHAR(100) PRIMARY KEY,
+    next_value BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
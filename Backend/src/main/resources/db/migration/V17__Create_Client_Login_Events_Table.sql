@@ -0,0 +1,26 @@
+-- Outbox for client login side effects (login history, session limit, blockchain audit)
+-- A login writes one row in its own transaction; the event pipeline runs the steps after commit,
+-- recording progress in completed_steps so a retry resumes where the last attempt stopped.
+-- Rows are deleted once every step has run; rows that keep failing end as FAILED.
+
+CREATE TABLE IF NOT EXISTS client_login_events (
+    id UUID PRIMARY KEY,
+    client_id BIGINT NOT NULL,
+    operation VARCHAR(50) NOT NULL,
+    audit_message TEXT,
+    ip_address VARCHAR(45),
+    user_agent TEXT,
+    login_at TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    completed_steps INTEGER NOT NULL DEFAULT 0,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    claimed_by VARCHAR(100),
+    claim_expires_at TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_client_login_events_pending
+    ON client_login_events(next_attempt_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,35 @@
+-- Batched blockchain anchoring
+-- Audit log entries and identity anchors are queued as leaf hashes. Each batch builds a Merkle tree
+-- over its leaves and anchors only the root in one blockchain transaction; every item keeps its
+-- inclusion proof so it can be verified against the anchored root without querying the chain.
+-- leaf_data is the exact string each leaf was hashed from, so the leaf can be recomputed.
+
+CREATE TABLE IF NOT EXISTS blockchain_anchor_batches (
+    id UUID PRIMARY KEY,
+    merkle_root VARCHAR(64) NOT NULL,
+    transaction_hash VARCHAR(66) NOT NULL,
+    item_count INTEGER NOT NULL,
+    anchored_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS blockchain_anchor_items (
+    id UUID PRIMARY KEY,
+    item_type VARCHAR(30) NOT NULL,
+    operation VARCHAR(100),
+    client_id BIGINT,
+    leaf_data TEXT NOT NULL,
+    leaf_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    batch_id UUID REFERENCES blockchain_anchor_batches(id),
+    leaf_index INTEGER,
+    inclusion_proof TEXT,
+    claim_expires_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_blockchain_anchor_items_pending
+    ON blockchain_anchor_items(created_at)
+    WHERE status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS idx_blockchain_anchor_items_client
+    ON blockchain_anchor_items(client_id, item_type, leaf_hash);
@@ -2,6 +2,7 @@ package com.finance.admin.audit;
 
 import com.finance.admin.audit.controller.AuditController;
 import com.finance.admin.audit.entity.AuditLog;
+import com.finance.admin.audit.service.AuditLogExporter;
 import com.finance.admin.audit.service.AuditService;
 import com.finance.admin.config.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,9 +13,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -182,4 +186,27 @@ public class AuditControllerTest extends BaseUnitTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.content").isArray());
     }
+
+    @Test
+    void testStreamAuditLogsAsCsv() throws Exception {
+        when(auditService.streamAuditLogs(
+                isNull(), isNull(), eq("CREATE"), isNull(), isNull(), isNull(),
+                eq(AuditLogExporter.Format.CSV), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    OutputStream out = invocation.getArgument(7);
+                    out.write("id,start_time\r\n".getBytes(StandardCharsets.UTF_8));
+                    return 0L;
+                });
+
+        MvcResult result = mockMvc.perform(get("/audit/export/stream")
+                .param("actionType", "CREATE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"audit-logs.csv\""))
+                .andExpect(content().string("id,start_time\r\n"));
+    }
 }
@@ -0,0 +1,128 @@
+package com.finance.admin.audit.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.admin.common.exception.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for AuditLogExporter keyset-paged streaming against an in-memory database
+ */
+class AuditLogExporterTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private AuditLogExporter auditLogExporter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:test-schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        auditLogExporter = new AuditLogExporter(jdbcTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(auditLogExporter, "pageSize", 2);
+
+        // Two rows share a start time so the keyset has to fall back to the id
+        insertAuditLog("00000000-0000-0000-0000-000000000001", "CREATE", BASE_TIME);
+        insertAuditLog("00000000-0000-0000-0000-000000000002", "UPDATE", BASE_TIME);
+        insertAuditLog("00000000-0000-0000-0000-000000000003", "UPDATE", BASE_TIME.plusMinutes(1));
+        insertAuditLog("00000000-0000-0000-0000-000000000004", "DELETE, \"soft\"", BASE_TIME.plusMinutes(2));
+        insertAuditLog("00000000-0000-0000-0000-000000000005", "CREATE", BASE_TIME.plusDays(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void export_Csv_WritesEveryRowOnceAcrossPages() {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long written = auditLogExporter.export(null, null, null, null, null, null,
+                AuditLogExporter.Format.CSV, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(written).isEqualTo(5);
+        assertThat(lines).hasSize(6);
+        assertThat(lines[0]).startsWith("id,start_time,end_time");
+        assertThat(lines[1]).startsWith("00000000-0000-0000-0000-000000000001,");
+        assertThat(lines[2]).startsWith("00000000-0000-0000-0000-000000000002,");
+        assertThat(lines[4]).contains("\"DELETE, \"\"soft\"\"\"");
+        assertThat(lines[5]).startsWith("00000000-0000-0000-0000-000000000005,");
+    }
+
+    @Test
+    void export_Csv_NeutralisesFormulaValues() {
+        // Arrange
+        insertAuditLog("00000000-0000-0000-0000-000000000006", "=HYPERLINK(\"http://x\")", BASE_TIME.plusDays(11));
+        insertAuditLog("00000000-0000-0000-0000-000000000007", "@SUM(A1)", BASE_TIME.plusDays(12));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        auditLogExporter.export(null, null, null, null, BASE_TIME.plusDays(11), null,
+                AuditLogExporter.Format.CSV, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[1]).contains(",\"'=HYPERLINK(\"\"http://x\"\")\",");
+        assertThat(lines[2]).contains(",'@SUM(A1),");
+    }
+
+    @Test
+    void export_Ndjson_AppliesFilters() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long written = auditLogExporter.export(null, null, "UPDATE", null, BASE_TIME, BASE_TIME.plusDays(1),
+                AuditLogExporter.Format.NDJSON, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertThat(first.get("id").asText()).isEqualTo("00000000-0000-0000-0000-000000000002");
+        assertThat(first.get("action_type").asText()).isEqualTo("UPDATE");
+        assertThat(first.get("start_time").asText()).isEqualTo("2025-03-01T09:00");
+    }
+
+    @Test
+    void formatFrom_UnknownFormat_ThrowsValidationException() {
+        assertThat(AuditLogExporter.Format.from("ndjson")).isEqualTo(AuditLogExporter.Format.NDJSON);
+        assertThatThrownBy(() -> AuditLogExporter.Format.from("xml"))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private void insertAuditLog(String id, String actionType, LocalDateTime startTime) {
+        jdbcTemplate.update("INSERT INTO audit_logs (id, created_at, action_type, end_time, entity_type, " +
+                        "start_time, status, user_id, user_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                id, Timestamp.valueOf(startTime), actionType, Timestamp.valueOf(startTime.plusSeconds(1)), "CLIENT",
+                Timestamp.valueOf(startTime), "SUCCESS", UUID.randomUUID().toString(), "admin");
+    }
+}
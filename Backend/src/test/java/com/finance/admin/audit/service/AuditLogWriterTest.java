@@ -0,0 +1,180 @@
+package com.finance.admin.audit.service;
+
+import com.finance.admin.audit.entity.AuditLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditLogWriter write-behind batching
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AuditLogWriter auditLogWriter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        auditLogWriter = new AuditLogWriter(jdbcTemplate, meterRegistry);
+        ReflectionTestUtils.setField(auditLogWriter, "bufferCapacity", 3);
+        ReflectionTestUtils.setField(auditLogWriter, "batchSize", 2);
+    }
+
+    @Test
+    void submit_BuffersUntilFlush() {
+        // Act
+        auditLogWriter.submit(auditLog());
+        auditLogWriter.submit(auditLog());
+
+        // Assert
+        assertThat(auditLogWriter.getBufferedCount()).isEqualTo(2);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WritesInBatches() {
+        // Arrange
+        auditLogWriter.submit(auditLog());
+        auditLogWriter.submit(auditLog());
+        auditLogWriter.submit(auditLog());
+
+        // Act
+        auditLogWriter.flush();
+
+        // Assert
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((Collection<AuditLog> batch) -> batch.size() == 2),
+                eq(2), any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((Collection<AuditLog> batch) -> batch.size() == 1),
+                eq(1), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(auditLogWriter.getBufferedCount()).isZero();
+        assertThat(meterRegistry.counter("audit.logs.written").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void submit_WhenBufferFull_WritesOnCallerThread() {
+        // Arrange
+        auditLogWriter.submit(auditLog());
+        auditLogWriter.submit(auditLog());
+        auditLogWriter.submit(auditLog());
+
+        // Act
+        auditLogWriter.submit(auditLog());
+
+        // Assert
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((Collection<AuditLog> batch) -> batch.size() == 1),
+                eq(1), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(auditLogWriter.getBufferedCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("audit.logs.buffer.overflow").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WhenWriteFails_KeepsEntriesForNextFlush() {
+        // Arrange
+        auditLogWriter.submit(auditLog());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("database unavailable"))
+                .thenReturn(new int[][]{{1}});
+
+        // Act
+        auditLogWriter.flush();
+        int bufferedAfterFailure = auditLogWriter.getBufferedCount();
+        auditLogWriter.shutdown();
+
+        // Assert
+        assertThat(bufferedAfterFailure).isEqualTo(1);
+        assertThat(auditLogWriter.getBufferedCount()).isZero();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WhenBatchRejected_WritesRowsOneByOneAndDropsPersistentFailures() {
+        // Arrange
+        AuditLog good = auditLog();
+        AuditLog bad = auditLog();
+        bad.setActionType("BROKEN");
+        auditLogWriter.submit(good);
+        auditLogWriter.submit(bad);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<AuditLog> batch = invocation.getArgument(1);
+                    if (batch.contains(bad)) {
+                        throw new DataIntegrityViolationException("value too long");
+                    }
+                    return new int[][]{{1}};
+                });
+
+        // Act
+        auditLogWriter.flush();
+        int bufferedAfterFirstFlush = auditLogWriter.getBufferedCount();
+        auditLogWriter.flush();
+        auditLogWriter.flush();
+
+        // Assert
+        assertThat(bufferedAfterFirstFlush).isEqualTo(1);
+        assertThat(auditLogWriter.getBufferedCount()).isZero();
+        assertThat(meterRegistry.counter("audit.logs.written").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("audit.logs.write.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_TruncatesValuesToColumnLengths() throws Exception {
+        // Arrange
+        AuditLog auditLog = auditLog();
+        auditLog.setUserAgent("a".repeat(600));
+        auditLog.setErrorMessage("e".repeat(300));
+        auditLogWriter.submit(auditLog);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<AuditLog>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+
+        // Act
+        auditLogWriter.flush();
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), setter.capture());
+        setter.getValue().setValues(ps, auditLog);
+
+        // Assert
+        verify(ps).setString(15, "a".repeat(255));
+        verify(ps).setString(22, "e".repeat(255));
+        verify(ps).setString(9, "UPDATE");
+    }
+
+    private AuditLog auditLog() {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setUserType("admin");
+        auditLog.setActionType("UPDATE");
+        auditLog.setEntityType("CLIENT");
+        auditLog.setStartTime(LocalDateTime.now());
+        auditLog.setEndTime(LocalDateTime.now());
+        auditLog.setStatus("SUCCESS");
+        return auditLog;
+    }
+}
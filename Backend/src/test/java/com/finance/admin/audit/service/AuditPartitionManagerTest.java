@@ -0,0 +1,161 @@
+package com.finance.admin.audit.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditPartitionManager monthly partition maintenance
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditPartitionManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuditPartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() {
+        partitionManager = new AuditPartitionManager(jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(partitionManager, "enabled", true);
+        ReflectionTestUtils.setField(partitionManager, "monthsAhead", 2);
+    }
+
+    @Test
+    void createUpcomingPartitions_CreatesCurrentAndFutureMonths() {
+        // Arrange
+        stubPartitioned(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("audit_logs_default"));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class), any(), any())).thenReturn(false);
+
+        // Act
+        partitionManager.createUpcomingPartitions();
+
+        // Assert
+        YearMonth current = YearMonth.now();
+        verify(jdbcTemplate, times(3)).execute(startsWith("CREATE TABLE IF NOT EXISTS audit_logs_y"));
+        verify(jdbcTemplate).execute(contains("FOR VALUES FROM ('" + current.atDay(1) + "') TO ('"
+                + current.plusMonths(1).atDay(1) + "')"));
+        verify(jdbcTemplate, never()).execute(contains("DETACH PARTITION"));
+    }
+
+    @Test
+    void createUpcomingPartitions_MovesRowsOutOfDefaultPartition() {
+        // Arrange
+        YearMonth current = YearMonth.now();
+        String currentPartition = "audit_logs_y" + current.format(DateTimeFormatter.ofPattern("yyyy'm'MM"));
+        stubPartitioned(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("audit_logs_default"));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class), any(), any()))
+                .thenReturn(true, false, false);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        // Act
+        partitionManager.createUpcomingPartitions();
+
+        // Assert
+        InOrder inOrder = inOrder(jdbcTemplate, transactionManager);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_default");
+        inOrder.verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS " + currentPartition));
+        inOrder.verify(jdbcTemplate).update(startsWith("INSERT INTO audit_logs SELECT * FROM audit_logs_default"), any(Object[].class));
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM audit_logs_default"), any(Object[].class));
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE audit_logs ATTACH PARTITION audit_logs_default DEFAULT");
+        inOrder.verify(transactionManager).commit(any());
+        verify(jdbcTemplate, times(3)).execute(startsWith("CREATE TABLE IF NOT EXISTS audit_logs_y"));
+    }
+
+    @Test
+    void createUpcomingPartitions_SkipsExistingPartitions() {
+        // Arrange
+        YearMonth current = YearMonth.now();
+        stubPartitioned(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "audit_logs_default", "audit_logs_y" + current.format(DateTimeFormatter.ofPattern("yyyy'm'MM"))));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class), any(), any())).thenReturn(false);
+
+        // Act
+        partitionManager.createUpcomingPartitions();
+
+        // Assert
+        verify(jdbcTemplate, times(2)).execute(startsWith("CREATE TABLE IF NOT EXISTS audit_logs_y"));
+    }
+
+    @Test
+    void createUpcomingPartitions_WhenTableNotPartitioned_DoesNothing() {
+        // Arrange
+        stubPartitioned(false);
+
+        // Act
+        partitionManager.createUpcomingPartitions();
+
+        // Assert
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void createUpcomingPartitions_WhenDisabled_DoesNothing() {
+        // Arrange
+        ReflectionTestUtils.setField(partitionManager, "enabled", false);
+
+        // Act
+        partitionManager.createUpcomingPartitions();
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void dropPartitionsBefore_DropsOnlyFullyExpiredMonths() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "audit_logs_y2025m01", "audit_logs_y2025m02", "audit_logs_y2025m03", "audit_logs_default"));
+
+        // Act
+        int dropped = partitionManager.dropPartitionsBefore(LocalDateTime.of(2025, 3, 1, 0, 0));
+
+        // Assert
+        assertThat(dropped).isEqualTo(2);
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS audit_logs_y2025m01");
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS audit_logs_y2025m02");
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS audit_logs_y2025m03");
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS audit_logs_default");
+        verify(jdbcTemplate).update(startsWith("DELETE FROM audit_logs_default"), any(Object[].class));
+    }
+
+    @Test
+    void dropPartitionsBefore_WithoutDefaultPartition_SkipsStrayRowCleanup() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("audit_logs_y2025m01"));
+
+        // Act
+        int dropped = partitionManager.dropPartitionsBefore(LocalDateTime.of(2025, 3, 1, 0, 0));
+
+        // Assert
+        assertThat(dropped).isEqualTo(1);
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM audit_logs_default"), any(Object[].class));
+    }
+
+    private void stubPartitioned(boolean partitioned) {
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Integer.class))).thenReturn(partitioned ? 1 : 0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.finance.admin.auth.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for AdminPrincipalCache verified-principal caching
+ */
+class AdminPrincipalCacheTest {
+
+    private AdminPrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new AdminPrincipalCache();
+    }
+
+    @Test
+    void get_ReturnsPrincipalCachedForToken() {
+        // Arrange
+        AdminUserPrincipal principal = principal(UUID.randomUUID());
+        principalCache.put("token-1", principal, LocalDateTime.now().plusHours(1));
+
+        // Act & Assert
+        assertThat(principalCache.get("token-1")).isSameAs(principal);
+        assertThat(principalCache.get("token-2")).isNull();
+    }
+
+    @Test
+    void get_AfterTokenExpiry_ReturnsNull() {
+        // Arrange
+        principalCache.put("token-1", principal(UUID.randomUUID()), LocalDateTime.now().minusSeconds(1));
+
+        // Act & Assert
+        assertThat(principalCache.get("token-1")).isNull();
+    }
+
+    @Test
+    void evictUser_DropsAllTokensOfThatUser() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        LocalDateTime expiration = LocalDateTime.now().plusHours(1);
+        principalCache.put("token-1", principal(userId), expiration);
+        principalCache.put("token-2", principal(userId), expiration);
+        principalCache.put("token-3", principal(otherUserId), expiration);
+
+        // Act
+        principalCache.evictUser(userId);
+
+        // Assert
+        assertThat(principalCache.get("token-1")).isNull();
+        assertThat(principalCache.get("token-2")).isNull();
+        assertThat(principalCache.get("token-3")).isNotNull();
+    }
+
+    @Test
+    void evict_DropsSingleToken() {
+        // Arrange
+        principalCache.put("token-1", principal(UUID.randomUUID()), LocalDateTime.now().plusHours(1));
+
+        // Act
+        principalCache.evict("token-1");
+
+        // Assert
+        assertThat(principalCache.get("token-1")).isNull();
+    }
+
+    private AdminUserPrincipal principal(UUID userId) {
+        return new AdminUserPrincipal(userId, "admin", "admin@example.com", "hash", true, true, true, true,
+                Collections.emptyList(), Collections.emptySet(), 30, false, null, 0);
+    }
+}
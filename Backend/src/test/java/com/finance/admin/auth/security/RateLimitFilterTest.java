@@ -0,0 +1,117 @@
+package com.finance.admin.auth.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for RateLimitFilter responses and caller keys
+ */
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private RateLimiter rateLimiter;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName("downloads");
+        policy.setPaths(List.of("/api/client/documents/*/download"));
+        policy.setLimit(1);
+        policy.setPeriod(Duration.ofMinutes(1));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(policy));
+        rateLimiter = new RateLimiter(properties, redisTemplate);
+        filter = new RateLimitFilter(rateLimiter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_AddsQuotaHeadersAndRejectsWith429() throws Exception {
+        // Act
+        MockHttpServletResponse first = execute(request("/api/client/documents/5/download"));
+        MockHttpServletResponse second = execute(request("/api/client/documents/6/download"));
+
+        // Assert
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader("X-RateLimit-Limit")).isEqualTo("1");
+        assertThat(first.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isNotNull();
+        assertThat(second.getContentAsString()).contains("Too many requests");
+    }
+
+    @Test
+    void doFilter_AuthenticatedClientsHaveSeparateQuotaFromTheirAddress() throws Exception {
+        // Arrange
+        execute(request("/api/client/documents/5/download"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("42", null, List.of()));
+
+        // Act
+        MockHttpServletResponse response = execute(request("/api/client/documents/5/download"));
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilter_AnonymousCallersCannotEvadeLimitWithForwardedFor() throws Exception {
+        // Arrange
+        MockHttpServletRequest first = request("/api/client/documents/5/download");
+        first.addHeader("X-Forwarded-For", "198.51.100.1");
+        MockHttpServletRequest second = request("/api/client/documents/5/download");
+        second.addHeader("X-Forwarded-For", "198.51.100.2");
+        execute(first);
+
+        // Act
+        MockHttpServletResponse response = execute(second);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void doFilter_UnmatchedPathIsNotLimited() throws Exception {
+        // Act
+        MockHttpServletResponse response = execute(request("/api/client/documents"));
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("X-RateLimit-Limit")).isNull();
+    }
+
+    private MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr("203.0.113.7");
+        return request;
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,135 @@
+package com.finance.admin.auth.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RateLimiter policy matching and quota tiers
+ */
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private RateLimitProperties properties;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setPolicies(List.of(
+                policy("login", List.of("POST"), "/api/auth/login", 2),
+                policy("default", List.of(), "/api/**", 100)));
+        rateLimiter = new RateLimiter(properties, redisTemplate);
+    }
+
+    @Test
+    void findPolicy_FirstMatchingPolicyWins() {
+        // Act & Assert
+        assertThat(rateLimiter.findPolicy("POST", "/api/auth/login").getName()).isEqualTo("login");
+        assertThat(rateLimiter.findPolicy("GET", "/api/auth/login").getName()).isEqualTo("default");
+        assertThat(rateLimiter.findPolicy("GET", "/actuator/health")).isNull();
+
+        properties.setEnabled(false);
+        assertThat(rateLimiter.findPolicy("POST", "/api/auth/login")).isNull();
+    }
+
+    @Test
+    void tryConsume_LocalBucketRejectsOnceQuotaIsUsedPerCaller() {
+        // Arrange
+        RateLimitProperties.Policy login = rateLimiter.findPolicy("POST", "/api/auth/login");
+
+        // Act
+        RateLimiter.Decision first = rateLimiter.tryConsume(login, "ip:203.0.113.7");
+        RateLimiter.Decision second = rateLimiter.tryConsume(login, "ip:203.0.113.7");
+        RateLimiter.Decision third = rateLimiter.tryConsume(login, "ip:203.0.113.7");
+        RateLimiter.Decision otherCaller = rateLimiter.tryConsume(login, "ip:198.51.100.1");
+
+        // Assert
+        assertThat(first.isAllowed()).isTrue();
+        assertThat(first.getRemaining()).isEqualTo(1);
+        assertThat(second.getRemaining()).isZero();
+        assertThat(third.isAllowed()).isFalse();
+        assertThat(third.getRetryAfterSeconds()).isBetween(1L, 30L);
+        assertThat(otherCaller.isAllowed()).isTrue();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void tryConsume_SharedTierRejectsWhenNodesTogetherExceedLimit() {
+        // Arrange
+        properties.setShared(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(startsWith("rate_limit:login:client:42:"))).thenReturn(1L, 3L);
+        RateLimitProperties.Policy login = rateLimiter.findPolicy("POST", "/api/auth/login");
+
+        // Act
+        RateLimiter.Decision first = rateLimiter.tryConsume(login, "client:42");
+        RateLimiter.Decision second = rateLimiter.tryConsume(login, "client:42");
+
+        // Assert
+        assertThat(first.isAllowed()).isTrue();
+        assertThat(first.getRemaining()).isEqualTo(1);
+        assertThat(second.isAllowed()).isFalse();
+        assertThat(second.getRetryAfterSeconds()).isPositive();
+        verify(redisTemplate).expire(startsWith("rate_limit:login:client:42:"), anyLong(), any());
+    }
+
+    @Test
+    void tryConsume_SharedTierUnavailableFallsBackToLocalBucket() {
+        // Arrange
+        properties.setShared(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        RateLimitProperties.Policy login = rateLimiter.findPolicy("POST", "/api/auth/login");
+
+        // Act
+        RateLimiter.Decision decision = rateLimiter.tryConsume(login, "client:42");
+
+        // Assert
+        assertThat(decision.isAllowed()).isTrue();
+        assertThat(decision.getRemaining()).isEqualTo(1);
+    }
+
+    @Test
+    void purgeIdleBuckets_DropsOnlyFullBuckets() {
+        // Arrange
+        RateLimitProperties.Policy login = rateLimiter.findPolicy("POST", "/api/auth/login");
+        rateLimiter.tryConsume(login, "ip:203.0.113.7");
+        rateLimiter.tryConsume(login, "ip:198.51.100.1");
+        rateLimiter.tryConsume(login, "ip:198.51.100.1");
+
+        // Act
+        rateLimiter.purgeIdleBuckets();
+
+        // Assert
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(2);
+    }
+
+    private RateLimitProperties.Policy policy(String name, List<String> methods, String path, long limit) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName(name);
+        policy.setMethods(methods);
+        policy.setPaths(List.of(path));
+        policy.setLimit(limit);
+        policy.setPeriod(Duration.ofMinutes(1));
+        return policy;
+    }
+}
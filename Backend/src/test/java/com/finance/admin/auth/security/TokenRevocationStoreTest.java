@@ -0,0 +1,147 @@
+package com.finance.admin.auth.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenRevocationStore shared token revocation
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationStoreTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private TokenRevocationStore revocationStore;
+
+    @BeforeEach
+    void setUp() {
+        revocationStore = new TokenRevocationStore(redisTemplate);
+    }
+
+    @Test
+    void revoke_StoresHashWithRemainingLifetimeAndPublishes() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Instant expiresAt = Instant.now().plusSeconds(600);
+
+        // Act
+        revocationStore.revoke(TOKEN, expiresAt);
+
+        // Assert
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Long> ttl = ArgumentCaptor.forClass(Long.class);
+        verify(valueOperations).set(key.capture(), eq(expiresAt.toEpochMilli()), ttl.capture(), eq(TimeUnit.MILLISECONDS));
+        assertThat(key.getValue()).startsWith("revoked_token:").doesNotContain(TOKEN);
+        assertThat(ttl.getValue()).isBetween(1L, 600_000L);
+        verify(redisTemplate).convertAndSend(eq(TokenRevocationStore.CHANNEL), anyString());
+
+        // Known locally, so no Redis lookup is needed
+        assertThat(revocationStore.isRevoked(TOKEN)).isTrue();
+        verify(redisTemplate, never()).getExpire(anyString(), any(TimeUnit.class));
+    }
+
+    @Test
+    void revoke_WhenAlreadyExpired_StoresNothing() {
+        // Act
+        revocationStore.revoke(TOKEN, Instant.now().minusSeconds(1));
+
+        // Assert
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void isRevoked_CachesNegativeAnswer() {
+        // Arrange
+        when(redisTemplate.getExpire(anyString(), eq(TimeUnit.MILLISECONDS))).thenReturn(-2L);
+
+        // Act
+        boolean first = revocationStore.isRevoked(TOKEN);
+        boolean second = revocationStore.isRevoked(TOKEN);
+
+        // Assert
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(redisTemplate, times(1)).getExpire(startsWith("revoked_token:"), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void isRevoked_RevokedOnAnotherNode_ReturnsTrue() {
+        // Arrange
+        when(redisTemplate.getExpire(anyString(), eq(TimeUnit.MILLISECONDS))).thenReturn(120_000L);
+
+        // Act & Assert
+        assertThat(revocationStore.isRevoked(TOKEN)).isTrue();
+        assertThat(revocationStore.isRevoked(TOKEN)).isTrue();
+        verify(redisTemplate, times(1)).getExpire(anyString(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void onRevocationMessage_OverridesCachedNegativeAnswer() {
+        // Arrange - this node has just seen the token as valid
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        when(redisTemplate.getExpire(key.capture(), eq(TimeUnit.MILLISECONDS))).thenReturn(-2L);
+        assertThat(revocationStore.isRevoked(TOKEN)).isFalse();
+        String hash = key.getAllValues().get(0).substring("revoked_token:".length());
+
+        // Act - another node revokes it
+        revocationStore.onRevocationMessage(hash + ":" + Instant.now().plusSeconds(600).toEpochMilli());
+
+        // Assert
+        assertThat(revocationStore.isRevoked(TOKEN)).isTrue();
+        verify(redisTemplate, times(1)).getExpire(startsWith("revoked_token:"), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void isRevoked_LegacyBlacklistedKey_ReturnsTrue() {
+        // Arrange
+        when(redisTemplate.getExpire(startsWith("revoked_token:"), eq(TimeUnit.MILLISECONDS))).thenReturn(-2L);
+        when(redisTemplate.getExpire("blacklisted_token:" + TOKEN, TimeUnit.MILLISECONDS)).thenReturn(120_000L);
+
+        // Act & Assert
+        assertThat(revocationStore.isRevoked(TOKEN)).isTrue();
+        assertThat(revocationStore.isRevoked(TOKEN)).isTrue();
+        verify(redisTemplate, times(2)).getExpire(anyString(), eq(TimeUnit.MILLISECONDS));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    void isRevoked_AfterLegacyWindow_IgnoresLegacyKey() {
+        // Arrange
+        ReflectionTestUtils.setField(revocationStore, "legacyKeyCheckMs", 0L);
+        when(redisTemplate.getExpire(startsWith("revoked_token:"), eq(TimeUnit.MILLISECONDS))).thenReturn(-2L);
+
+        // Act & Assert
+        assertThat(revocationStore.isRevoked(TOKEN)).isFalse();
+        verify(redisTemplate, never()).getExpire(startsWith("blacklisted_token:"), any(TimeUnit.class));
+    }
+
+    @Test
+    void isRevoked_WhenRedisUnavailable_ReturnsFalse() {
+        // Arrange
+        when(redisTemplate.getExpire(anyString(), eq(TimeUnit.MILLISECONDS)))
+                .thenThrow(new RuntimeException("connection refused"));
+
+        // Act & Assert
+        assertThat(revocationStore.isRevoked(TOKEN)).isFalse();
+    }
+}
@@ -1,6 +1,7 @@
 package com.finance.admin.certificate.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.admin.certificate.dto.CertificateBatchJobResponse;
 import com.finance.admin.certificate.dto.CertificateResponse;
 import com.finance.admin.certificate.dto.CreateCertificateRequest;
 import com.finance.admin.certificate.model.Certificate;
@@ -473,6 +474,49 @@ public class CertificateControllerTest extends BaseUnitTest {
         verify(certificateService).generateBatchCertificates(emptyList);
     }
 
+    @Test
+    @DisplayName("Should start batch generation in the background when async")
+    void testGenerateBatchCertificates_Async() throws Exception {
+        List<Long> certificateIds = Arrays.asList(1L, 2L);
+        CertificateBatchJobResponse job = CertificateBatchJobResponse.builder()
+                .jobId("job-1")
+                .status(CertificateBatchJobResponse.JobStatus.RUNNING)
+                .total(2)
+                .build();
+
+        when(certificateService.startBatchGeneration(certificateIds)).thenReturn(job);
+
+        mockMvc.perform(post("/api/admin/certificates/batch-generate")
+                .param("async", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(certificateIds)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+
+        verify(certificateService).startBatchGeneration(certificateIds);
+        verify(certificateService, never()).generateBatchCertificates(any());
+    }
+
+    @Test
+    @DisplayName("Should return batch generation job progress")
+    void testGetBatchGenerationJob_Success() throws Exception {
+        CertificateBatchJobResponse job = CertificateBatchJobResponse.builder()
+                .jobId("job-1")
+                .status(CertificateBatchJobResponse.JobStatus.COMPLETED)
+                .total(2)
+                .completed(2)
+                .succeeded(2)
+                .build();
+
+        when(certificateService.getBatchGenerationJob("job-1")).thenReturn(job);
+
+        mockMvc.perform(get("/api/admin/certificates/batch-generate/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(2))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
     // =========================== UPDATE STATUS TESTS ===========================
 
     @Test
@@ -0,0 +1,181 @@
+package com.finance.admin.certificate.service;
+
+import com.finance.admin.auth.security.AdminUserPrincipal;
+import com.finance.admin.certificate.dto.CertificateBatchJobResponse;
+import com.finance.admin.certificate.model.Certificate;
+import com.finance.admin.certificate.repository.CertificateRepository;
+import com.finance.admin.certificate.repository.CertificateTemplateRepository;
+import com.finance.admin.client.model.Client;
+import com.finance.admin.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CertificateBatchService pipelined generation
+ */
+@ExtendWith(MockitoExtension.class)
+class CertificateBatchServiceTest {
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    @Mock
+    private CertificateTemplateRepository templateRepository;
+
+    @Mock
+    private PdfGenerationService pdfGenerationService;
+
+    @Mock
+    private CertificateEmailService certificateEmailService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CertificateBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new CertificateBatchService(certificateRepository, templateRepository,
+                pdfGenerationService, certificateEmailService, transactionManager);
+        ReflectionTestUtils.setField(batchService, "loadChunkSize", 2);
+        batchService.start();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(templateRepository.findByTemplateTypeAndIsDefaultTrue(any())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void generateAndWait_RecordsSuccessesAndFailuresPerCertificate() throws Exception {
+        // Arrange
+        UUID adminId = UUID.randomUUID();
+        AdminUserPrincipal admin = mock(AdminUserPrincipal.class);
+        when(admin.getId()).thenReturn(adminId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(admin, null, Collections.emptyList()));
+        Certificate first = certificate(1L, "SHR-202501-0001");
+        Certificate second = certificate(2L, "SHR-202501-0002");
+        when(certificateRepository.findWithDetailsByIdIn(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(certificateRepository.findWithDetailsByIdIn(List.of(3L))).thenReturn(Collections.emptyList());
+        when(pdfGenerationService.renderCertificatePdf(any(), any())).thenReturn(new byte[]{1, 2, 3});
+        when(pdfGenerationService.signAndUpload(first, new byte[]{1, 2, 3})).thenReturn(
+                PdfGenerationService.CertificateGenerationResult.builder()
+                        .success(true).filePath("local://first.pdf").fileSize(3L).fileHash("hash").digitalSignature("sig").build());
+        when(pdfGenerationService.signAndUpload(second, new byte[]{1, 2, 3})).thenReturn(
+                PdfGenerationService.CertificateGenerationResult.builder()
+                        .success(false).errorMessage("Failed to generate PDF: upload failed").build());
+
+        // Act
+        CertificateBatchJobResponse job = batchService.generateAndWait(List.of(1L, 2L, 3L, 1L));
+
+        // Assert
+        assertThat(job.getStatus()).isEqualTo(CertificateBatchJobResponse.JobStatus.COMPLETED);
+        assertThat(job.getTotal()).isEqualTo(3);
+        assertThat(job.getCompleted()).isEqualTo(3);
+        assertThat(job.getGenerated()).containsExactly(entry(1L, "SHR-202501-0001"));
+        assertThat(job.getFailures()).containsOnlyKeys(2L, 3L);
+        assertThat(job.getFailures().get(3L)).contains("not found");
+        verify(certificateRepository).markGenerated(eq(1L), eq("local://first.pdf"), eq(3L), eq("hash"), eq("sig"), any(), eq(adminId));
+        verify(certificateRepository, never()).markGenerated(eq(2L), any(), any(), any(), any(), any(), any());
+        verify(certificateEmailService).sendCertificateGeneratedNotification(first);
+    }
+
+    @Test
+    void generateAndWait_RenderFailureIsReportedAgainstCertificate() throws Exception {
+        // Arrange
+        Certificate certificate = certificate(1L, "SHR-202501-0001");
+        when(certificateRepository.findWithDetailsByIdIn(List.of(1L))).thenReturn(List.of(certificate));
+        when(pdfGenerationService.renderCertificatePdf(any(), any())).thenThrow(new java.io.IOException("font missing"));
+
+        // Act
+        CertificateBatchJobResponse job = batchService.generateAndWait(List.of(1L));
+
+        // Assert
+        assertThat(job.getFailures()).containsExactly(entry(1L, "font missing"));
+        verify(pdfGenerationService, never()).signAndUpload(any(), any());
+    }
+
+    @Test
+    void startBatch_EmptyBatchCompletesAndCanBePolled() {
+        // Act
+        CertificateBatchJobResponse started = batchService.startBatch(List.of());
+        CertificateBatchJobResponse polled = batchService.getJob(started.getJobId());
+
+        // Assert
+        assertThat(polled.getStatus()).isEqualTo(CertificateBatchJobResponse.JobStatus.COMPLETED);
+        assertThat(polled.getTotal()).isZero();
+        assertThatThrownBy(() -> batchService.getJob("unknown"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void generateAndWait_CertificatesRejectedByRenderPoolAreFailed() {
+        // Arrange
+        ((ExecutorService) ReflectionTestUtils.getField(batchService, "renderPool")).shutdownNow();
+        when(certificateRepository.findWithDetailsByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(certificate(1L, "SHR-202501-0001"), certificate(2L, "SHR-202501-0002")));
+
+        // Act
+        CertificateBatchJobResponse job = batchService.generateAndWait(List.of(1L, 2L));
+
+        // Assert
+        assertThat(job.getStatus()).isEqualTo(CertificateBatchJobResponse.JobStatus.COMPLETED);
+        assertThat(job.getFailures()).containsOnlyKeys(1L, 2L);
+        assertThat(job.getFailures().get(1L)).contains("could not be queued");
+    }
+
+    @Test
+    void generateAndWait_ReturnsRunningJobAfterWaitTimeout() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(batchService, "waitTimeoutSeconds", 1L);
+        CountDownLatch release = new CountDownLatch(1);
+        when(certificateRepository.findWithDetailsByIdIn(List.of(1L))).thenReturn(List.of(certificate(1L, "SHR-202501-0001")));
+        when(pdfGenerationService.renderCertificatePdf(any(), any())).thenAnswer(invocation -> {
+            release.await();
+            throw new IOException("stopped");
+        });
+
+        // Act
+        CertificateBatchJobResponse job = batchService.generateAndWait(List.of(1L));
+        release.countDown();
+
+        // Assert
+        assertThat(job.getStatus()).isEqualTo(CertificateBatchJobResponse.JobStatus.RUNNING);
+    }
+
+    private Certificate certificate(Long id, String certificateNumber) {
+        Client client = new Client();
+        client.setId(10L);
+        return Certificate.builder()
+                .id(id)
+                .certificateNumber(certificateNumber)
+                .certificateType(Certificate.CertificateType.SHARE_CERTIFICATE)
+                .client(client)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.finance.admin.certificate.service;
+
+import com.finance.admin.certificate.model.Certificate;
+import com.finance.admin.certificate.model.CertificateTemplate;
+import com.finance.admin.client.model.Client;
+import com.finance.admin.investment.model.Investment;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CertificateTemplateCache compiled layouts
+ */
+class CertificateTemplateCacheTest {
+
+    private CertificateTemplateCache templateCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        templateCache = new CertificateTemplateCache();
+    }
+
+    @Test
+    void get_CompilesEachTemplateVersionOnce() throws Exception {
+        // Arrange
+        CertificateTemplate template = template(1L, 1);
+
+        // Act
+        CompiledCertificateTemplate first = templateCache.get(template);
+        CompiledCertificateTemplate second = templateCache.get(template(1L, 1));
+        CompiledCertificateTemplate updated = templateCache.get(template(1L, 2));
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(updated).isNotSameAs(first);
+        assertThat(templateCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void render_FillsVariableFieldsIntoSkeleton() throws Exception {
+        // Arrange
+        CompiledCertificateTemplate layout = templateCache.get(template(1L, 1));
+
+        // Act
+        byte[] pdf = layout.render(certificate("SHR-202501-0001", "Jane"), LocalDateTime.of(2025, 1, 15, 10, 30));
+        byte[] other = layout.render(certificate("SHR-202501-0002", "John"), LocalDateTime.of(2025, 1, 15, 10, 30));
+
+        // Assert
+        String text = extractText(pdf);
+        assertThat(text).contains("E-SHARE CERTIFICATE", "Certificate Number: SHR-202501-0001", "Jane Citizen",
+                "Growth Fund", "$1500.00", "Generated on: 15 January 2025 at 10:30", "Digitally Signed");
+        assertThat(extractText(other)).contains("SHR-202501-0002", "John Citizen").doesNotContain("Jane");
+    }
+
+    @Test
+    void render_LongFieldValueIsShrunkToFitItsRow() throws Exception {
+        // Arrange
+        CompiledCertificateTemplate layout = templateCache.get(template(1L, 1));
+        Certificate certificate = certificate("SHR-202501-0003", "Jane");
+        certificate.getClient().setEmailPrimary("a.very.long.mailbox.name.for.testing@an-unusually-long-domain.example.com");
+        certificate.getInvestment().setInvestmentName("Fund " + "Z".repeat(200));
+
+        // Act
+        String text = extractText(layout.render(certificate, LocalDateTime.of(2025, 1, 15, 10, 30)));
+
+        // Assert
+        assertThat(text).contains("a.very.long.mailbox.name.for.testing@an-unusually-long-domain.example.com",
+                "Fund ZZZ", "...");
+    }
+
+    @Test
+    void render_StatementTooLongForItsArea_Fails() throws Exception {
+        // Arrange
+        CompiledCertificateTemplate layout = templateCache.get(template(1L, 1));
+        Certificate certificate = certificate("SHR-202501-0004", "Jane");
+        certificate.getInvestment().setInvestmentName("Growth Fund ".repeat(100));
+
+        // Act & Assert
+        assertThatThrownBy(() -> layout.render(certificate, LocalDateTime.of(2025, 1, 15, 10, 30)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SHR-202501-0004");
+    }
+
+    @Test
+    void get_NullTemplateUsesDefaultLayout() throws Exception {
+        // Act
+        CompiledCertificateTemplate layout = templateCache.get(null);
+
+        // Assert
+        assertThat(layout.getKey()).isEqualTo("default");
+        assertThat(templateCache.get(null)).isSameAs(layout);
+    }
+
+    private String extractText(byte[] pdf) throws Exception {
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            return PdfTextExtractor.getTextFromPage(document.getFirstPage());
+        }
+    }
+
+    private CertificateTemplate template(Long id, int version) {
+        return CertificateTemplate.builder()
+                .id(id)
+                .templateName("Share certificate")
+                .templateType(CertificateTemplate.TemplateType.SHARE_CERTIFICATE)
+                .version(version)
+                .companyLogoPath("missing-logo.png")
+                .build();
+    }
+
+    private Certificate certificate(String certificateNumber, String firstName) {
+        Client client = new Client();
+        client.setFirstName(firstName);
+        client.setLastName("Citizen");
+        client.setMembershipNumber("M-1001");
+        client.setEmailPrimary("client@example.com");
+        Investment investment = new Investment();
+        investment.setInvestmentName("Growth Fund");
+        investment.setInvestmentType(Investment.InvestmentType.values()[0]);
+        return Certificate.builder()
+                .certificateNumber(certificateNumber)
+                .certificateType(Certificate.CertificateType.SHARE_CERTIFICATE)
+                .issueDate(LocalDate.of(2025, 1, 15))
+                .expiryDate(LocalDate.of(2026, 1, 15))
+                .client(client)
+                .investment(investment)
+                .investmentAmount(new BigDecimal("1500.00"))
+                .numberOfShares(new BigDecimal("150"))
+                .sharePrice(new BigDecimal("10.00"))
+                .build();
+    }
+}
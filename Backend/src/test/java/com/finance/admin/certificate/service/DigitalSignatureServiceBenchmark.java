@@ -0,0 +1,70 @@
+package com.finance.admin.certificate.service;
+
+import com.finance.admin.config.DigitalSignatureConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of certificate sign and verify throughput. Not run by the test suite; start it
+ * from the IDE or with the test classpath via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DigitalSignatureServiceBenchmark {
+
+    @Param({"16384", "262144"})
+    private int documentSize;
+
+    private DigitalSignatureService service;
+    private byte[] document;
+    private String signature;
+
+    @Setup
+    public void setUp() throws Exception {
+        DigitalSignatureConfig signatureConfig = new DigitalSignatureConfig();
+        ReflectionTestUtils.setField(signatureConfig, "keystorePath", "classpath:certificates/keystore.p12");
+        ReflectionTestUtils.setField(signatureConfig, "keystorePassword", SigningKeyStores.PASSWORD);
+        ReflectionTestUtils.setField(signatureConfig, "keyAlias", SigningKeyStores.ALIAS);
+
+        service = new DigitalSignatureService(signatureConfig, SigningKeyStores.create("Benchmark Signer"));
+        ReflectionTestUtils.setField(service, "digitalSignatureEnabled", true);
+
+        document = new byte[documentSize];
+        new java.util.Random(42).nextBytes(document);
+        signature = service.signDocument(document, "SHR-202501-0001");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String sign() {
+        return service.signDocument(document, "SHR-202501-0001");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String signConcurrently() {
+        return service.signDocument(document, "SHR-202501-0001");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean verify() {
+        return service.verifySignature(document, "SHR-202501-0001", signature);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(DigitalSignatureServiceBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
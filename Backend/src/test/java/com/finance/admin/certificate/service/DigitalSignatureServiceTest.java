@@ -0,0 +1,97 @@
+package com.finance.admin.certificate.service;
+
+import com.finance.admin.config.DigitalSignatureConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyStore;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DigitalSignatureService key caching
+ */
+class DigitalSignatureServiceTest {
+
+    private static final byte[] CONTENT = "certificate pdf".getBytes();
+
+    @TempDir
+    Path tempDir;
+
+    private DigitalSignatureConfig signatureConfig;
+
+    @BeforeEach
+    void setUp() {
+        signatureConfig = new DigitalSignatureConfig();
+        ReflectionTestUtils.setField(signatureConfig, "keystorePassword", SigningKeyStores.PASSWORD);
+        ReflectionTestUtils.setField(signatureConfig, "keyAlias", SigningKeyStores.ALIAS);
+        ReflectionTestUtils.setField(signatureConfig, "keystorePath", "classpath:certificates/keystore.p12");
+    }
+
+    @Test
+    void signDocument_ReadsKeyFromKeystoreOnce() throws Exception {
+        // Arrange
+        KeyStore keyStore = spy(SigningKeyStores.create("Signing Test"));
+        DigitalSignatureService service = service(keyStore);
+
+        // Act
+        String first = service.signDocument(CONTENT, "SHR-202501-0001");
+        String second = service.signDocument(CONTENT, "SHR-202501-0002");
+
+        // Assert
+        assertThat(first).doesNotStartWith("MOCK_SIG_");
+        assertThat(Base64.getDecoder().decode(second)).hasSize(256);
+        assertThat(service.isConfigured()).isTrue();
+        verify(keyStore, times(1)).getKey(eq(SigningKeyStores.ALIAS), any());
+    }
+
+    @Test
+    void signDocument_WithoutKeyFallsBackToMockSignature() throws Exception {
+        // Arrange
+        KeyStore empty = KeyStore.getInstance("PKCS12");
+        empty.load(null, SigningKeyStores.PASSWORD.toCharArray());
+        DigitalSignatureService service = service(empty);
+
+        // Act
+        String signature = service.signDocument(CONTENT, "SHR-202501-0001");
+
+        // Assert
+        assertThat(signature).startsWith("MOCK_SIG_");
+        assertThat(service.isConfigured()).isFalse();
+    }
+
+    @Test
+    void signDocument_ReloadsKeyAfterKeystoreFileChanges() throws Exception {
+        // Arrange
+        Path keystoreFile = tempDir.resolve("keystore.p12");
+        KeyStore original = SigningKeyStores.create("Original Signer");
+        SigningKeyStores.write(original, keystoreFile);
+        ReflectionTestUtils.setField(signatureConfig, "keystorePath", keystoreFile.toString());
+        DigitalSignatureService service = service(original);
+        ReflectionTestUtils.setField(service, "keyCheckIntervalMs", 0L);
+        service.signDocument(CONTENT, "SHR-202501-0001");
+        assertThat(service.getCertificateInfo()).contains("CN=Original Signer");
+
+        // Act
+        SigningKeyStores.write(SigningKeyStores.create("Rotated Signer"), keystoreFile);
+        Files.setLastModifiedTime(keystoreFile, FileTime.fromMillis(System.currentTimeMillis() + 60000));
+        String signature = service.signDocument(CONTENT, "SHR-202501-0002");
+
+        // Assert
+        assertThat(signature).doesNotStartWith("MOCK_SIG_");
+        assertThat(service.getCertificateInfo()).contains("CN=Rotated Signer");
+    }
+
+    private DigitalSignatureService service(KeyStore keyStore) {
+        DigitalSignatureService service = new DigitalSignatureService(signatureConfig, keyStore);
+        ReflectionTestUtils.setField(service, "digitalSignatureEnabled", true);
+        return service;
+    }
+}
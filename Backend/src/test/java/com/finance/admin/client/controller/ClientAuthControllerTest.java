@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDateTime;
@@ -113,7 +114,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(loginRequest))
-                .header("X-Forwarded-For", "192.168.1.1")
+                .with(remoteAddr("192.168.1.1"))
                 .header("User-Agent", "Test Browser"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
@@ -137,7 +138,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(loginRequest))
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isUnauthorized());
 
         verify(clientAuthService).authenticateClient(any(ClientLoginRequest.class));
@@ -169,7 +170,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(loginRequest))
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isLocked());
 
         verify(clientAuthService).authenticateClient(any(ClientLoginRequest.class));
@@ -196,7 +197,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(rememberMeRequest))
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.rememberMeToken").value("remember-me-token-123"));
@@ -216,7 +217,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         // When & Then
         mockMvc.perform(post("/api/client/auth/logout")
                 .header("Authorization", validToken)
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Logout successful"));
@@ -234,7 +235,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         // When & Then
         mockMvc.perform(post("/api/client/auth/logout")
                 .header("Authorization", "Bearer invalid-token")
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
@@ -260,7 +261,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/forgot-password")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(request))
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Password reset instructions sent to your email"));
@@ -284,7 +285,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/forgot-password")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(request))
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
@@ -312,7 +313,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/reset-password")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(request))
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Password reset successful"));
@@ -335,7 +336,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/reset-password")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(request))
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isUnauthorized());
 
         verify(clientAuthService).resetPassword(eq("invalid-token"), eq("newPassword123"), eq("192.168.1.1"));
@@ -396,7 +397,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/refresh-token")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(request))
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.accessToken").value("new-access-token"));
@@ -417,7 +418,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/refresh-token")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(request))
-                .header("X-Forwarded-For", "192.168.1.1"))
+                .with(remoteAddr("192.168.1.1")))
                 .andExpect(status().isUnauthorized());
 
         verify(clientAuthService).refreshToken(eq("invalid-refresh-token"), eq("192.168.1.1"));
@@ -474,7 +475,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         // When & Then
         mockMvc.perform(post("/api/client/auth/remember-me")
                 .header("Authorization", validToken)
-                .header("X-Forwarded-For", "192.168.1.1")
+                .with(remoteAddr("192.168.1.1"))
                 .header("User-Agent", "Test Browser"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
@@ -521,7 +522,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/login-remember-me")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(request))
-                .header("X-Forwarded-For", "192.168.1.1")
+                .with(remoteAddr("192.168.1.1"))
                 .header("User-Agent", "Test Browser"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
@@ -543,7 +544,7 @@ public class ClientAuthControllerTest extends BaseUnitTest {
         mockMvc.perform(post("/api/client/auth/login-remember-me")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(request))
-                .header("X-Forwarded-For", "192.168.1.1")
+                .with(remoteAddr("192.168.1.1"))
                 .header("User-Agent", "Test Browser"))
                 .andExpect(status().isUnauthorized());
 
@@ -648,8 +649,8 @@ public class ClientAuthControllerTest extends BaseUnitTest {
     }
 
     @Test
-    @DisplayName("Should extract IP address correctly from headers")
-    void testIPAddressExtraction_FromXForwardedFor_Success() throws Exception {
+    @DisplayName("Should use the remote address and ignore client-supplied forwarding headers")
+    void testIPAddressExtraction_IgnoresForwardingHeaders() throws Exception {
         // Given
         when(clientAuthService.authenticateClient(any(ClientLoginRequest.class)))
                 .thenReturn(successLoginResponse);
@@ -659,11 +660,19 @@ public class ClientAuthControllerTest extends BaseUnitTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(getObjectMapper().writeValueAsString(loginRequest))
                 .header("X-Forwarded-For", "203.0.113.0, 192.168.1.1")
-                .header("X-Real-IP", "203.0.113.0"))
+                .header("X-Real-IP", "203.0.113.0")
+                .with(remoteAddr("198.51.100.7")))
                 .andExpect(status().isOk());
 
-        // Verify that the IP was extracted correctly (first IP from X-Forwarded-For)
+        // Forwarded addresses are only honoured when a trusted proxy has rewritten the remote address
         verify(clientAuthService).authenticateClient(argThat(request -> 
-            "203.0.113.0".equals(request.getIpAddress())));
+            "198.51.100.7".equals(request.getIpAddress())));
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
     }
 } 
\ No newline at end of file
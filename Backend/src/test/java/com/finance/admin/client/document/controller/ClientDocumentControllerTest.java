@@ -12,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -246,9 +248,9 @@ class ClientDocumentControllerTest {
         headers.setContentDispositionFormData("attachment", "test-document.pdf");
         headers.setContentLength(fileContent.length);
         
-        ResponseEntity<byte[]> responseEntity = ResponseEntity.ok()
+        ResponseEntity<Resource> responseEntity = ResponseEntity.ok()
                 .headers(headers)
-                .body(fileContent);
+                .body(new ByteArrayResource(fileContent));
         
         when(jwtUtils.getClientIdFromRequest(any(HttpServletRequest.class))).thenReturn(clientId);
         when(documentService.downloadDocument(clientId, documentId)).thenReturn(responseEntity);
@@ -264,6 +266,59 @@ class ClientDocumentControllerTest {
         verify(documentService).downloadDocument(clientId, documentId);
     }
 
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    void downloadDocument_WithRangeHeader_ReturnsPartialContent() throws Exception {
+        // Arrange
+        Long clientId = 1L;
+        Long documentId = 1L;
+        byte[] fileContent = "test file content".getBytes();
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        
+        ResponseEntity<Resource> responseEntity = ResponseEntity.ok()
+                .headers(headers)
+                .body(new ByteArrayResource(fileContent));
+        
+        when(jwtUtils.getClientIdFromRequest(any(HttpServletRequest.class))).thenReturn(clientId);
+        when(documentService.downloadDocument(clientId, documentId)).thenReturn(responseEntity);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/client/documents/{documentId}/download", documentId)
+                        .header(HttpHeaders.RANGE, "bytes=5-8")
+                        .with(csrf()))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-8/17"))
+                .andExpect(content().bytes("file".getBytes()));
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    void downloadDocument_WithMatchingETag_ReturnsNotModified() throws Exception {
+        // Arrange
+        Long clientId = 1L;
+        Long documentId = 1L;
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setETag("\"1-abc-11\"");
+        
+        ResponseEntity<Resource> responseEntity = ResponseEntity.ok()
+                .headers(headers)
+                .body(new ByteArrayResource("test file content".getBytes()));
+        
+        when(jwtUtils.getClientIdFromRequest(any(HttpServletRequest.class))).thenReturn(clientId);
+        when(documentService.downloadDocument(clientId, documentId)).thenReturn(responseEntity);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/client/documents/{documentId}/download", documentId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-abc-11\"")
+                        .with(csrf()))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @WithMockUser(roles = "CLIENT")
     void getDocumentCategories_ReturnsCategories() throws Exception {
@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -220,6 +221,20 @@ class ClientDocumentRepositoryTest {
         assertThat(documents.get(0).getDocumentName()).isEqualTo("Test Document 2");
     }
 
+    @Test
+    void searchDocuments_WithPageable_ReturnsSortedPageAndTotal() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("documentName").descending());
+
+        // Act
+        Page<ClientDocument> page = documentRepository.searchDocuments(testClient1.getId(), "description", pageable);
+
+        // Assert - 3 matches in SQL data, first page of 2 in descending name order
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(ClientDocument::getDocumentName)
+                .containsExactly("Test Document 3", "Test Document 2");
+    }
+
     @Test
     void findExpiringSoon_WithDocumentsExpiringSoon_ReturnsExpiringSoonDocuments() {
         // Arrange - Look for documents expiring in the next 60 days
@@ -355,4 +370,22 @@ class ClientDocumentRepositoryTest {
         // Assert
         assertThat(totalSize).isEqualTo(0L);
     }
+
+    @Test
+    void getDocumentStatisticsRows_WithDocuments_ReturnsGroupedAggregates() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        List<Object[]> rows = documentRepository.getDocumentStatisticsRows(
+                testClient1.getId(), now, now.minusDays(30), now.plusDays(7));
+
+        // Assert - SQL has 3 active documents for client 1, each in its own category/type/status group
+        assertThat(rows).hasSize(3);
+        assertThat(rows.stream().mapToLong(row -> ((Number) row[3]).longValue()).sum()).isEqualTo(3L);
+        assertThat(rows.stream().mapToLong(row -> ((Number) row[4]).longValue()).sum()).isEqualTo(6144L);
+        assertThat(rows.stream().mapToLong(row -> ((Number) row[7]).longValue()).sum()).isEqualTo(1L);
+        assertThat(rows.stream().mapToLong(row -> ((Number) row[8]).longValue()).sum()).isEqualTo(1L);
+        assertThat(rows.stream().mapToLong(row -> ((Number) row[9]).longValue()).sum()).isEqualTo(15L);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.finance.admin.client.document.service;
+
+import com.finance.admin.client.document.repository.ClientDocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DocumentAccessTracker buffered access counting
+ */
+@ExtendWith(MockitoExtension.class)
+class DocumentAccessTrackerTest {
+
+    private static final LocalDateTime ACCESSED_AT = LocalDateTime.of(2025, 3, 14, 10, 30, 15);
+
+    @Mock
+    private ClientDocumentRepository documentRepository;
+
+    private DocumentAccessTracker accessTracker;
+
+    @BeforeEach
+    void setUp() {
+        accessTracker = new DocumentAccessTracker(documentRepository);
+    }
+
+    @Test
+    void recordAccess_AccumulatesUntilFlush() {
+        // Act
+        accessTracker.recordAccess(1L);
+        accessTracker.recordAccess(1L);
+        long pending = accessTracker.recordAccess(1L);
+
+        // Assert
+        assertThat(pending).isEqualTo(3L);
+        verifyNoInteractions(documentRepository);
+    }
+
+    @Test
+    void flush_GroupsDocumentsBySameIncrementAndAccessTime() {
+        // Arrange
+        accessTracker.recordAccess(1L, ACCESSED_AT);
+        accessTracker.recordAccess(2L, ACCESSED_AT.plusNanos(500_000));
+        accessTracker.recordAccess(3L, ACCESSED_AT);
+        accessTracker.recordAccess(3L, ACCESSED_AT);
+        accessTracker.recordAccess(4L, ACCESSED_AT.minusMinutes(5));
+
+        // Act
+        accessTracker.flush();
+
+        // Assert - each document keeps its own last access time
+        verify(documentRepository).incrementAccessCounts(
+                argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), eq(1), eq(ACCESSED_AT));
+        verify(documentRepository).incrementAccessCounts(eq(List.of(3L)), eq(2), eq(ACCESSED_AT));
+        verify(documentRepository).incrementAccessCounts(eq(List.of(4L)), eq(1), eq(ACCESSED_AT.minusMinutes(5)));
+
+        // Nothing left to flush
+        accessTracker.flush();
+        verifyNoMoreInteractions(documentRepository);
+    }
+
+    @Test
+    void flush_WhenUpdateFails_RetriesOnNextFlush() {
+        // Arrange
+        accessTracker.recordAccess(1L, ACCESSED_AT);
+        when(documentRepository.incrementAccessCounts(anyList(), anyInt(), any(LocalDateTime.class)))
+                .thenThrow(new RuntimeException("database unavailable"))
+                .thenReturn(1);
+
+        // Act
+        accessTracker.flush();
+        accessTracker.recordAccess(1L, ACCESSED_AT.minusMinutes(1));
+        accessTracker.flush();
+
+        // Assert - the failed increment and its later access time are carried into the next flush
+        verify(documentRepository).incrementAccessCounts(eq(List.of(1L)), eq(2), eq(ACCESSED_AT));
+    }
+}
@@ -0,0 +1,91 @@
+package com.finance.admin.client.investment.portfolio;
+
+import com.finance.admin.investment.model.Investment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the single-pass portfolio aggregation
+ */
+@DisplayName("Portfolio Aggregate Tests")
+class PortfolioAggregateTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2025, 6, 1);
+
+    private Investment investment(String name, Investment.InvestmentType type, Investment.RiskRating risk,
+                                  String initial, String current, Investment.InvestmentStatus status,
+                                  LocalDate maturityDate) {
+        return Investment.builder()
+            .investmentName(name)
+            .investmentType(type)
+            .riskRating(risk)
+            .initialAmount(new BigDecimal(initial))
+            .currentValue(current != null ? new BigDecimal(current) : null)
+            .status(status)
+            .purchaseDate(AS_OF.minusMonths(6))
+            .maturityDate(maturityDate)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should compute totals and breakdowns in one pass")
+    void testAggregateTotalsAndBreakdowns() {
+        PortfolioSnapshot snapshot = PortfolioSnapshot.of(1L, Arrays.asList(
+            investment("Growth Fund", Investment.InvestmentType.MANAGED_FUNDS_MUTUAL, Investment.RiskRating.MODERATE,
+                "10000", "11500", Investment.InvestmentStatus.ACTIVE, AS_OF.plusDays(20)),
+            investment("Bonds", Investment.InvestmentType.FIXED_INCOME_BONDS, Investment.RiskRating.CONSERVATIVE,
+                "5000", "4500", Investment.InvestmentStatus.ACTIVE, AS_OF.plusDays(60)),
+            investment("Pending Deal", Investment.InvestmentType.FIXED_INCOME_BONDS, Investment.RiskRating.CONSERVATIVE,
+                "2500.50", null, Investment.InvestmentStatus.PENDING, null)));
+
+        PortfolioAggregate aggregate = snapshot.aggregate(AS_OF);
+
+        assertEquals(3, aggregate.getCount());
+        assertEquals(new BigDecimal("17500.50"), aggregate.getTotalInvested());
+        // Unvalued holdings are carried at cost
+        assertEquals(new BigDecimal("18500.50"), aggregate.getTotalCurrentValue());
+        assertEquals(new BigDecimal("1000.00"), aggregate.getTotalReturns());
+        assertEquals(0, new BigDecimal("5.71").compareTo(aggregate.getReturnPercentage()));
+
+        assertEquals(2, aggregate.getStatusCount(Investment.InvestmentStatus.ACTIVE));
+        assertEquals(1, aggregate.getStatusCount(Investment.InvestmentStatus.PENDING));
+        assertEquals(2, aggregate.getRiskCount(Investment.RiskRating.CONSERVATIVE));
+        assertEquals(new BigDecimal("7500.50"), aggregate.getRiskInvested(Investment.RiskRating.CONSERVATIVE));
+        assertEquals(new BigDecimal("7000.50"), aggregate.getTypeCurrentValue(Investment.InvestmentType.FIXED_INCOME_BONDS));
+
+        assertEquals("Growth Fund", aggregate.getBestPerformerName());
+        assertEquals("Bonds", aggregate.getWorstPerformerName());
+        assertEquals(1, aggregate.getMaturingWithin30Days());
+        assertEquals(2, aggregate.getMaturingWithin90Days());
+    }
+
+    @Test
+    @DisplayName("Should reuse the aggregate for the same day")
+    void testAggregateIsMemoized() {
+        PortfolioSnapshot snapshot = PortfolioSnapshot.of(1L, Collections.singletonList(
+            investment("Growth Fund", Investment.InvestmentType.MANAGED_FUNDS_MUTUAL, Investment.RiskRating.MODERATE,
+                "10000", "11500", Investment.InvestmentStatus.ACTIVE, null)));
+
+        assertSame(snapshot.aggregate(AS_OF), snapshot.aggregate(AS_OF));
+        assertNotSame(snapshot.aggregate(AS_OF), snapshot.aggregate(AS_OF.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Should handle an empty portfolio")
+    void testEmptyPortfolio() {
+        PortfolioAggregate aggregate = PortfolioSnapshot.of(1L, Collections.emptyList()).aggregate(AS_OF);
+
+        assertEquals(0, aggregate.getCount());
+        assertEquals(0, BigDecimal.ZERO.compareTo(aggregate.getTotalInvested()));
+        assertEquals(BigDecimal.ZERO, aggregate.getReturnPercentage());
+        assertFalse(aggregate.hasPerformers());
+        assertNull(aggregate.getLatestPurchaseDate());
+    }
+}
@@ -0,0 +1,95 @@
+package com.finance.admin.client.investment.portfolio;
+
+import com.finance.admin.investment.model.Investment;
+import com.finance.admin.investment.repository.InvestmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the in-process tier of the portfolio snapshot cache
+ */
+@DisplayName("Portfolio Snapshot Cache Tests")
+class PortfolioSnapshotCacheTest {
+
+    @Mock
+    private InvestmentRepository investmentRepository;
+
+    private PortfolioSnapshotLoader loader;
+    private PortfolioSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        loader = spy(new PortfolioSnapshotLoader(investmentRepository));
+        cache = new PortfolioSnapshotCache(loader);
+
+        Investment investment = Investment.builder()
+            .investmentName("Growth Fund")
+            .investmentType(Investment.InvestmentType.MANAGED_FUNDS_ETF)
+            .initialAmount(new BigDecimal("1000"))
+            .currentValue(new BigDecimal("1100"))
+            .purchaseDate(LocalDate.now().minusMonths(1))
+            .build();
+        when(investmentRepository.findByClientId(1L)).thenReturn(Collections.singletonList(investment));
+    }
+
+    @Test
+    @DisplayName("Should serve repeat reads from memory")
+    void testRepeatReadsHitLocalTier() {
+        PortfolioSnapshot first = cache.get(1L);
+        PortfolioSnapshot second = cache.get(1L);
+
+        assertSame(first, second);
+        verify(investmentRepository, times(1)).findByClientId(1L);
+    }
+
+    @Test
+    @DisplayName("Should reload after invalidation")
+    void testInvalidateReloads() {
+        PortfolioSnapshot first = cache.get(1L);
+        cache.invalidate(1L);
+        PortfolioSnapshot second = cache.get(1L);
+
+        assertNotSame(first, second);
+        verify(loader).evict(1L);
+        verify(investmentRepository, times(2)).findByClientId(1L);
+    }
+
+    @Test
+    @DisplayName("Should not cache a snapshot loaded across an invalidation")
+    void testLoadRacingInvalidationIsNotCached() {
+        ReflectionTestUtils.setField(cache, "reEvictDelayMs", 0L);
+        doAnswer(invocation -> {
+            Object stale = invocation.callRealMethod();
+            cache.invalidate(1L);
+            return stale;
+        }).doCallRealMethod().when(loader).load(1L);
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(investmentRepository, times(2)).findByClientId(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict the shared tier again after the delay")
+    void testInvalidateRepeatsSharedEviction() {
+        ReflectionTestUtils.setField(cache, "reEvictDelayMs", 50L);
+
+        cache.invalidate(1L);
+
+        verify(loader, timeout(1000).times(2)).evict(1L);
+        cache.shutdown();
+    }
+}
@@ -1,6 +1,8 @@
 package com.finance.admin.client.investment.service;
 
 import com.finance.admin.client.investment.dto.*;
+import com.finance.admin.client.investment.portfolio.PortfolioSnapshotCache;
+import com.finance.admin.client.investment.portfolio.PortfolioSnapshotLoader;
 import com.finance.admin.client.model.Client;
 import com.finance.admin.config.BaseUnitTest;
 import com.finance.admin.investment.model.Investment;
@@ -47,7 +49,8 @@ public class ClientInvestmentServiceTest extends BaseUnitTest {
         super.setUp();
         MockitoAnnotations.openMocks(this);
         
-        clientInvestmentService = new ClientInvestmentService(investmentRepository);
+        clientInvestmentService = new ClientInvestmentService(investmentRepository,
+            new PortfolioSnapshotCache(new PortfolioSnapshotLoader(investmentRepository)));
         testClientId = 1L;
         
         setupTestData();
@@ -217,7 +220,7 @@ public class ClientInvestmentServiceTest extends BaseUnitTest {
         assertNotNull(response.getActiveInvestments());
         assertNotNull(response.getCompletedInvestments());
         assertNotNull(response.getPortfolioSummary());
-        verify(investmentRepository, times(2)).findByClientId(testClientId);
+        verify(investmentRepository, times(1)).findByClientId(testClientId);
     }
 
     @Test
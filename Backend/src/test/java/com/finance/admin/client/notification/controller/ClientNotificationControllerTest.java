@@ -19,6 +19,7 @@ import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -344,6 +345,22 @@ public class ClientNotificationControllerTest extends BaseUnitTest {
         verify(clientNotificationService).getUnreadCount(testClientId);
     }
 
+    // ================ GET /api/client/notifications/stream Tests ================
+
+    @Test
+    @DisplayName("Should open notification stream for the authenticated client")
+    void testStreamNotifications_Success() throws Exception {
+        // Given
+        when(clientNotificationService.openStream(testClientId)).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/api/client/notifications/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(clientNotificationService).openStream(testClientId);
+    }
+
     // ================ GET /api/client/notifications/statistics Tests ================
 
     @Test
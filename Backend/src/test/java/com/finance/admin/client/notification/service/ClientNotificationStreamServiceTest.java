@@ -0,0 +1,108 @@
+package com.finance.admin.client.notification.service;
+
+import com.finance.admin.client.notification.model.ClientNotification;
+import com.finance.admin.client.notification.repository.ClientNotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClientNotificationStreamService unread counters
+ */
+@ExtendWith(MockitoExtension.class)
+class ClientNotificationStreamServiceTest {
+
+    private static final Long CLIENT_ID = 7L;
+
+    @Mock
+    private ClientNotificationRepository notificationRepository;
+
+    private ClientNotificationStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new ClientNotificationStreamService(notificationRepository);
+    }
+
+    @Test
+    void subscribe_LoadsCountOnceAndTracksChangesInMemory() {
+        // Arrange
+        when(notificationRepository.countByClientIdAndIsReadFalse(CLIENT_ID)).thenReturn(4L);
+
+        // Act
+        SseEmitter emitter = streamService.subscribe(CLIENT_ID);
+        streamService.notificationCreated(ClientNotification.builder().clientId(CLIENT_ID).build());
+        streamService.notificationCreated(ClientNotification.builder().clientId(CLIENT_ID).build());
+
+        // Assert
+        assertThat(emitter).isNotNull();
+        assertThat(streamService.getConnectionCount()).isEqualTo(1);
+        assertThat(streamService.getUnreadCount(CLIENT_ID)).isEqualTo(6);
+        verify(notificationRepository, times(1)).countByClientIdAndIsReadFalse(CLIENT_ID);
+    }
+
+    @Test
+    void notificationDispatched_LeavesUnreadCountUnchanged() {
+        // Arrange
+        when(notificationRepository.countByClientIdAndIsReadFalse(CLIENT_ID)).thenReturn(4L);
+        streamService.subscribe(CLIENT_ID);
+
+        // Act
+        streamService.notificationDispatched(ClientNotification.builder().clientId(CLIENT_ID).build());
+        streamService.notificationDispatched(ClientNotification.builder().clientId(CLIENT_ID).build());
+
+        // Assert
+        assertThat(streamService.getUnreadCount(CLIENT_ID)).isEqualTo(4);
+        verify(notificationRepository, times(1)).countByClientIdAndIsReadFalse(CLIENT_ID);
+    }
+
+    @Test
+    void allNotificationsRead_ResetsCounterWithoutQuery() {
+        // Arrange
+        when(notificationRepository.countByClientIdAndIsReadFalse(CLIENT_ID)).thenReturn(3L);
+        streamService.subscribe(CLIENT_ID);
+
+        // Act
+        streamService.allNotificationsRead(CLIENT_ID, 3);
+
+        // Assert
+        assertThat(streamService.getUnreadCount(CLIENT_ID)).isZero();
+        verify(notificationRepository, times(1)).countByClientIdAndIsReadFalse(CLIENT_ID);
+    }
+
+    @Test
+    void notificationRead_ReloadsCountForConnectedClient() {
+        // Arrange
+        when(notificationRepository.countByClientIdAndIsReadFalse(CLIENT_ID)).thenReturn(3L, 2L);
+        streamService.subscribe(CLIENT_ID);
+
+        // Act
+        streamService.notificationRead(CLIENT_ID);
+
+        // Assert
+        assertThat(streamService.getUnreadCount(CLIENT_ID)).isEqualTo(2);
+        verify(notificationRepository, times(2)).countByClientIdAndIsReadFalse(CLIENT_ID);
+    }
+
+    @Test
+    void getUnreadCount_StaleCounterIsReloaded() {
+        // Arrange
+        ReflectionTestUtils.setField(streamService, "reconcileIntervalMs", 0L);
+        when(notificationRepository.countByClientIdAndIsReadFalse(CLIENT_ID)).thenReturn(1L, 5L);
+
+        // Act
+        long first = streamService.getUnreadCount(CLIENT_ID);
+        long second = streamService.getUnreadCount(CLIENT_ID);
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(5);
+    }
+}
@@ -0,0 +1,221 @@
+package com.finance.admin.client.notification.service;
+
+import com.finance.admin.client.notification.model.ClientNotification;
+import com.finance.admin.client.notification.model.ClientNotification.DeliveryMethod;
+import com.finance.admin.client.notification.model.ClientNotification.PriorityLevel;
+import com.finance.admin.client.notification.repository.ClientNotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationDeliveryEngine per-channel delivery
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliveryEngineTest {
+
+    @Mock
+    private ClientNotificationRepository notificationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TestDeliveryEngine deliveryEngine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deliveryEngine = new TestDeliveryEngine();
+        ReflectionTestUtils.setField(deliveryEngine, "retryBackoffMs", 1L);
+        ReflectionTestUtils.setField(deliveryEngine, "emailConcurrency", 1);
+        deliveryEngine.start();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        deliveryEngine.shutdown();
+    }
+
+    @Test
+    void submitAll_DeliversEveryChannelAndMarksDeliveredInOneUpdate() throws Exception {
+        // Arrange
+        ClientNotification inApp = notification(DeliveryMethod.IN_APP, PriorityLevel.NORMAL);
+        ClientNotification emailAndPush = notification(DeliveryMethod.EMAIL_AND_PUSH, PriorityLevel.NORMAL);
+
+        // Act
+        deliveryEngine.submitAll(List.of(inApp, emailAndPush));
+        awaitDelivery(inApp, emailAndPush);
+        deliveryEngine.flush();
+
+        // Assert
+        assertThat(deliveryEngine.sent.get(emailAndPush.getId())).containsExactlyInAnyOrder(DeliveryMethod.EMAIL, DeliveryMethod.PUSH);
+        assertThat(deliveryEngine.sent).doesNotContainKey(inApp.getId());
+        verify(notificationRepository).markAsDelivered(
+                argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(inApp.getId(), emailAndPush.getId()))),
+                any(LocalDateTime.class));
+        verify(notificationRepository, never()).save(any());
+        assertThat(meterRegistry.counter("client.notifications.delivered").count()).isEqualTo(2);
+    }
+
+    @Test
+    void submit_RetriesTransientFailureThenDelivers() throws Exception {
+        // Arrange
+        ClientNotification sms = notification(DeliveryMethod.SMS, PriorityLevel.HIGH);
+        deliveryEngine.failuresBeforeSuccess.set(1);
+
+        // Act
+        deliveryEngine.submit(sms);
+        awaitDelivery(sms);
+        deliveryEngine.flush();
+
+        // Assert
+        verify(notificationRepository).markAsDelivered(eq(List.of(sms.getId())), any(LocalDateTime.class));
+        verify(notificationRepository, never()).markAsFailed(any());
+        assertThat(meterRegistry.counter("client.notifications.retried").count()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_MarksFailedAfterMaxAttempts() throws Exception {
+        // Arrange
+        ClientNotification push = notification(DeliveryMethod.PUSH, PriorityLevel.NORMAL);
+        deliveryEngine.failuresBeforeSuccess.set(Integer.MAX_VALUE);
+
+        // Act
+        deliveryEngine.submit(push);
+        awaitDelivery(push);
+        deliveryEngine.flush();
+
+        // Assert
+        verify(notificationRepository).markAsFailed(List.of(push.getId()));
+        verify(notificationRepository, never()).markAsDelivered(any(), any());
+        assertThat(meterRegistry.counter("client.notifications.retried").count()).isEqualTo(2);
+    }
+
+    @Test
+    void submit_HigherPriorityOvertakesQueuedNotifications() throws Exception {
+        // Arrange
+        ClientNotification blocker = notification(DeliveryMethod.EMAIL, PriorityLevel.NORMAL);
+        ClientNotification low = notification(DeliveryMethod.EMAIL, PriorityLevel.LOW);
+        ClientNotification urgent = notification(DeliveryMethod.EMAIL, PriorityLevel.URGENT);
+        deliveryEngine.gate = new CountDownLatch(1);
+
+        // Act
+        deliveryEngine.submit(blocker);
+        deliveryEngine.submitAll(List.of(low, urgent));
+        deliveryEngine.gate.countDown();
+        awaitDelivery(blocker, low, urgent);
+
+        // Assert
+        assertThat(deliveryEngine.order).containsExactly(blocker.getId(), urgent.getId(), low.getId());
+    }
+
+    @Test
+    void flush_KeepsNotificationInFlightUntilStatusIsSaved() throws Exception {
+        // Arrange
+        ClientNotification email = notification(DeliveryMethod.EMAIL, PriorityLevel.NORMAL);
+        when(notificationRepository.markAsDelivered(anyList(), any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(1);
+        deliveryEngine.submit(email);
+        awaitDelivery(email);
+        boolean inFlightBeforeFlush = deliveryEngine.isInFlight(email.getId());
+
+        // Act
+        deliveryEngine.flush();
+        boolean inFlightAfterFailedFlush = deliveryEngine.isInFlight(email.getId());
+        deliveryEngine.flush();
+
+        // Assert
+        assertThat(inFlightBeforeFlush).isTrue();
+        assertThat(inFlightAfterFailedFlush).isTrue();
+        assertThat(deliveryEngine.isInFlight(email.getId())).isFalse();
+        verify(notificationRepository, times(2)).markAsDelivered(eq(List.of(email.getId())), any(LocalDateTime.class));
+    }
+
+    @Test
+    void flush_ReleasesNotificationAfterRepeatedStatusFailures() throws Exception {
+        // Arrange
+        ClientNotification push = notification(DeliveryMethod.PUSH, PriorityLevel.NORMAL);
+        when(notificationRepository.markAsDelivered(anyList(), any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        deliveryEngine.submit(push);
+        awaitDelivery(push);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            deliveryEngine.flush();
+        }
+
+        // Assert - left PENDING for the scheduled dispatch path after max-attempts flushes
+        assertThat(deliveryEngine.isInFlight(push.getId())).isFalse();
+        verify(notificationRepository, times(3)).markAsDelivered(anyList(), any(LocalDateTime.class));
+    }
+
+    private void awaitDelivery(ClientNotification... notifications) throws InterruptedException {
+        // Outcomes are counted when delivery completes; the notifications stay in flight until flushed
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.counter("client.notifications.delivered").count()
+                + meterRegistry.counter("client.notifications.failed").count() < notifications.length) {
+            assertThat(System.currentTimeMillis()).as("delivery timed out").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private ClientNotification notification(DeliveryMethod deliveryMethod, PriorityLevel priority) {
+        ClientNotification notification = ClientNotification.builder()
+                .clientId(1L)
+                .notificationType(ClientNotification.NotificationType.GENERAL)
+                .category(ClientNotification.NotificationCategory.ANNOUNCEMENT)
+                .title("Market update")
+                .message("Markets moved")
+                .deliveryMethod(deliveryMethod)
+                .priorityLevel(priority)
+                .build();
+        notification.setId(UUID.randomUUID());
+        return notification;
+    }
+
+    private class TestDeliveryEngine extends NotificationDeliveryEngine {
+        private final Map<UUID, List<DeliveryMethod>> sent = new ConcurrentHashMap<>();
+        private final List<UUID> order = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+        private volatile CountDownLatch gate;
+
+        private TestDeliveryEngine() {
+            super(notificationRepository, transactionManager, meterRegistry);
+        }
+
+        @Override
+        protected void send(DeliveryMethod channel, ClientNotification notification) throws Exception {
+            if (gate != null) {
+                gate.await(5, TimeUnit.SECONDS);
+            }
+            if (failuresBeforeSuccess.getAndDecrement() > 0) {
+                throw new IllegalStateException("Provider unavailable");
+            }
+            order.add(notification.getId());
+            sent.computeIfAbsent(notification.getId(), id -> new CopyOnWriteArrayList<>()).add(channel);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.finance.admin.client.notification.service;
+
+import com.finance.admin.client.notification.model.ClientNotification;
+import com.finance.admin.client.notification.repository.ClientNotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ScheduledNotificationDispatcher claim-based paging
+ */
+@ExtendWith(MockitoExtension.class)
+class ScheduledNotificationDispatcherTest {
+
+    @Mock
+    private ClientNotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationDeliveryEngine deliveryEngine;
+
+    @Mock
+    private ClientNotificationStreamService streamService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ScheduledNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new ScheduledNotificationDispatcher(notificationRepository, deliveryEngine, streamService, jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 60L);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void dispatchDue_ClaimsPagesUntilBacklogIsDrained() {
+        // Arrange
+        List<UUID> firstPage = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> secondPage = List.of(UUID.randomUUID());
+        when(jdbcTemplate.queryForList(contains("FOR UPDATE SKIP LOCKED"), eq(UUID.class), any(), any(), eq(2)))
+                .thenReturn(firstPage, secondPage);
+        when(notificationRepository.findAllById(firstPage)).thenReturn(notifications(firstPage));
+        when(notificationRepository.findAllById(secondPage)).thenReturn(notifications(secondPage));
+
+        // Act
+        int dispatched = dispatcher.dispatchDue();
+
+        // Assert
+        assertThat(dispatched).isEqualTo(3);
+        verify(jdbcTemplate, times(2)).queryForList(anyString(), eq(UUID.class), any(), any(), eq(2));
+        verify(notificationRepository).claim(eq(firstPage), eq(dispatcher.getNodeId()),
+                argThat(expiry -> expiry.isAfter(LocalDateTime.now().plusSeconds(50))));
+        verify(notificationRepository).claim(eq(secondPage), eq(dispatcher.getNodeId()), any(LocalDateTime.class));
+        verify(deliveryEngine, times(2)).submitAll(anyList());
+        verify(streamService, times(3)).notificationDispatched(any(ClientNotification.class));
+        verify(streamService, never()).notificationCreated(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void claimForImmediateDelivery_StampsThisNodesLease() {
+        // Arrange
+        ClientNotification notification = ClientNotification.builder()
+                .scheduledAt(LocalDateTime.now().plusSeconds(30))
+                .build();
+
+        // Act
+        dispatcher.claimForImmediateDelivery(notification);
+
+        // Assert
+        assertThat(notification.getClaimedBy()).isEqualTo(dispatcher.getNodeId());
+        assertThat(notification.getClaimExpiresAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+        verifyNoInteractions(jdbcTemplate, notificationRepository);
+    }
+
+    @Test
+    void dispatchDue_NothingDue_ClaimsNothing() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), any(), any(), any())).thenReturn(List.of());
+
+        // Act
+        int dispatched = dispatcher.dispatchDue();
+
+        // Assert
+        assertThat(dispatched).isZero();
+        verify(notificationRepository, never()).claim(any(), any(), any());
+        verifyNoInteractions(deliveryEngine, streamService);
+    }
+
+    @Test
+    void dispatchDue_StopsAfterMaxBatchesPerRun() {
+        // Arrange
+        ReflectionTestUtils.setField(dispatcher, "maxBatchesPerRun", 3);
+        List<UUID> fullPage = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), any(), any(), any())).thenReturn(fullPage);
+        when(notificationRepository.findAllById(fullPage)).thenReturn(notifications(fullPage));
+
+        // Act
+        int dispatched = dispatcher.dispatchDue();
+
+        // Assert
+        assertThat(dispatched).isEqualTo(6);
+        verify(notificationRepository, times(3)).claim(any(), any(), any());
+    }
+
+    private List<ClientNotification> notifications(List<UUID> ids) {
+        return ids.stream().map(id -> {
+            ClientNotification notification = ClientNotification.builder().clientId(1L).build();
+            notification.setId(id);
+            return notification;
+        }).toList();
+    }
+}
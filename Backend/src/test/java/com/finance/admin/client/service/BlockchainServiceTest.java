@@ -0,0 +1,195 @@
+package com.finance.admin.client.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for BlockchainService batched anchoring on the simulated submit path
+ */
+class BlockchainServiceTest {
+
+    private static final Long CLIENT_ID = 42L;
+    private static final String IDENTITY_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private BlockchainAnchorBatcher anchorBatcher;
+    private BlockchainService blockchainService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:test-schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        anchorBatcher = new BlockchainAnchorBatcher(jdbcTemplate, new DataSourceTransactionManager(database));
+        blockchainService = new BlockchainService(anchorBatcher);
+        ReflectionTestUtils.setField(blockchainService, "blockchainEnabled", false);
+        ReflectionTestUtils.setField(blockchainService, "batchSize", 3);
+        ReflectionTestUtils.setField(blockchainService, "maxWaitMs", 60000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void flushAnchorBatches_AnchorsOneRootPerFullBatch() {
+        // Arrange
+        for (int i = 0; i < 7; i++) {
+            blockchainService.createAuditLog("CLIENT_LOGIN", CLIENT_ID, "Client login from IP: 10.0.0." + i);
+        }
+
+        // Act
+        blockchainService.flushAnchorBatches();
+
+        // Assert
+        assertThat(count("SELECT COUNT(*) FROM blockchain_anchor_batches")).isEqualTo(2);
+        assertThat(count("SELECT COUNT(*) FROM blockchain_anchor_items WHERE status = 'ANCHORED'")).isEqualTo(6);
+        assertThat(count("SELECT COUNT(*) FROM blockchain_anchor_items WHERE status = 'PENDING'")).isEqualTo(1);
+        for (Map<String, Object> item : jdbcTemplate.queryForList(
+                "SELECT i.leaf_hash, i.inclusion_proof, b.merkle_root FROM blockchain_anchor_items i " +
+                "JOIN blockchain_anchor_batches b ON b.id = i.batch_id")) {
+            assertThat(MerkleTree.verify((String) item.get("LEAF_HASH"), (String) item.get("INCLUSION_PROOF"),
+                    (String) item.get("MERKLE_ROOT"))).isTrue();
+        }
+    }
+
+    @Test
+    void verifyIdentityHash_ChecksInclusionProofOnceAnchored() {
+        // Arrange
+        String itemId = blockchainService.anchorIdentity(CLIENT_ID, IDENTITY_HASH);
+        blockchainService.createAuditLog("CLIENT_UPDATE", CLIENT_ID, "Profile updated");
+        boolean beforeFlush = blockchainService.verifyIdentityHash(CLIENT_ID, IDENTITY_HASH);
+        ReflectionTestUtils.setField(blockchainService, "maxWaitMs", 0L);
+
+        // Act
+        blockchainService.flushAnchorBatches();
+
+        // Assert
+        assertThat(itemId).isNotBlank();
+        assertThat(beforeFlush).isFalse();
+        assertThat(blockchainService.verifyIdentityHash(CLIENT_ID, IDENTITY_HASH)).isTrue();
+        assertThat(count("SELECT COUNT(*) FROM blockchain_anchor_batches")).isEqualTo(1);
+
+        jdbcTemplate.update("UPDATE blockchain_anchor_items SET inclusion_proof = 'R:00' WHERE item_type = 'IDENTITY_ANCHOR'");
+        assertThat(blockchainService.verifyIdentityHash(CLIENT_ID, IDENTITY_HASH)).isFalse();
+    }
+
+    @Test
+    void verifyAuditLog_RecomputesLeafFromStoredData() {
+        // Arrange
+        UUID itemId = UUID.fromString(blockchainService.createAuditLog("CLIENT_LOGIN", CLIENT_ID, "Client login from IP: 10.0.0.1"));
+        boolean beforeFlush = blockchainService.verifyAuditLog(itemId);
+        ReflectionTestUtils.setField(blockchainService, "maxWaitMs", 0L);
+
+        // Act
+        blockchainService.flushAnchorBatches();
+
+        // Assert
+        assertThat(beforeFlush).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT leaf_data FROM blockchain_anchor_items WHERE id = ?",
+                String.class, itemId)).startsWith("AUDIT_LOG|CLIENT_LOGIN|42|Client login from IP: 10.0.0.1|");
+        assertThat(blockchainService.verifyAuditLog(itemId)).isTrue();
+
+        jdbcTemplate.update("UPDATE blockchain_anchor_items SET leaf_data = 'AUDIT_LOG|CLIENT_LOGIN|42|tampered' WHERE id = ?", itemId);
+        assertThat(blockchainService.verifyAuditLog(itemId)).isFalse();
+    }
+
+    @Test
+    void createAuditLog_QueuesItemOutsideCallersTransaction() {
+        // Arrange
+        TransactionTemplate callerTransaction = new TransactionTemplate(new DataSourceTransactionManager(database));
+
+        // Act
+        callerTransaction.executeWithoutResult(status -> {
+            blockchainService.createAuditLog("CLIENT_LOGOUT", CLIENT_ID, "Client logout");
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertThat(count("SELECT COUNT(*) FROM blockchain_anchor_items WHERE status = 'PENDING'")).isEqualTo(1);
+    }
+
+    @Test
+    void flush_FailedRootAnchorLeavesItemsQueued() {
+        // Arrange
+        blockchainService.createAuditLog("CLIENT_LOGIN", CLIENT_ID, "Client login from IP: 10.0.0.1");
+
+        // Act
+        Throwable error = catchThrowable(() -> anchorBatcher.flush(10, root -> {
+            throw new IllegalStateException("node unavailable");
+        }));
+
+        // Assert
+        assertThat(error).hasMessage("node unavailable");
+        assertThat(count("SELECT COUNT(*) FROM blockchain_anchor_items WHERE status = 'PENDING'")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM blockchain_anchor_batches")).isZero();
+        assertThat(anchorBatcher.isBatchDue(10, Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    void flush_SubmitsRootOutsideAnyTransaction() {
+        // Arrange
+        blockchainService.createAuditLog("CLIENT_LOGIN", CLIENT_ID, "Client login from IP: 10.0.0.1");
+        List<Object> duringSubmit = new ArrayList<>();
+
+        // Act
+        anchorBatcher.flush(10, root -> {
+            duringSubmit.add(TransactionSynchronizationManager.isActualTransactionActive());
+            duringSubmit.add(jdbcTemplate.queryForObject("SELECT status FROM blockchain_anchor_items", String.class));
+            return "0xabc";
+        });
+
+        // Assert
+        assertThat(duringSubmit).containsExactly(false, "ANCHORING");
+        assertThat(count("SELECT COUNT(*) FROM blockchain_anchor_items WHERE status = 'ANCHORED' " +
+                "AND claim_expires_at IS NULL")).isEqualTo(1);
+    }
+
+    @Test
+    void flush_ReclaimsItemsWhoseClaimExpired() {
+        // Arrange
+        blockchainService.createAuditLog("CLIENT_LOGIN", CLIENT_ID, "Client login from IP: 10.0.0.1");
+        blockchainService.createAuditLog("CLIENT_LOGIN", CLIENT_ID, "Client login from IP: 10.0.0.2");
+        jdbcTemplate.update("UPDATE blockchain_anchor_items SET status = 'ANCHORING', claim_expires_at = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+        jdbcTemplate.update("UPDATE blockchain_anchor_items SET claim_expires_at = ? " +
+                "WHERE leaf_data LIKE '%10.0.0.2%'", Timestamp.valueOf(LocalDateTime.now().plusMinutes(5)));
+
+        // Act
+        Optional<BlockchainAnchorBatcher.AnchoredBatch> batch = anchorBatcher.flush(10, root -> "0xabc");
+
+        // Assert
+        assertThat(anchorBatcher.isBatchDue(10, Duration.ZERO)).isFalse();
+        assertThat(batch).get().extracting(BlockchainAnchorBatcher.AnchoredBatch::getItemCount).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM blockchain_anchor_items WHERE status = 'ANCHORING'")).isEqualTo(1);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
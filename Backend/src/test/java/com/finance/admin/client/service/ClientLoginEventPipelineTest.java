@@ -0,0 +1,149 @@
+package com.finance.admin.client.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for ClientLoginEventPipeline against an in-memory database
+ */
+@ExtendWith(MockitoExtension.class)
+class ClientLoginEventPipelineTest {
+
+    private static final Long CLIENT_ID = 42L;
+
+    @Mock
+    private ClientSessionService sessionService;
+
+    @Mock
+    private BlockchainService blockchainService;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private ClientLoginEventPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:test-schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE client_login_history (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "client_id BIGINT, login_timestamp TIMESTAMP, ip_address VARCHAR(45), user_agent TEXT, " +
+                "login_successful BOOLEAN)");
+        pipeline = new ClientLoginEventPipeline(jdbcTemplate, new DataSourceTransactionManager(database),
+                sessionService, blockchainService);
+        ReflectionTestUtils.setField(pipeline, "retryBackoffMs", 0L);
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.shutdown();
+        database.shutdown();
+    }
+
+    @Test
+    void publish_RunsAllStepsAndRemovesEvent() throws InterruptedException {
+        // Act
+        pipeline.publish(CLIENT_ID, "CLIENT_LOGIN", "Client login from IP: 10.0.0.1",
+                "10.0.0.1", "JUnit", LocalDateTime.now());
+        pipeline.shutdown();
+
+        // Assert
+        assertThat(count("client_login_history")).isEqualTo(1);
+        assertThat(count("client_login_events")).isZero();
+        verify(sessionService).enforceSessionLimit(CLIENT_ID);
+        verify(blockchainService).createAuditLog("CLIENT_LOGIN", CLIENT_ID, "Client login from IP: 10.0.0.1");
+    }
+
+    @Test
+    void pollPending_RetriesFailedEventFromLastCompletedStep() throws InterruptedException {
+        // Arrange
+        when(blockchainService.createAuditLog(any(), any(), any()))
+                .thenThrow(new RuntimeException("node unavailable"))
+                .thenReturn("0xabc");
+        pipeline.publish(CLIENT_ID, "CLIENT_LOGIN", "Client login from IP: 10.0.0.1",
+                "10.0.0.1", "JUnit", LocalDateTime.now());
+        pipeline.shutdown();
+        Map<String, Object> pending = jdbcTemplate.queryForMap(
+                "SELECT completed_steps, attempts, claimed_by, last_error FROM client_login_events");
+
+        // Act
+        pipeline.start();
+        int claimed = pipeline.pollPending();
+        pipeline.shutdown();
+
+        // Assert
+        assertThat(pending.get("COMPLETED_STEPS")).isEqualTo(ClientLoginEventPipeline.STEP_SESSION_LIMIT);
+        assertThat(pending.get("ATTEMPTS")).isEqualTo(1);
+        assertThat(pending.get("CLAIMED_BY")).isNull();
+        assertThat(pending.get("LAST_ERROR")).isEqualTo("node unavailable");
+        assertThat(claimed).isEqualTo(1);
+        assertThat(count("client_login_history")).isEqualTo(1);
+        assertThat(count("client_login_events")).isZero();
+        verify(sessionService, times(1)).enforceSessionLimit(CLIENT_ID);
+        verify(blockchainService, times(2)).createAuditLog(any(), any(), any());
+    }
+
+    @Test
+    void process_MarksEventFailedAfterMaxAttempts() throws InterruptedException {
+        // Arrange
+        ReflectionTestUtils.setField(pipeline, "maxAttempts", 1);
+        doThrow(new RuntimeException("database busy")).when(sessionService).enforceSessionLimit(CLIENT_ID);
+
+        // Act
+        pipeline.publish(CLIENT_ID, "REMEMBER_ME_LOGIN", "Remember me login from IP: 10.0.0.1",
+                "10.0.0.1", "JUnit", LocalDateTime.now());
+        pipeline.shutdown();
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM client_login_events", String.class))
+                .isEqualTo("FAILED");
+        assertThat(pipeline.pollPending()).isZero();
+        verify(blockchainService, never()).createAuditLog(any(), any(), any());
+    }
+
+    @Test
+    void process_SkipsEventTakenOverByAnotherNode() throws InterruptedException {
+        // Arrange
+        pipeline.shutdown();
+        pipeline.publish(CLIENT_ID, "CLIENT_LOGIN", "Client login from IP: 10.0.0.1",
+                "10.0.0.1", "JUnit", LocalDateTime.now());
+        UUID id = jdbcTemplate.queryForObject("SELECT id FROM client_login_events", UUID.class);
+        jdbcTemplate.update("UPDATE client_login_events SET claimed_by = 'other-node' WHERE id = ?", id);
+
+        // Act
+        pipeline.process(new ClientLoginEventPipeline.LoginEvent(id, CLIENT_ID, "CLIENT_LOGIN",
+                "Client login from IP: 10.0.0.1", "10.0.0.1", "JUnit", LocalDateTime.now(), 0, 0));
+
+        // Assert
+        assertThat(count("client_login_history")).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT claimed_by FROM client_login_events", String.class))
+                .isEqualTo("other-node");
+        verifyNoInteractions(sessionService, blockchainService);
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.finance.admin.client.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LoginFailureCounter sliding windows
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginFailureCounterTest {
+
+    private static final Long CLIENT_ID = 42L;
+    private static final String IP_ADDRESS = "203.0.113.7";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    private LoginFailureCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new LoginFailureCounter(redisTemplate);
+    }
+
+    @Test
+    void recordFailure_CountsPerClientAndPerAddress() {
+        // Act
+        counter.recordFailure(CLIENT_ID, IP_ADDRESS);
+        counter.recordFailure(CLIENT_ID, IP_ADDRESS);
+        counter.recordFailure(7L, IP_ADDRESS);
+        counter.recordFailure(7L, null);
+
+        // Assert
+        assertThat(counter.clientFailures(CLIENT_ID)).isEqualTo(2);
+        assertThat(counter.clientFailures(7L)).isEqualTo(2);
+        assertThat(counter.ipFailures(IP_ADDRESS)).isEqualTo(3);
+        assertThat(counter.ipFailures(null)).isZero();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void reset_ClearsClientButNotAddress() {
+        // Arrange
+        counter.recordFailure(CLIENT_ID, IP_ADDRESS);
+
+        // Act
+        counter.reset(CLIENT_ID);
+
+        // Assert
+        assertThat(counter.clientFailures(CLIENT_ID)).isZero();
+        assertThat(counter.ipFailures(IP_ADDRESS)).isEqualTo(1);
+    }
+
+    @Test
+    void clientFailures_IgnoresFailuresOutsideWindowAndCapsTracking() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(counter, "maxTrackedPerKey", 3);
+        for (int i = 0; i < 5; i++) {
+            counter.recordFailure(CLIENT_ID, null);
+        }
+        int capped = counter.clientFailures(CLIENT_ID);
+
+        // Act
+        ReflectionTestUtils.setField(counter, "windowMinutes", 0);
+        Thread.sleep(5);
+        counter.purgeExpired();
+
+        // Assert
+        assertThat(capped).isEqualTo(3);
+        assertThat(counter.clientFailures(CLIENT_ID)).isZero();
+    }
+
+    @Test
+    void sharedMode_UsesRedisAndFallsBackLocallyWhenUnavailable() {
+        // Arrange
+        ReflectionTestUtils.setField(counter, "shared", true);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.count(eq("login_failures:client:42"), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .thenReturn(4L);
+
+        // Act
+        counter.recordFailure(CLIENT_ID, null);
+        int shared = counter.clientFailures(CLIENT_ID);
+        when(zSetOperations.add(anyString(), any(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(zSetOperations.count(eq("login_failures:client:43"), anyDouble(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        counter.recordFailure(43L, null);
+
+        // Assert
+        assertThat(shared).isEqualTo(4);
+        assertThat(counter.clientFailures(43L)).isEqualTo(1);
+        verify(zSetOperations, times(2)).add(anyString(), any(), anyDouble());
+    }
+}
@@ -0,0 +1,71 @@
+package com.finance.admin.client.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for MerkleTree roots and inclusion proofs
+ */
+class MerkleTreeTest {
+
+    @Test
+    void proof_EveryLeafVerifiesAgainstRootForOddAndEvenSizes() {
+        for (int size = 1; size <= 9; size++) {
+            // Arrange
+            List<String> leaves = leaves(size);
+
+            // Act
+            MerkleTree tree = new MerkleTree(leaves);
+
+            // Assert
+            for (int i = 0; i < size; i++) {
+                assertThat(MerkleTree.verify(leaves.get(i), tree.proof(i), tree.getRoot()))
+                        .as("leaf %d of %d", i, size)
+                        .isTrue();
+            }
+        }
+    }
+
+    @Test
+    void verify_RejectsOtherLeafTamperedProofAndOtherRoot() {
+        // Arrange
+        List<String> leaves = leaves(5);
+        MerkleTree tree = new MerkleTree(leaves);
+        String proof = tree.proof(2);
+        String otherRoot = new MerkleTree(leaves(4)).getRoot();
+
+        // Act & Assert
+        assertThat(MerkleTree.verify(leaves.get(3), proof, tree.getRoot())).isFalse();
+        assertThat(MerkleTree.verify(leaves.get(2), proof.replace("L:", "R:"), tree.getRoot())).isFalse();
+        assertThat(MerkleTree.verify(leaves.get(2), proof, otherRoot)).isFalse();
+        assertThat(MerkleTree.verify(leaves.get(2), "X:00", tree.getRoot())).isFalse();
+    }
+
+    @Test
+    void getRoot_SingleLeafIsItsOwnRootAndInnerNodesAreNotLeaves() {
+        // Arrange
+        String leaf = MerkleTree.leafHash("AUDIT_LOG|CLIENT_LOGIN|1");
+        MerkleTree pair = new MerkleTree(leaves(2));
+
+        // Act
+        MerkleTree single = new MerkleTree(List.of(leaf));
+
+        // Assert
+        assertThat(single.getRoot()).isEqualTo(leaf);
+        assertThat(single.proof(0)).isEmpty();
+        assertThat(pair.getRoot()).isNotEqualTo(MerkleTree.leafHash(leaves(2).get(0) + leaves(2).get(1)));
+        assertThatThrownBy(() -> new MerkleTree(List.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> leaves(int size) {
+        List<String> leaves = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            leaves.add(MerkleTree.leafHash("AUDIT_LOG|CLIENT_LOGIN|" + i));
+        }
+        return leaves;
+    }
+}
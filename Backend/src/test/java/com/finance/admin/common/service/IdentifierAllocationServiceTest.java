@@ -0,0 +1,117 @@
+package com.finance.admin.common.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for IdentifierAllocationService block reservation against an in-memory database
+ */
+class IdentifierAllocationServiceTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:test-schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void next_ReservesBlocksAndNumbersFromMemory() {
+        // Arrange
+        IdentifierAllocationService service = service(3);
+        AtomicInteger seedLookups = new AtomicInteger();
+
+        // Act
+        List<Long> numbers = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            numbers.add(service.next("ENQ20250115", () -> {
+                seedLookups.incrementAndGet();
+                return 0L;
+            }));
+        }
+
+        // Assert
+        assertThat(numbers).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(seedLookups).hasValue(1);
+        assertThat(nextValue("ENQ20250115")).isEqualTo(10L);
+    }
+
+    @Test
+    void next_NewSequenceStartsAfterHighestNumberInUse() {
+        // Arrange
+        IdentifierAllocationService service = service(50);
+
+        // Act
+        long first = service.next("SHR-202501-", () -> 41L);
+        long other = service.next("BND-202501-", () -> 0L);
+
+        // Assert
+        assertThat(first).isEqualTo(42L);
+        assertThat(other).isEqualTo(1L);
+    }
+
+    @Test
+    void next_NodesSharingSequenceNeverHandOutSameNumber() throws Exception {
+        // Arrange
+        IdentifierAllocationService nodeA = service(5);
+        IdentifierAllocationService nodeB = service(5);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            IdentifierAllocationService node = i % 2 == 0 ? nodeA : nodeB;
+            futures.add(executor.submit(() -> node.next("INV-202501-", () -> 0L)));
+        }
+        Set<Long> numbers = new HashSet<>();
+        for (Future<Long> future : futures) {
+            numbers.add(future.get());
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(numbers).hasSize(200);
+        assertThat(nextValue("INV-202501-")).isLessThanOrEqualTo(211L);
+    }
+
+    private IdentifierAllocationService service(int blockSize) {
+        IdentifierAllocationService service = new IdentifierAllocationService(jdbcTemplate,
+                new DataSourceTransactionManager(database));
+        ReflectionTestUtils.setField(service, "blockSize", blockSize);
+        return service;
+    }
+
+    private long nextValue(String sequenceKey) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_value FROM identifier_sequences WHERE sequence_key = ?", Long.class, sequenceKey);
+    }
+}
@@ -20,7 +20,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
     "com.finance.admin.certificate.model",
     "com.finance.admin.enquiry.model",
     "com.finance.admin.client.notification.model",
-    "com.finance.admin.audit.entity"
+    "com.finance.admin.audit.entity",
+    "com.finance.admin.dashboard.model"
 })
 @EnableJpaRepositories(basePackages = {
     "com.finance.admin.user.repository",
@@ -32,7 +33,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
     "com.finance.admin.certificate.repository",
     "com.finance.admin.enquiry.repository",
     "com.finance.admin.client.notification.repository",
-    "com.finance.admin.audit.repository"
+    "com.finance.admin.audit.repository",
+    "com.finance.admin.dashboard.repository"
 })
 public class TestJpaConfig {
     // Configuration for JPA tests
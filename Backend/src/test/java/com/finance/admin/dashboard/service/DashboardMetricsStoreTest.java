@@ -0,0 +1,125 @@
+package com.finance.admin.dashboard.service;
+
+import com.finance.admin.client.model.Client;
+import com.finance.admin.client.repository.ClientRepository;
+import com.finance.admin.enquiry.model.Enquiry;
+import com.finance.admin.enquiry.repository.EnquiryRepository;
+import com.finance.admin.investment.model.Investment;
+import com.finance.admin.investment.repository.InvestmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the incrementally maintained dashboard metrics
+ */
+@DisplayName("Dashboard Metrics Store Tests")
+class DashboardMetricsStoreTest {
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private InvestmentRepository investmentRepository;
+
+    @Mock
+    private EnquiryRepository enquiryRepository;
+
+    private DashboardMetricsStore store;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        store = new DashboardMetricsStore(clientRepository, investmentRepository, enquiryRepository);
+
+        List<Object[]> clientRows = new ArrayList<>();
+        clientRows.add(new Object[]{Client.ClientStatus.ACTIVE, 8L});
+        clientRows.add(new Object[]{Client.ClientStatus.PENDING, 2L});
+        when(clientRepository.getClientStatusStatistics()).thenReturn(clientRows);
+        when(clientRepository.countByCreatedAtAfter(any(LocalDateTime.class))).thenReturn(3L);
+
+        List<Object[]> investmentRows = new ArrayList<>();
+        investmentRows.add(new Object[]{Investment.InvestmentStatus.ACTIVE, 4L, new BigDecimal("4000.00")});
+        when(investmentRepository.getInvestmentStatusStatistics()).thenReturn(investmentRows);
+        List<Object[]> perClientRows = new ArrayList<>();
+        perClientRows.add(new Object[]{1L, 3L});
+        perClientRows.add(new Object[]{2L, 1L});
+        when(investmentRepository.countInvestmentsGroupedByClient()).thenReturn(perClientRows);
+
+        List<Object[]> enquiryRows = new ArrayList<>();
+        enquiryRows.add(new Object[]{Enquiry.EnquiryStatus.OPEN, 5L});
+        when(enquiryRepository.getEnquiryStatusStatistics()).thenReturn(enquiryRows);
+        when(enquiryRepository.getResolutionRatePercentage(any(LocalDateTime.class))).thenReturn(50.0);
+    }
+
+    @Test
+    @DisplayName("Should load counters from grouped queries once and serve reads from memory")
+    void testReadsAfterReconcile() {
+        assertEquals(10L, store.getTotalClients());
+        assertEquals(8L, store.getClientCount(Client.ClientStatus.ACTIVE));
+        assertEquals(3L, store.getNewClientsThisMonth());
+        assertEquals(4L, store.getTotalInvestments());
+        assertEquals(new BigDecimal("4000.00"), store.getTotalInvestmentValue());
+        assertEquals(2L, store.getInvestingClients());
+        assertEquals(5L, store.getEnquiryStats().get("totalEnquiries"));
+
+        verify(clientRepository, times(1)).getClientStatusStatistics();
+        verify(investmentRepository, times(1)).getInvestmentStatusStatistics();
+        verify(clientRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should apply write deltas to the loaded counters")
+    void testWriteDeltas() {
+        store.reconcile();
+
+        store.recordClientCreated(Client.ClientStatus.PENDING);
+        store.recordClientStatusChanged(Client.ClientStatus.ACTIVE, Client.ClientStatus.INACTIVE);
+        store.recordInvestmentCreated(3L, Investment.InvestmentStatus.PENDING, new BigDecimal("500"));
+        store.recordInvestmentUpdated(Investment.InvestmentStatus.ACTIVE, new BigDecimal("1000"),
+            Investment.InvestmentStatus.MATURED, new BigDecimal("1200"));
+        store.recordInvestmentDeleted(2L, Investment.InvestmentStatus.ACTIVE, new BigDecimal("1000"));
+        store.recordEnquiryStatusChanged(Enquiry.EnquiryStatus.OPEN, Enquiry.EnquiryStatus.RESOLVED);
+
+        assertEquals(11L, store.getTotalClients());
+        assertEquals(7L, store.getClientCount(Client.ClientStatus.ACTIVE));
+        assertEquals(1L, store.getClientCount(Client.ClientStatus.INACTIVE));
+        assertEquals(4L, store.getNewClientsThisMonth());
+        assertEquals(4L, store.getTotalInvestments());
+        assertEquals(2L, store.getInvestmentCount(Investment.InvestmentStatus.ACTIVE));
+        assertEquals(new BigDecimal("3700.00"), store.getTotalInvestmentValue());
+        assertEquals(2L, store.getInvestingClients());
+        assertEquals(4L, store.getEnquiryCount(Enquiry.EnquiryStatus.OPEN));
+        assertEquals(1L, store.getEnquiryCount(Enquiry.EnquiryStatus.RESOLVED));
+    }
+
+    @Test
+    @DisplayName("Should keep response and resolution time averages without querying on read")
+    void testEnquiryTimeAverages() {
+        LocalDateTime created = LocalDateTime.of(2025, 1, 10, 9, 0);
+        List<Object[]> totalRows = new ArrayList<>();
+        totalRows.add(new Object[]{1L, 120L, 1L, 600L});
+        when(enquiryRepository.getResponseAndResolutionMinuteTotals()).thenReturn(totalRows);
+        store.reconcile();
+
+        store.recordEnquiryDatesChanged(created, null, created.plusHours(4), null, null);
+        store.recordEnquiryDatesChanged(created, created.plusHours(2), null, created.plusHours(10), null);
+
+        assertEquals(4.0, store.getEnquiryStats().get("averageResponseTime"));
+        assertEquals(0.0, store.getEnquiryStats().get("averageResolutionTime"));
+        verify(enquiryRepository, never()).getAverageResponseTimeHours();
+        verify(enquiryRepository, never()).getAverageResolutionTimeHours();
+        verify(enquiryRepository, times(1)).getResponseAndResolutionMinuteTotals();
+    }
+}
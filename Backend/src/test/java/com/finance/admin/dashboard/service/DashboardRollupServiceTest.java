@@ -0,0 +1,115 @@
+package com.finance.admin.dashboard.service;
+
+import com.finance.admin.client.repository.ClientRepository;
+import com.finance.admin.dashboard.model.DashboardDailyRollup;
+import com.finance.admin.dashboard.repository.DashboardDailyRollupRepository;
+import com.finance.admin.enquiry.repository.EnquiryRepository;
+import com.finance.admin.investment.repository.InvestmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the daily dashboard rollup writer
+ */
+@DisplayName("Dashboard Rollup Service Tests")
+class DashboardRollupServiceTest {
+
+    private static final LocalDate LAST_DAY = LocalDate.of(2025, 6, 10);
+
+    @Mock
+    private DashboardDailyRollupRepository rollupRepository;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private InvestmentRepository investmentRepository;
+
+    @Mock
+    private EnquiryRepository enquiryRepository;
+
+    private DashboardRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        rollupService = new DashboardRollupService(rollupRepository, clientRepository, investmentRepository, enquiryRepository);
+
+        when(clientRepository.count()).thenReturn(12L);
+        when(clientRepository.countByCreatedAtAfter(any(LocalDateTime.class))).thenReturn(2L);
+        when(investmentRepository.count()).thenReturn(5L);
+        when(investmentRepository.countByCreatedAtAfter(any(LocalDateTime.class))).thenReturn(0L);
+        when(investmentRepository.sumInvestmentAmount()).thenReturn(Optional.of(new BigDecimal("5000.00")));
+        when(investmentRepository.sumInvestmentAmountCreatedAfter(any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(investmentRepository.countDistinctClients()).thenReturn(3L);
+        when(enquiryRepository.count()).thenReturn(0L);
+        when(enquiryRepository.countByCreatedAtAfter(any(LocalDateTime.class))).thenReturn(0L);
+        when(enquiryRepository.countEnquiriesCreatedPerDay(any(), any())).thenReturn(Collections.emptyList());
+        when(enquiryRepository.countEnquiriesResolvedPerDay(any(), any())).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("Should fill the days after the latest rollup and derive totals backwards")
+    void testCatchUpFromLatestRollup() {
+        DashboardDailyRollup latest = DashboardDailyRollup.builder().rollupDate(LAST_DAY.minusDays(3)).build();
+        when(rollupRepository.findTopByOrderByRollupDateDesc()).thenReturn(Optional.of(latest));
+
+        List<Object[]> clientRows = new ArrayList<>();
+        clientRows.add(new Object[]{LAST_DAY, 3L});
+        clientRows.add(new Object[]{LAST_DAY.minusDays(2), 1L});
+        when(clientRepository.countClientsCreatedPerDay(any(), any())).thenReturn(clientRows);
+
+        List<Object[]> investmentRows = new ArrayList<>();
+        investmentRows.add(new Object[]{LAST_DAY.minusDays(1), 2L, new BigDecimal("1500.00")});
+        when(investmentRepository.getInvestmentsCreatedPerDay(any(), any())).thenReturn(investmentRows);
+
+        int written = rollupService.rollUpThrough(LAST_DAY);
+
+        assertEquals(3, written);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DashboardDailyRollup>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rollupRepository).saveAll(captor.capture());
+        List<DashboardDailyRollup> rollups = captor.getValue();
+
+        DashboardDailyRollup lastDay = rollups.get(0);
+        assertEquals(LAST_DAY, lastDay.getRollupDate());
+        assertEquals(10L, lastDay.getTotalClients());
+        assertEquals(3L, lastDay.getNewClients());
+        assertEquals(new BigDecimal("5000.00"), lastDay.getTotalInvestedAmount());
+        assertEquals(3L, lastDay.getInvestingClients());
+
+        DashboardDailyRollup firstDay = rollups.get(2);
+        assertEquals(LAST_DAY.minusDays(2), firstDay.getRollupDate());
+        assertEquals(7L, firstDay.getTotalClients());
+        assertEquals(3L, firstDay.getTotalInvestments());
+        assertEquals(new BigDecimal("3500.00"), firstDay.getTotalInvestedAmount());
+        assertNull(firstDay.getActiveClients());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when rollups are already up to date")
+    void testAlreadyUpToDate() {
+        DashboardDailyRollup latest = DashboardDailyRollup.builder().rollupDate(LAST_DAY).build();
+        when(rollupRepository.findTopByOrderByRollupDateDesc()).thenReturn(Optional.of(latest));
+
+        assertEquals(0, rollupService.rollUpThrough(LAST_DAY));
+        verify(rollupRepository, never()).saveAll(any());
+        verify(clientRepository, never()).countClientsCreatedPerDay(any(), any());
+    }
+}
@@ -0,0 +1,133 @@
+package com.finance.admin.user.service;
+
+import com.finance.admin.notification.service.NotificationService;
+import com.finance.admin.user.dto.UserCreateRequest;
+import com.finance.admin.user.entity.User;
+import com.finance.admin.user.mapper.UserMapper;
+import com.finance.admin.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserBulkImporter bulk user creation
+ */
+@ExtendWith(MockitoExtension.class)
+class UserBulkImporterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private AuditorAware<String> auditorAware;
+
+    private UserBulkImporter userBulkImporter;
+
+    @BeforeEach
+    void setUp() {
+        userBulkImporter = new UserBulkImporter(userRepository, new UserMapper(), passwordEncoder,
+                notificationService, jdbcTemplate, transactionManager, auditorAware);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of("admin"));
+        lenient().when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importUsers_ReportsDuplicatesAndInsertsTheRestInOneBatch() {
+        // Arrange
+        List<Object[]> existing = new ArrayList<>();
+        existing.add(new Object[]{"taken", "taken@example.com"});
+        when(userRepository.findExistingUsernamesAndEmails(anyCollection(), anyCollection())).thenReturn(existing);
+
+        List<UserCreateRequest> requests = List.of(
+                request("alice", "alice@example.com"),
+                request("taken", "new@example.com"),
+                request("bob", "alice@example.com"),
+                request("carol", "carol@example.com"));
+
+        // Act
+        Map<String, Object> result = userBulkImporter.importUsers(requests);
+
+        // Assert
+        assertThat(result.get("successCount")).isEqualTo(2);
+        assertThat(result.get("failureCount")).isEqualTo(2);
+        List<Map<String, Object>> failed = (List<Map<String, Object>>) result.get("failed");
+        assertThat(failed).extracting(error -> error.get("index")).containsExactly(1, 2);
+        assertThat(failed.get(0).get("error")).isEqualTo("Username already exists: taken");
+        assertThat(failed.get(1).get("error")).isEqualTo("Email already exists: alice@example.com");
+
+        verify(userRepository, times(1)).findExistingUsernamesAndEmails(anyCollection(), anyCollection());
+        verify(userRepository, never()).save(any());
+        verify(jdbcTemplate).batchUpdate(anyString(),
+                argThat((Collection<User> rows) -> rows.size() == 2
+                        && rows.stream().allMatch(user -> user.getPassword().startsWith("hashed-"))),
+                eq(2), any(ParameterizedPreparedStatementSetter.class));
+        verify(notificationService).sendWelcomeEmails(argThat(users -> users.size() == 2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importUsers_WhenBatchFails_RetriesRowsIndividually() {
+        // Arrange
+        when(userRepository.findExistingUsernamesAndEmails(anyCollection(), anyCollection())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DuplicateKeyException("duplicate key"))
+                .thenReturn(new int[][]{{1}})
+                .thenThrow(new DuplicateKeyException("duplicate key"));
+
+        UserCreateRequest first = request("alice", "alice@example.com");
+        UserCreateRequest second = request("bob", "bob@example.com");
+        second.setSendWelcomeEmail(false);
+
+        // Act
+        Map<String, Object> result = userBulkImporter.importUsers(List.of(first, second));
+
+        // Assert
+        assertThat(result.get("successCount")).isEqualTo(1);
+        List<Map<String, Object>> failed = (List<Map<String, Object>>) result.get("failed");
+        assertThat(failed).hasSize(1);
+        assertThat(failed.get(0).get("index")).isEqualTo(1);
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(notificationService).sendWelcomeEmails(argThat(users -> users.size() == 1));
+    }
+
+    private UserCreateRequest request(String username, String email) {
+        UserCreateRequest request = new UserCreateRequest();
+        request.setUsername(username);
+        request.setEmail(email);
+        request.setPassword("Password1!");
+        return request;
+    }
+}
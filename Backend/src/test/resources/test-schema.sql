@@ -1,5 +1,10 @@
 -- Test Database Schema
 -- Drop all tables first to ensure clean state
+DROP TABLE IF EXISTS client_login_events CASCADE;
+DROP TABLE IF EXISTS blockchain_anchor_items CASCADE;
+DROP TABLE IF EXISTS blockchain_anchor_batches CASCADE;
+DROP TABLE IF EXISTS identifier_sequences CASCADE;
+DROP TABLE IF EXISTS dashboard_daily_rollups CASCADE;
 DROP TABLE IF EXISTS client_digital_certificates CASCADE;
 DROP TABLE IF EXISTS client_wallet_integrations CASCADE;
 DROP TABLE IF EXISTS certificates CASCADE;
@@ -448,4 +453,73 @@ CREATE INDEX idx_client_wallet_integrations_active ON client_wallet_integrations
 CREATE INDEX idx_client_digital_certificates_client_id ON client_digital_certificates(client_id);
 CREATE INDEX idx_client_digital_certificates_certificate_number ON client_digital_certificates(certificate_number);
 CREATE INDEX idx_client_digital_certificates_company_name ON client_digital_certificates(company_name);
-CREATE INDEX idx_client_digital_certificates_is_valid ON client_digital_certificates(is_valid); 
\ No newline at end of file
+CREATE INDEX idx_client_digital_certificates_is_valid ON client_digital_certificates(is_valid); 
+
+-- Create dashboard_daily_rollups table
+CREATE TABLE dashboard_daily_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    rollup_date DATE NOT NULL UNIQUE,
+    total_clients BIGINT NOT NULL,
+    new_clients BIGINT NOT NULL,
+    active_clients BIGINT,
+    total_investments BIGINT NOT NULL,
+    new_investments BIGINT NOT NULL,
+    active_investments BIGINT,
+    total_invested_amount DECIMAL(19,2) NOT NULL,
+    new_invested_amount DECIMAL(19,2) NOT NULL,
+    investing_clients BIGINT,
+    total_enquiries BIGINT NOT NULL,
+    new_enquiries BIGINT NOT NULL,
+    resolved_enquiries BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create identifier_sequences table
+CREATE TABLE identifier_sequences (
+    sequence_key VARCHAR(100) PRIMARY KEY,
+    next_value BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create client_login_events table
+CREATE TABLE client_login_events (
+    id UUID PRIMARY KEY,
+    client_id BIGINT NOT NULL,
+    operation VARCHAR(50) NOT NULL,
+    audit_message TEXT,
+    ip_address VARCHAR(45),
+    user_agent TEXT,
+    login_at TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    completed_steps INTEGER NOT NULL DEFAULT 0,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    claimed_by VARCHAR(100),
+    claim_expires_at TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create blockchain anchor tables
+CREATE TABLE blockchain_anchor_batches (
+    id UUID PRIMARY KEY,
+    merkle_root VARCHAR(64) NOT NULL,
+    transaction_hash VARCHAR(66) NOT NULL,
+    item_count INTEGER NOT NULL,
+    anchored_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE blockchain_anchor_items (
+    id UUID PRIMARY KEY,
+    item_type VARCHAR(30) NOT NULL,
+    operation VARCHAR(100),
+    client_id BIGINT,
+    leaf_data TEXT NOT NULL,
+    leaf_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    batch_id UUID REFERENCES blockchain_anchor_batches(id),
+    leaf_index INTEGER,
+    inclusion_proof TEXT,
+    claim_expires_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);